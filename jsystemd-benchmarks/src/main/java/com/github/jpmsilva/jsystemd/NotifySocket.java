@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Local stand-in for the systemd notify socket: a {@link SystemdNotifyReceiver} bound at the path of the {@code NOTIFY_SOCKET} environment variable, that
+ * only counts notifications so that it does not allocate while the benchmarks are measured.
+ *
+ * <p>The environment variable is read once at startup by both the JVM and libsystemd, so it must be set before launching the benchmarks, for instance
+ * {@code NOTIFY_SOCKET=/tmp/jsystemd-benchmarks.sock java -jar target/benchmarks.jar}.
+ *
+ * @author Joao Silva
+ */
+@State(Scope.Benchmark)
+public class NotifySocket {
+
+  private SystemdNotifyReceiver receiver;
+
+  /**
+   * Binds the socket and starts draining it.
+   *
+   * @throws IOException if the socket cannot be bound
+   */
+  @Setup(Level.Trial)
+  public void bind() throws IOException {
+    receiver = SystemdNotifyReceiver.builder().fromEnvironment().capacity(0).build();
+    if (!SystemdNotify.usable()) {
+      throw new IllegalStateException("libsystemd could not be loaded, notify benchmarks would measure nothing");
+    }
+  }
+
+  /**
+   * Closes the socket, and checks that notifications were actually received.
+   */
+  @TearDown(Level.Trial)
+  public void close() {
+    receiver.close();
+    if (receiver.getReceived() == 0) {
+      throw new IllegalStateException("No notification was received on " + receiver.getSocket());
+    }
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Measures what the Spring Boot starter adds to the startup of the sample application, by starting it repeatedly in fresh JVMs, with and without the starter
+ * on the classpath, and with a growing number of synthetic beans.
+ *
+ * <p>Every start reports the time to ready (JVM uptime when {@code ApplicationReadyEvent} is published), the number of classes loaded, and the bytes allocated
+ * by the main thread. The application is pointed at a {@link SystemdNotifyReceiver}, so that the starter does all of its work, including sending
+ * notifications. The median of the runs of each configuration is reported.
+ *
+ * <p>The overhead of the starter is then compared against a committed baseline, as {@link SystemdBenchmarks} does. Each number of beans contributes two
+ * values to the baseline: the relative increase in time to ready ({@code time}), and the bytes the starter adds to the allocation ({@code alloc}). The
+ * starter has a fixed cost, its auto-configuration, which is large relative to small contexts, so the run fails when the overhead grows beyond its baseline,
+ * rather than beyond an absolute limit.
+ *
+ * <p>Run from the module directory, after building it, with {@code java -cp target/benchmarks.jar com.github.jpmsilva.jsystemd.StartupBenchmark}. The
+ * following system properties control the benchmark:
+ * <ul>
+ *   <li>{@code startup.beans}: the comma separated numbers of synthetic beans, defaults to {@code 100,1000,10000}</li>
+ *   <li>{@code startup.runs}: the number of measured starts of each configuration, defaults to 5, after one discarded warm-up start</li>
+ *   <li>{@code startup.jvmArgs}: space separated arguments for the started JVMs</li>
+ *   <li>{@code startup.baseline}: the baseline file, defaults to {@code startup-baseline.properties}</li>
+ *   <li>{@code startup.baseline.update}: when {@code true}, rewrites the baseline with the current results instead of comparing</li>
+ *   <li>{@code startup.time.threshold}: the allowed increase in time overhead over the baseline, in fractions of the time to ready without the starter,
+ *   defaults to 0.10</li>
+ *   <li>{@code startup.alloc.threshold}: the allowed relative increase in allocation overhead over the baseline, defaults to 0.10</li>
+ * </ul>
+ *
+ * @author Joao Silva
+ * @see StartupProbe
+ */
+public final class StartupBenchmark {
+
+  private static final Pattern RESULT = Pattern.compile(Pattern.quote(StartupProbe.MARKER) + " ready=(\\d+) classes=(\\d+) allocated=(\\d+)");
+  private static final List<String> STARTER = List.of("jsystemd-spring-boot-starter", "jsystemd-core", File.separator + "jna" + File.separator);
+  // allocation is sampled per thread, so a few kilobytes are noise rather than regressions
+  private static final double ALLOCATION_SLACK = 64 * 1024;
+
+  private StartupBenchmark() {
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args ignored
+   * @throws IOException if the classpath or the baseline cannot be read, the baseline cannot be written, or the applications cannot be started
+   * @throws InterruptedException if interrupted while waiting for an application
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    List<String> classpath = new ArrayList<>();
+    classpath.add(System.getProperty("startup.classes", "target/classes"));
+    classpath.addAll(Arrays.asList(Files.readString(Path.of(System.getProperty("startup.classpath", "target/startup.classpath"))).trim()
+        .split(File.pathSeparator)));
+    List<String> withoutStarter = classpath.stream().filter(entry -> STARTER.stream().noneMatch(entry::contains)).collect(Collectors.toList());
+    int runs = Integer.getInteger("startup.runs", 5);
+
+    Map<String, Double> current = new TreeMap<>();
+    System.out.printf("%8s %-9s %10s %8s %12s%n", "beans", "variant", "ready (ms)", "classes", "allocated");
+    for (String beans : System.getProperty("startup.beans", "100,1000,10000").split(",")) {
+      Sample without = measure(withoutStarter, beans.trim(), runs, false);
+      Sample with = measure(classpath, beans.trim(), runs, true);
+      print(beans, "baseline", without);
+      print(beans, "starter", with);
+      double time = (double) (with.ready - without.ready) / without.ready;
+      double alloc = (double) (with.allocated - without.allocated) / without.allocated;
+      System.out.printf("%8s %-9s %+9.1f%% %+8d %+11.1f%%%n", beans, "overhead", time * 100, with.classes - without.classes, alloc * 100);
+      current.put(beans.trim() + ".time", time);
+      current.put(beans.trim() + ".alloc", (double) (with.allocated - without.allocated));
+    }
+
+    Path baseline = Path.of(System.getProperty("startup.baseline", "startup-baseline.properties"));
+    if (Boolean.getBoolean("startup.baseline.update")) {
+      update(baseline, current);
+      System.out.println("Baseline updated: " + baseline.toAbsolutePath());
+      return;
+    }
+    if (!Files.exists(baseline)) {
+      System.out.println("No baseline to compare to: " + baseline.toAbsolutePath());
+      return;
+    }
+    List<String> regressions = compare(load(baseline), current, Double.parseDouble(System.getProperty("startup.time.threshold", "0.10")),
+        Double.parseDouble(System.getProperty("startup.alloc.threshold", "0.10")));
+    if (!regressions.isEmpty()) {
+      System.out.println("Startup overhead regressions against " + baseline.toAbsolutePath() + ":");
+      regressions.forEach(regression -> System.out.println("  " + regression));
+      System.exit(1);
+    }
+    System.out.println("No startup overhead regressions against " + baseline.toAbsolutePath());
+  }
+
+  private static List<String> compare(Map<String, Double> baseline, Map<String, Double> current, double timeThreshold, double allocThreshold) {
+    List<String> regressions = new ArrayList<>();
+    for (Map.Entry<String, Double> entry : current.entrySet()) {
+      Double reference = baseline.get(entry.getKey());
+      if (reference == null) {
+        System.out.println("No baseline for " + entry.getKey());
+        continue;
+      }
+      if (entry.getKey().endsWith(".alloc")) {
+        double limit = Math.max(reference, 0) * (1 + allocThreshold) + ALLOCATION_SLACK;
+        if (entry.getValue() > limit) {
+          regressions.add(String.format("%s: %s, baseline %s (limit %s)", entry.getKey(), SystemdUtilities.formatByteCount(entry.getValue().longValue()),
+              SystemdUtilities.formatByteCount(reference.longValue()), SystemdUtilities.formatByteCount((long) limit)));
+        }
+      } else {
+        double limit = Math.max(reference, 0) + timeThreshold;
+        if (entry.getValue() > limit) {
+          regressions.add(String.format("%s: %+.1f%%, baseline %+.1f%% (limit %+.1f%%)", entry.getKey(), entry.getValue() * 100, reference * 100,
+              limit * 100));
+        }
+      }
+    }
+    return regressions;
+  }
+
+  private static Map<String, Double> load(Path path) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(path)) {
+      properties.load(in);
+    }
+    Map<String, Double> baseline = new TreeMap<>();
+    for (String name : properties.stringPropertyNames()) {
+      baseline.put(name, Double.parseDouble(properties.getProperty(name)));
+    }
+    return baseline;
+  }
+
+  private static void update(Path path, Map<String, Double> current) throws IOException {
+    // keep the entries of the numbers of beans that were not run this time
+    Map<String, Double> baseline = Files.exists(path) ? load(path) : new TreeMap<>();
+    baseline.putAll(current);
+    try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1)) {
+      writer.write("# Startup overhead baseline, time as a fraction of the time to ready without the starter and allocation in bytes. Refresh with "
+          + "-Dstartup.baseline.update=true" + System.lineSeparator());
+      writer.write("# Recorded with " + System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version") + System.lineSeparator());
+      for (Map.Entry<String, Double> entry : baseline.entrySet()) {
+        writer.write(String.format(Locale.ROOT, entry.getKey().endsWith(".alloc") ? "%s=%.0f%n" : "%s=%.3f%n", entry.getKey(), entry.getValue()));
+      }
+    }
+  }
+
+  private static void print(String beans, String variant, Sample sample) {
+    System.out.printf("%8s %-9s %10d %8d %12s%n", beans, variant, sample.ready, sample.classes, SystemdUtilities.formatByteCount(sample.allocated));
+  }
+
+  private static Sample measure(List<String> classpath, String beans, int runs, boolean starter) throws IOException, InterruptedException {
+    List<Sample> samples = new ArrayList<>();
+    // the first start warms up the file system caches, and is discarded
+    for (int run = 0; run <= runs; run++) {
+      Sample sample = start(classpath, beans, starter);
+      if (run > 0) {
+        samples.add(sample);
+      }
+    }
+    return Sample.median(samples);
+  }
+
+  private static Sample start(List<String> classpath, String beans, boolean starter) throws IOException, InterruptedException {
+    try (SystemdNotifyReceiver receiver = SystemdNotifyReceiver.builder().watchdog(Duration.ofSeconds(30)).build()) {
+      List<String> command = new ArrayList<>();
+      command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+      String jvmArgs = System.getProperty("startup.jvmArgs", "").trim();
+      if (!jvmArgs.isEmpty()) {
+        command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+      }
+      command.addAll(List.of("-cp", String.join(File.pathSeparator, classpath), StartupProbe.class.getName(), beans));
+      ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+      builder.environment().putAll(receiver.environment());
+      Process process = builder.start();
+
+      Sample sample = null;
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          Matcher matcher = RESULT.matcher(line);
+          if (matcher.find()) {
+            sample = new Sample(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), Long.parseLong(matcher.group(3)));
+          }
+        }
+      }
+      if (process.waitFor() != 0 || sample == null) {
+        throw new IllegalStateException("Application failed to start: " + command);
+      }
+      if (starter) {
+        // make sure the starter was actually active
+        receiver.awaitMessage("READY=1", Duration.ofSeconds(5));
+      }
+      return sample;
+    }
+  }
+
+  private static final class Sample {
+
+    private final long ready;
+    private final long classes;
+    private final long allocated;
+
+    private Sample(long ready, long classes, long allocated) {
+      this.ready = ready;
+      this.classes = classes;
+      this.allocated = allocated;
+    }
+
+    private static Sample median(List<Sample> samples) {
+      return new Sample(median(samples, sample -> sample.ready), median(samples, sample -> sample.classes), median(samples, sample -> sample.allocated));
+    }
+
+    private static long median(List<Sample> samples, ToLongFunction<Sample> field) {
+      long[] values = samples.stream().mapToLong(field).sorted().toArray();
+      return values[values.length / 2];
+    }
+  }
+}
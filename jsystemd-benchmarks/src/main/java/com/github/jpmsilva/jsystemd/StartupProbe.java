@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Starts the sample application with a number of synthetic beans, and reports the cost of its startup on the standard output. Run by
+ * {@link StartupBenchmark} in a fresh JVM for every measurement.
+ *
+ * <p>Allocation is measured on the main thread only, where Spring Boot does almost all of its startup work.
+ *
+ * @author Joao Silva
+ */
+public final class StartupProbe {
+
+  static final String MARKER = "jsystemd-startup:";
+
+  private StartupProbe() {
+  }
+
+  /**
+   * Starts the sample application, reports the cost of its startup, and stops it.
+   *
+   * @param args the number of synthetic beans to register
+   */
+  public static void main(String[] args) {
+    int beans = Integer.parseInt(args[0]);
+    SpringApplication application = new SpringApplication(SampleApplication.class);
+    application.setDefaultProperties(Map.of("server.port", "0", "spring.main.banner-mode", "off"));
+    application.addInitializers(context -> {
+      BeanDefinitionRegistry registry = (BeanDefinitionRegistry) context.getBeanFactory();
+      for (int i = 0; i < beans; i++) {
+        registry.registerBeanDefinition("syntheticBean" + i, new RootBeanDefinition(SyntheticBean.class));
+      }
+    });
+    application.addListeners((ApplicationListener<ApplicationReadyEvent>) event -> System.out.printf("%s ready=%d classes=%d allocated=%d%n", MARKER,
+        ManagementFactory.getRuntimeMXBean().getUptime(), ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(),
+        ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes()));
+    // the systemd integration keeps non-daemon threads, so exit explicitly
+    System.exit(SpringApplication.exit(application.run(args)));
+  }
+
+  /**
+   * Bean without dependencies, registered in bulk to grow the application context.
+   */
+  public static class SyntheticBean {
+
+    /**
+     * Creates a new SyntheticBean.
+     */
+    public SyntheticBean() {
+    }
+  }
+}
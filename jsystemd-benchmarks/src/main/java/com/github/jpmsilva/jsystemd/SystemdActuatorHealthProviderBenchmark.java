@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+
+/**
+ * Measures the overhead that {@link SystemdActuatorHealthProvider} adds on top of the health indicators it aggregates, which is paid on every watchdog
+ * heartbeat. The indicators return prebuilt results, so that only the aggregation is measured.
+ *
+ * @author Joao Silva
+ * @see SystemdActuatorHealthProvider#health()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SystemdActuatorHealthProviderBenchmark {
+
+  @Param({"1", "10"})
+  private int indicators;
+
+  @Param({"true", "false"})
+  private boolean healthy;
+
+  private SystemdActuatorHealthProvider provider;
+
+  /**
+   * Creates the health provider, with one unhealthy indicator unless all are meant to be healthy.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<HealthIndicator> healthIndicators = new ArrayList<>(indicators);
+    for (int i = 0; i < indicators; i++) {
+      boolean up = healthy || i > 0;
+      org.springframework.boot.health.contributor.Health health = (up
+          ? org.springframework.boot.health.contributor.Health.up()
+          : org.springframework.boot.health.contributor.Health.down()).withDetail("indicator" + i, "details").build();
+      healthIndicators.add(() -> health);
+    }
+    provider = new SystemdActuatorHealthProvider(healthIndicators, Set.of(Status.DOWN, Status.OUT_OF_SERVICE));
+  }
+
+  /**
+   * Evaluates the health of the application.
+   *
+   * @return the health of the application
+   */
+  @Benchmark
+  public Health health() {
+    return provider.health();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a periodic status update with the default status providers of the core module, from building the status line to sending it.
+ *
+ * @author Joao Silva
+ * @see Systemd#updateStatus()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SystemdBenchmark {
+
+  private Systemd systemd;
+
+  /**
+   * Creates the Systemd instance, once the notify socket is bound.
+   *
+   * @param socket the local notify socket
+   */
+  @Setup(Level.Trial)
+  public void setUp(NotifySocket socket) {
+    systemd = Systemd.builder().build();
+    systemd.addStatusProviders(new SystemdHeapStatusProvider(), new SystemdNonHeapStatusProvider(), new SystemdClassLoaderStatusProvider());
+  }
+
+  /**
+   * Closes the Systemd instance.
+   *
+   * @throws Exception if the instance cannot be closed
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    systemd.close();
+  }
+
+  /**
+   * Builds the status line and sends it.
+   */
+  @Benchmark
+  public void updateStatus() {
+    systemd.updateStatus();
+  }
+}
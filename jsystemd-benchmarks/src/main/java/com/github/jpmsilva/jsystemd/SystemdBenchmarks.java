@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the jsystemd benchmarks with the GC profiler, and compares the results against a committed baseline.
+ *
+ * <p>Accepts the usual JMH command line options, such as a regular expression selecting the benchmarks to run. Results are also written to
+ * {@code jmh-result.json}. Each benchmark contributes two values to the baseline: the average time per call ({@code time}, in nanoseconds) and the
+ * normalized allocation rate ({@code alloc}, in bytes per call). The run fails when any value exceeds its baseline by more than the allowed threshold.
+ *
+ * <p>The following system properties control the comparison:
+ * <ul>
+ *   <li>{@code baseline}: the baseline file, defaults to {@code baseline.properties}</li>
+ *   <li>{@code baseline.update}: when {@code true}, rewrites the baseline with the current results instead of comparing</li>
+ *   <li>{@code baseline.time.threshold}: the allowed relative increase in time, defaults to 0.25</li>
+ *   <li>{@code baseline.alloc.threshold}: the allowed relative increase in allocation, defaults to 0.10</li>
+ * </ul>
+ *
+ * <p>Time depends on the hardware the benchmarks run on, so the time baseline is only meaningful when refreshed on the machine used for comparisons.
+ * Allocation is mostly hardware independent, and is the more reliable signal.
+ *
+ * @author Joao Silva
+ */
+public final class SystemdBenchmarks {
+
+  private static final String ALLOCATION = "gc.alloc.rate.norm";
+  // allocation is sampled, so tiny amounts are noise rather than regressions
+  private static final double ALLOCATION_SLACK = 16;
+
+  private SystemdBenchmarks() {
+  }
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args JMH command line options
+   * @throws CommandLineOptionException if the command line options cannot be parsed
+   * @throws RunnerException if the benchmarks fail to run
+   * @throws IOException if the baseline cannot be read or written
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+    Options options = new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result("jmh-result.json")
+        .build();
+    Map<String, Double> current = scores(new Runner(options).run());
+
+    Path baseline = Path.of(System.getProperty("baseline", "baseline.properties"));
+    if (Boolean.getBoolean("baseline.update")) {
+      update(baseline, current);
+      System.out.println("Baseline updated: " + baseline.toAbsolutePath());
+      return;
+    }
+    if (!Files.exists(baseline)) {
+      System.out.println("No baseline to compare to: " + baseline.toAbsolutePath());
+      return;
+    }
+    List<String> regressions = compare(load(baseline), current, Double.parseDouble(System.getProperty("baseline.time.threshold", "0.25")),
+        Double.parseDouble(System.getProperty("baseline.alloc.threshold", "0.10")));
+    if (!regressions.isEmpty()) {
+      System.out.println("Regressions against " + baseline.toAbsolutePath() + ":");
+      regressions.forEach(regression -> System.out.println("  " + regression));
+      System.exit(1);
+    }
+    System.out.println("No regressions against " + baseline.toAbsolutePath());
+  }
+
+  private static Map<String, Double> scores(Collection<RunResult> results) {
+    Map<String, Double> scores = new TreeMap<>();
+    for (RunResult result : results) {
+      String key = key(result.getParams());
+      scores.put(key + ".time", result.getPrimaryResult().getScore());
+      for (Map.Entry<String, Result> secondary : result.getSecondaryResults().entrySet()) {
+        // older JMH versions prefix the profiler results with a middle dot
+        if (secondary.getKey().replace("·", "").equals(ALLOCATION)) {
+          scores.put(key + ".alloc", secondary.getValue().getScore());
+        }
+      }
+    }
+    return scores;
+  }
+
+  private static String key(BenchmarkParams params) {
+    String benchmark = params.getBenchmark();
+    StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+    for (String param : params.getParamsKeys()) {
+      key.append('.').append(param).append('_').append(params.getParam(param));
+    }
+    return key.toString();
+  }
+
+  private static List<String> compare(Map<String, Double> baseline, Map<String, Double> current, double timeThreshold, double allocThreshold) {
+    List<String> regressions = new ArrayList<>();
+    for (Map.Entry<String, Double> entry : current.entrySet()) {
+      Double reference = baseline.get(entry.getKey());
+      if (reference == null) {
+        System.out.println("No baseline for " + entry.getKey());
+        continue;
+      }
+      boolean allocation = entry.getKey().endsWith(".alloc");
+      double limit = allocation ? reference * (1 + allocThreshold) + ALLOCATION_SLACK : reference * (1 + timeThreshold);
+      if (entry.getValue() > limit) {
+        regressions.add(String.format("%s: %.1f, baseline %.1f (limit %.1f)", entry.getKey(), entry.getValue(), reference, limit));
+      }
+    }
+    return regressions;
+  }
+
+  private static Map<String, Double> load(Path path) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(path)) {
+      properties.load(in);
+    }
+    Map<String, Double> baseline = new TreeMap<>();
+    for (String name : properties.stringPropertyNames()) {
+      baseline.put(name, Double.parseDouble(properties.getProperty(name)));
+    }
+    return baseline;
+  }
+
+  private static void update(Path path, Map<String, Double> current) throws IOException {
+    // keep the entries of benchmarks that were not run this time
+    Map<String, Double> baseline = Files.exists(path) ? load(path) : new TreeMap<>();
+    baseline.putAll(current);
+    try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1)) {
+      writer.write("# Benchmark baseline, time in ns/op and allocation in B/op. Refresh with -Dbaseline.update=true" + System.lineSeparator());
+      writer.write("# Recorded with " + System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version") + System.lineSeparator());
+      for (Map.Entry<String, Double> entry : baseline.entrySet()) {
+        writer.write(String.format(Locale.ROOT, "%s=%.1f%n", entry.getKey(), entry.getValue()));
+      }
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of sending notifications to systemd through libsystemd, which opens, sends on, and closes a datagram socket on every call.
+ *
+ * @author Joao Silva
+ * @see NotifySocket
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SystemdNotifyBenchmark {
+
+  /**
+   * Sends a status message similar in size to the ones built by the default status providers.
+   *
+   * @param socket the local notify socket
+   */
+  @Benchmark
+  public void status(NotifySocket socket) {
+    SystemdNotify.status("Heap: 123.4 MiB/1.0 GiB, Non-heap: 56.7 MiB/0.0 B, Classes: 12345 loaded, 0 unloaded, 12345 total");
+  }
+
+  /**
+   * Sends a watchdog heartbeat, the smallest message sent periodically.
+   *
+   * @param socket the local notify socket
+   */
+  @Benchmark
+  public void watchdog(NotifySocket socket) {
+    SystemdNotify.watchdog();
+  }
+}
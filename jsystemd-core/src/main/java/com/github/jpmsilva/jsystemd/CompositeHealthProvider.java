@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Implementation of {@link HealthProvider} that combines the health of several delegates.
+ *
+ * <p>The application is healthy only if every delegate reports a healthy state. The details of all delegates are merged, so decorators such as
+ * {@code PendingHealthProvider} can be applied either to individual delegates or to the composite as a whole.
+ *
+ * @author Joao Silva
+ * @see Systemd#addHealthProvider(HealthProvider)
+ */
+public class CompositeHealthProvider implements HealthProvider {
+
+  @NonNull
+  private final List<HealthProvider> delegates = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a new health provider that combines the health of the delegates.
+   *
+   * @param delegates the health providers to combine
+   */
+  public CompositeHealthProvider(@NonNull HealthProvider... delegates) {
+    addDelegates(delegates);
+  }
+
+  /**
+   * Adds the health providers to the end of the list of delegates.
+   *
+   * @param delegates the health providers to add
+   */
+  public void addDelegates(@NonNull HealthProvider... delegates) {
+    for (HealthProvider delegate : delegates) {
+      this.delegates.add(requireNonNull(delegate, "Delegate must not be null"));
+    }
+  }
+
+  /**
+   * Returns a read only view of the current delegates.
+   *
+   * @return the current list of delegates
+   */
+  public @NonNull List<HealthProvider> getDelegates() {
+    return Collections.unmodifiableList(delegates);
+  }
+
+  @Override
+  public Health health() {
+    boolean healthy = true;
+    Map<String, Object> details = new HashMap<>();
+    for (HealthProvider delegate : delegates) {
+      Health health = delegate.health();
+      healthy &= health.healthy;
+      details.putAll(health.details);
+    }
+    return new Health(healthy, details);
+  }
+
+  @Override
+  public String toString() {
+    return "CompositeHealthProvider{delegates=" + Arrays.toString(delegates.toArray()) + '}';
+  }
+}
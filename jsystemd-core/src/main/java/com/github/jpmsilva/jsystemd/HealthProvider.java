@@ -40,6 +40,12 @@ public interface HealthProvider {
    */
   class Health {
 
+    /**
+     * Key of the health detail that decorators delaying an unhealthy state set while reporting a healthy state, holding the {@link java.time.Instant} since
+     * when the application is really unhealthy.
+     */
+    public static final String UNHEALTHY_SINCE = "unhealthySince";
+
     /**
      * <code>true</code> if this object represents a healthy state, <code>false</code> otherwise.
      */
@@ -19,16 +19,22 @@ package com.github.jpmsilva.jsystemd;
 import static com.github.jpmsilva.jsystemd.SystemdUtilities.isUnderSystemd;
 import static com.github.jpmsilva.jsystemd.SystemdUtilities.notifySocketPath;
 import static com.github.jpmsilva.jsystemd.SystemdUtilities.osName;
+import static com.github.jpmsilva.jsystemd.SystemdUtilities.watchdogUsec;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -37,7 +43,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -69,8 +75,23 @@ public class Systemd implements AutoCloseable {
   @NonNull
   private final List<SystemdStatusProvider> providers = new CopyOnWriteArrayList<>();
 
+  @NonNull
+  private final List<SystemdWatchdogListener> watchdogListeners = new CopyOnWriteArrayList<>();
+
+  @NonNull
+  private final List<SystemdStatusListener> statusListeners = new CopyOnWriteArrayList<>();
+
+  @NonNull
+  private final Map<SystemdStatusProvider, SystemdTimer> statusTimers = new ConcurrentHashMap<>();
+
+  @Nullable
+  private volatile HealthProvider healthProvider;
+
+  // the composite created by addHealthProvider, the only one this instance may add delegates to
   @Nullable
-  private HealthProvider healthProvider;
+  private CompositeHealthProvider ownedHealthProvider;
+
+  private volatile long lastHeartbeat = System.nanoTime();
 
   private long period = 5;
 
@@ -81,6 +102,12 @@ public class Systemd implements AutoCloseable {
   @NonNull
   private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>();
 
+  @Nullable
+  private ScheduledFuture<?> statusUpdate;
+
+  @NonNull
+  private volatile Duration statusUpdatePeriod = Duration.ZERO;
+
   @NonNull
   private final AtomicBoolean ready = new AtomicBoolean(false);
 
@@ -145,6 +172,18 @@ public class Systemd implements AutoCloseable {
   public void setStatusProviders(@NonNull List<SystemdStatusProvider> providers) {
     this.providers.clear();
     this.providers.addAll(requireNonNull(providers, "Providers must not be null"));
+    this.statusTimers.keySet().retainAll(providers);
+  }
+
+  /**
+   * Returns a read only view of the time spent computing the status of each provider, by {@link #updateStatus()}.
+   *
+   * <p>Timers are created the first time a provider is called, so the view grows as new providers are added.
+   *
+   * @return the timers of the status providers
+   */
+  public @NonNull Map<SystemdStatusProvider, SystemdTimer> getStatusTimers() {
+    return Collections.unmodifiableMap(statusTimers);
   }
 
   /**
@@ -161,12 +200,86 @@ public class Systemd implements AutoCloseable {
    *
    * @param provider the provider to set, or <code>null</code> to disable the watchdog health integration
    */
-  public void setHealthProvider(@Nullable HealthProvider provider) {
+  public synchronized void setHealthProvider(@Nullable HealthProvider provider) {
     this.healthProvider = provider;
   }
 
-  private void enableStatusUpdate(long period, @NonNull TimeUnit unit) {
-    executor.scheduleAtFixedRate(this::updateStatus, period, period, unit);
+  /**
+   * Adds the watchdog listeners to the end of the list of listeners.
+   *
+   * @param listeners the listeners to add
+   */
+  public void addWatchdogListeners(SystemdWatchdogListener... listeners) {
+    this.watchdogListeners.addAll(Arrays.asList(listeners));
+  }
+
+  /**
+   * Returns a read only view of the current watchdog listeners.
+   *
+   * @return the current list of watchdog listeners
+   */
+  public @NonNull List<SystemdWatchdogListener> getWatchdogListeners() {
+    return Collections.unmodifiableList(watchdogListeners);
+  }
+
+  /**
+   * Adds the status listeners to the end of the list of listeners.
+   *
+   * @param listeners the listeners to add
+   */
+  public void addStatusListeners(SystemdStatusListener... listeners) {
+    this.statusListeners.addAll(Arrays.asList(listeners));
+  }
+
+  /**
+   * Adds a health provider to the current one, so that the application is only considered healthy when all of them report a healthy state.
+   *
+   * <p>The providers are combined in a {@link CompositeHealthProvider} created by this instance. A composite set with {@link #setHealthProvider} is never
+   * modified, but wrapped along with the provider added.
+   *
+   * @param provider the provider to add
+   * @see CompositeHealthProvider
+   */
+  public synchronized void addHealthProvider(@NonNull HealthProvider provider) {
+    requireNonNull(provider, "Provider must not be null");
+    HealthProvider current = healthProvider;
+    if (current == null) {
+      healthProvider = provider;
+    } else if (current == ownedHealthProvider) {
+      ownedHealthProvider.addDelegates(provider);
+    } else {
+      ownedHealthProvider = new CompositeHealthProvider(current, provider);
+      healthProvider = ownedHealthProvider;
+    }
+  }
+
+  /**
+   * Sets the period of the status updates, replacing the current schedule. The first update of the new schedule is sent one period from now.
+   *
+   * @param period the period to use, or 0 to disable periodic status updates
+   * @param unit the time unit of the period
+   * @see #updateStatus()
+   */
+  public synchronized void setStatusUpdatePeriod(long period, @NonNull TimeUnit unit) {
+    if (period < 0) {
+      throw new IllegalArgumentException("Illegal value for period");
+    }
+    requireNonNull(unit, "Unit must not be null");
+
+    if (statusUpdate != null) {
+      statusUpdate.cancel(false);
+    }
+    statusUpdate = period > 0 ? executor.scheduleAtFixedRate(this::updateStatus, period, period, unit) : null;
+    statusUpdatePeriod = Duration.ofNanos(unit.toNanos(period));
+  }
+
+  /**
+   * Returns the period of the status updates.
+   *
+   * @return the period of the status updates, or {@link Duration#ZERO} if periodic status updates are disabled
+   */
+  public @NonNull Duration getStatusUpdatePeriod() {
+    return statusUpdatePeriod;
   }
 
   private void enablePeriodicExtendTimeout(long period, @NonNull TimeUnit unit, long timeout) {
@@ -213,9 +326,24 @@ public class Systemd implements AutoCloseable {
   /**
    * Forces the current status to be calculated and sent to systemd. The method {@link Systemd.Builder#statusUpdate(long, TimeUnit)} can be used to enable
    * periodic status updates.
+   *
+   * <p>Registered {@link SystemdStatusListener} instances are notified after the status is sent.
+   *
+   * @see #getStatusTimers()
    */
   public void updateStatus() {
-    SystemdNotify.status(providers.stream().map(SystemdStatusProvider::status).filter(t -> !t.isEmpty()).collect(Collectors.joining(", ")));
+    StringJoiner joiner = new StringJoiner(", ");
+    for (SystemdStatusProvider provider : providers) {
+      long start = System.nanoTime();
+      String part = provider.status();
+      statusTimers.computeIfAbsent(provider, p -> new SystemdTimer()).record(System.nanoTime() - start);
+      if (!part.isEmpty()) {
+        joiner.add(part);
+      }
+    }
+    String status = joiner.toString();
+    SystemdNotify.status(status);
+    notifyListeners(statusListeners, listener -> listener.statusUpdated(status));
   }
 
   /**
@@ -235,16 +363,35 @@ public class Systemd implements AutoCloseable {
    * updates.
    *
    * <p>If health provider is set and returns unhealthy the watchdog timestamp is not updated.
+   *
+   * <p>Registered {@link SystemdWatchdogListener} instances are notified of both sent and suppressed heartbeats.
    */
   @SuppressWarnings("WeakerAccess")
   public void watchdog() {
-    Optional<HealthProvider> healthProvider = getHealthProvider();
-    if (healthProvider.isPresent() && !healthProvider.get().health().healthy) {
-      logger.warn("Suppressing heartbeat to watchdog because application is unhealthy (details={})", healthProvider.get().health().details);
+    long now = System.nanoTime();
+    Duration sinceLast = Duration.ofNanos(now - lastHeartbeat);
+    Duration timeout = Duration.ofNanos(MICROSECONDS.toNanos(watchdogUsec()));
+    Health health = getHealthProvider().map(HealthProvider::health).orElseGet(Health::healthy);
+    if (!health.healthy) {
+      logger.warn("Suppressing heartbeat to watchdog because application is unhealthy (details={})", health.details);
+      notifyListeners(watchdogListeners, listener -> listener.suppressed(health, sinceLast, timeout));
       return;
     }
     logger.debug("Triggering heartbeat to watchdog");
     SystemdNotify.watchdog();
+    lastHeartbeat = now;
+    notifyListeners(watchdogListeners, listener -> listener.heartbeat(health, sinceLast, timeout));
+  }
+
+  private static <T> void notifyListeners(@NonNull List<T> listeners, @NonNull Consumer<T> action) {
+    for (T listener : listeners) {
+      try {
+        action.accept(listener);
+      } catch (RuntimeException e) {
+        // never let a listener cancel the periodic task
+        logger.warn("Listener {} failed", listener, e);
+      }
+    }
   }
 
   /**
@@ -277,6 +424,15 @@ public class Systemd implements AutoCloseable {
     this.options = options;
   }
 
+  /**
+   * Returns the options this instance was built with, such as the periods of the status updates and of the watchdog heartbeats.
+   *
+   * @return the options this instance was built with
+   */
+  public @NonNull String getOptions() {
+    return options;
+  }
+
   /**
    * Logs information regarding the status of the integration with systemd. Meant to be used once the application has done sufficient work to initialize
    * logging.
@@ -389,7 +545,7 @@ public class Systemd implements AutoCloseable {
     public Systemd build() {
       Systemd systemd = new Systemd();
       if (statusUpdatePeriod > -1) {
-        systemd.enableStatusUpdate(statusUpdatePeriod, requireNonNull(statusUpdateUnit));
+        systemd.setStatusUpdatePeriod(statusUpdatePeriod, requireNonNull(statusUpdateUnit));
       }
       if (extendTimeoutPeriod > -1) {
         systemd.enablePeriodicExtendTimeout(extendTimeoutPeriod, requireNonNull(extendTimeoutUnit), extendTimeoutTimeout);
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static com.github.jpmsilva.jsystemd.SystemdUtilities.logsDirectory;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Describes when and where a {@link SystemdWatchdogDumper} writes its diagnostic dumps.
+ *
+ * <p>A dump is taken on the first suppressed heartbeat of each unhealthy period, and on near-miss heartbeats, that is, heartbeats sent after a fraction of the
+ * watchdog timeout has already elapsed since the previous one. Near-miss dumps are rate limited, and the oldest dumps are deleted once the maximum number of
+ * files is reached.
+ *
+ * @author Joao Silva
+ * @see SystemdWatchdogDumper
+ */
+public class SystemdDumpPolicy {
+
+  @NonNull
+  final Path directory;
+  final int maxFiles;
+  final double nearMissRatio;
+  @NonNull
+  final Duration minInterval;
+  @NonNull
+  final Duration extension;
+
+  private SystemdDumpPolicy(@NonNull Path directory, int maxFiles, double nearMissRatio, @NonNull Duration minInterval, @NonNull Duration extension) {
+    this.directory = directory;
+    this.maxFiles = maxFiles;
+    this.nearMissRatio = nearMissRatio;
+    this.minInterval = minInterval;
+    this.extension = extension;
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdDumpPolicy instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("directory=%s, maxFiles=%d, nearMissRatio=%.2f, minInterval=%s, extension=%s", directory, maxFiles, nearMissRatio, minInterval,
+        extension);
+  }
+
+  /**
+   * Specialized build class of {@link SystemdDumpPolicy} objects.
+   */
+  public static class Builder {
+
+    private Path directory;
+    private int maxFiles = 10;
+    private double nearMissRatio = 0.75;
+    private Duration minInterval = Duration.ofMinutes(5);
+    private Duration extension = Duration.ofSeconds(30);
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the directory where dumps are written. Defaults to the directory in {@code $LOGS_DIRECTORY}, or the temporary directory if not set.
+     *
+     * @param directory the directory where dumps are written
+     * @return the same builder instance
+     */
+    public Builder directory(@NonNull Path directory) {
+      this.directory = requireNonNull(directory, "Directory must not be null");
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of dumps kept in the directory, after which the oldest are deleted. Defaults to 10.
+     *
+     * @param maxFiles the maximum number of dumps kept
+     * @return the same builder instance
+     */
+    public Builder maxFiles(int maxFiles) {
+      if (maxFiles <= 0) {
+        throw new IllegalArgumentException("Illegal value for max files");
+      }
+      this.maxFiles = maxFiles;
+      return this;
+    }
+
+    /**
+     * Sets the fraction of the watchdog timeout after which a heartbeat is considered a near-miss. Defaults to 0.75.
+     *
+     * @param nearMissRatio the fraction of the watchdog timeout, between 0 (exclusive) and 1 (inclusive)
+     * @return the same builder instance
+     */
+    public Builder nearMissRatio(double nearMissRatio) {
+      if (nearMissRatio <= 0 || nearMissRatio > 1) {
+        throw new IllegalArgumentException("Illegal value for near miss ratio");
+      }
+      this.nearMissRatio = nearMissRatio;
+      return this;
+    }
+
+    /**
+     * Sets the minimum interval between two near-miss dumps. Defaults to 5 minutes.
+     *
+     * @param minInterval the minimum interval between dumps
+     * @return the same builder instance
+     */
+    public Builder minInterval(@NonNull Duration minInterval) {
+      requireNonNull(minInterval, "Min interval must not be null");
+      if (minInterval.isNegative()) {
+        throw new IllegalArgumentException("Illegal value for min interval");
+      }
+      this.minInterval = minInterval;
+      return this;
+    }
+
+    /**
+     * Sets how much the watchdog timeout is extended while a dump is being written. Defaults to 30 seconds.
+     *
+     * @param extension the watchdog timeout extension
+     * @return the same builder instance
+     */
+    public Builder extension(@NonNull Duration extension) {
+      requireNonNull(extension, "Extension must not be null");
+      if (extension.isNegative()) {
+        throw new IllegalArgumentException("Illegal value for extension");
+      }
+      this.extension = extension;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdDumpPolicy} instance.
+     *
+     * @return the instance built
+     */
+    public SystemdDumpPolicy build() {
+      Path target = Optional.ofNullable(directory)
+          .or(() -> Optional.ofNullable(logsDirectory()))
+          .orElseGet(() -> Path.of(System.getProperty("java.io.tmpdir")));
+      return new SystemdDumpPolicy(target, maxFiles, nearMissRatio, minInterval, extension);
+    }
+  }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} and {@link HealthProvider} that measures the queueing delay of executors, by periodically submitting a
+ * probe task to each of them and measuring how long it waits before running.
+ *
+ * <p>Busy and total thread counts do not tell how long tasks wait for a thread, which is what the callers of an executor experience. The status shows the
+ * 99th percentile and maximum wait of the probes run in the last finished window, in the form {@code Queue: tomcat 0.1/2.3 ms, common 0.0/0.1 ms}. A probe
+ * still waiting counts towards the maximum, so that a stuck executor is reported as such before its probe runs.
+ *
+ * <p>Each executor has a single probe task, which is only submitted again once it has run, so the probes never pile up in a stuck executor, and submitting
+ * them does not allocate. Any {@link Executor} can be {@link #addExecutor(String, Executor) added}, including Reactor schedulers, through
+ * {@code Schedulers.parallel()::schedule}.
+ *
+ * <p>Executors may also drop the probe without running it, such as a {@link ThreadPoolExecutor} with a discarding rejection policy, or shut down with tasks
+ * still queued. A probe missing from the queue of a {@link ThreadPoolExecutor} at two consecutive submissions, without having run, is considered dropped and
+ * submitted again. Other executors cannot be inspected, so their probe is submitted again once it has not run for a whole window. Either way, the wait is
+ * still measured from the first submission, so that an executor that keeps dropping or not running probes is reported as such.
+ *
+ * <p>As a {@link HealthProvider}, the application is reported as unhealthy when the queueing delay of any executor exceeds the configured limit. Without a
+ * limit, the application is always reported as healthy.
+ *
+ * <p>Probes are submitted from a dedicated thread, started when the instance is built, and client code is expected to call {@link #close()} when the
+ * instance is no longer needed.
+ *
+ * @author Joao Silva
+ * @see SystemdHistogram
+ */
+@Order(1100)
+public class SystemdExecutorProbe implements SystemdStatusProvider, HealthProvider, AutoCloseable {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+
+  @NonNull
+  private final Map<String, Probe> probes = new ConcurrentHashMap<>();
+  @NonNull
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    final Thread thread = new Thread(r, "jsystemd-probe");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final long windowNanos;
+  @Nullable
+  private final Duration limit;
+
+  private SystemdExecutorProbe(@NonNull Builder builder) {
+    this.windowNanos = builder.window.toNanos();
+    this.limit = builder.limit;
+    long interval = builder.interval.toNanos();
+    scheduler.scheduleAtFixedRate(this::submit, interval, interval, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdExecutorProbe instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Adds an executor to probe. An executor added with the name of another replaces it.
+   *
+   * @param name the name of the executor, used in the status and health details
+   * @param executor the executor to probe
+   */
+  public void addExecutor(@NonNull String name, @NonNull Executor executor) {
+    requireNonNull(name, "Name must not be null");
+    requireNonNull(executor, "Executor must not be null");
+    probes.put(name, new Probe(executor, new SystemdHistogram(windowNanos), windowNanos));
+  }
+
+  /**
+   * Removes an executor, so that it is no longer probed.
+   *
+   * @param name the name of the executor
+   */
+  public void removeExecutor(@NonNull String name) {
+    probes.remove(requireNonNull(name, "Name must not be null"));
+  }
+
+  private void submit() {
+    long now = System.nanoTime();
+    for (Map.Entry<String, Probe> probe : probes.entrySet()) {
+      probe.getValue().submit(probe.getKey(), now);
+    }
+  }
+
+  @Override
+  public @NonNull String status() {
+    long now = System.nanoTime();
+    List<String> parts = new ArrayList<>(probes.size());
+    for (Map.Entry<String, Probe> entry : probes.entrySet()) {
+      Probe probe = entry.getValue();
+      SystemdHistogram.Snapshot snapshot = probe.histogram.snapshot();
+      long max = Math.max(snapshot.max, probe.waiting(now));
+      if (snapshot.count > 0 || max > 0) {
+        parts.add(String.format("%s %.1f/%.1f ms", entry.getKey(), snapshot.p99 / 1000d, max / 1000d));
+      }
+    }
+    return parts.isEmpty() ? "" : "Queue: " + String.join(", ", parts);
+  }
+
+  @Override
+  public Health health() {
+    if (limit == null) {
+      return Health.healthy();
+    }
+    long now = System.nanoTime();
+    long limitMicros = limit.toNanos() / 1000;
+    Map<String, Object> details = new HashMap<>();
+    for (Map.Entry<String, Probe> entry : probes.entrySet()) {
+      Probe probe = entry.getValue();
+      long delay = Math.max(probe.histogram.snapshot().p99, probe.waiting(now));
+      if (delay > limitMicros) {
+        details.put("executor." + entry.getKey() + ".queue", Duration.ofNanos(delay * 1000));
+      }
+    }
+    return new Health(details.isEmpty(), details);
+  }
+
+  /**
+   * Returns the maximum queueing delay of the executor in the last finished window, including the probe still waiting, if any.
+   *
+   * @param name the name of the executor
+   * @return the maximum queueing delay in microseconds, or -1 if the executor is not probed
+   */
+  public long getMaxMicros(@NonNull String name) {
+    Probe probe = probes.get(name);
+    return probe == null ? -1 : Math.max(probe.histogram.snapshot().max, probe.waiting(System.nanoTime()));
+  }
+
+  /**
+   * Stops probing the executors.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private static final class Probe implements Runnable {
+
+    @NonNull
+    private final Executor executor;
+    @NonNull
+    private final SystemdHistogram histogram;
+    private final long lostAfterNanos;
+    private volatile long submitted;
+    private volatile boolean pending;
+    // only accessed by the probing thread
+    private long lastSubmission;
+    private boolean missing;
+
+    private Probe(@NonNull Executor executor, @NonNull SystemdHistogram histogram, long lostAfterNanos) {
+      this.executor = executor;
+      this.histogram = histogram;
+      this.lostAfterNanos = lostAfterNanos;
+    }
+
+    private void submit(@NonNull String name, long now) {
+      if (pending) {
+        if (executor instanceof ThreadPoolExecutor pool && !(executor instanceof ScheduledThreadPoolExecutor)) {
+          // the probe is queued until a thread runs it, so missing twice means that it was dropped, rather than just taken by a thread
+          boolean wasMissing = missing;
+          missing = !pool.getQueue().contains(this);
+          if (!wasMissing || !missing) {
+            return;
+          }
+        } else if (now - lastSubmission < lostAfterNanos) {
+          return;
+        }
+        // the wait is still measured from the first submission, as the executor did not run any probe since
+        logger.debug("Probe not run by executor {} for {}, submitting it again", name, Duration.ofNanos(now - submitted));
+        missing = false;
+      } else {
+        submitted = now;
+        pending = true;
+      }
+      lastSubmission = now;
+      try {
+        executor.execute(this);
+      } catch (RejectedExecutionException e) {
+        logger.debug("Probe rejected by executor {}", name, e);
+        pending = false;
+      }
+    }
+
+    private long waiting(long now) {
+      return pending ? (now - submitted) / 1000 : 0;
+    }
+
+    @Override
+    public void run() {
+      histogram.record((System.nanoTime() - submitted) / 1000);
+      pending = false;
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdExecutorProbe} objects.
+   */
+  public static class Builder {
+
+    private Duration interval = Duration.ofSeconds(1);
+    private Duration window = Duration.ofMinutes(1);
+    @Nullable
+    private Duration limit;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the interval between two probes of each executor. Defaults to one second.
+     *
+     * @param interval the interval between probes
+     * @return the same builder instance
+     */
+    public Builder interval(@NonNull Duration interval) {
+      requireNonNull(interval, "Interval must not be null");
+      if (interval.isNegative() || interval.isZero()) {
+        throw new IllegalArgumentException("Illegal value for interval");
+      }
+      this.interval = interval;
+      return this;
+    }
+
+    /**
+     * Sets the duration of the rolling windows over which probes are aggregated. Defaults to one minute.
+     *
+     * @param window the duration of the windows
+     * @return the same builder instance
+     */
+    public Builder window(@NonNull Duration window) {
+      requireNonNull(window, "Window must not be null");
+      if (window.isNegative() || window.isZero()) {
+        throw new IllegalArgumentException("Illegal value for window");
+      }
+      this.window = window;
+      return this;
+    }
+
+    /**
+     * Reports the application as unhealthy when the 99th percentile of the queueing delay of any executor, or the wait of its pending probe, exceeds the
+     * limit. Not limited by default.
+     *
+     * @param limit the maximum acceptable queueing delay
+     * @return the same builder instance
+     */
+    public Builder unhealthyAbove(@NonNull Duration limit) {
+      requireNonNull(limit, "Limit must not be null");
+      if (limit.isNegative() || limit.isZero()) {
+        throw new IllegalArgumentException("Illegal value for limit");
+      }
+      this.limit = limit;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdExecutorProbe} instance, and starts probing.
+     *
+     * @return the instance built
+     */
+    public SystemdExecutorProbe build() {
+      return new SystemdExecutorProbe(this);
+    }
+  }
+}
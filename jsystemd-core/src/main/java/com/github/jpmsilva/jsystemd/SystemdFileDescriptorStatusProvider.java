@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.sun.management.UnixOperatingSystemMXBean;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.StringJoiner;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} that provides information regarding the file descriptors used by the process, against its soft limit
+ * ({@code RLIMIT_NOFILE}).
+ *
+ * <p>The status is shown in the form {@code FDs: 1024/65536, sockets: 900 established, 12 close-wait, 2 listen}. The number of open file descriptors and the
+ * limit are read from {@link UnixOperatingSystemMXBean}. On Linux, the socket breakdown counts the TCP sockets listed in {@code /proc/self/net/tcp} and
+ * {@code /proc/self/net/tcp6} whose inodes are referenced by {@code /proc/self/fd}, so that sockets of other processes in the same network namespace are left
+ * out. Sockets in {@code TIME_WAIT} are no longer owned by any file descriptor, and are not shown.
+ *
+ * <p>Walking the file descriptors and the socket tables grows with the number of open sockets, so it is done at most once per socket interval, and the last
+ * breakdown is reused in between. The file descriptor count is cheap, and read on every call.
+ *
+ * <p>When an unhealthy ratio is set, this class can also be used as a {@link HealthProvider}, reporting the application as unhealthy while the open file
+ * descriptors reach that fraction of the limit, so that the watchdog catches file descriptor exhaustion before the service starts failing to accept
+ * connections.
+ *
+ * @author Joao Silva
+ * @see UnixOperatingSystemMXBean
+ */
+@Order(-1200)
+public class SystemdFileDescriptorStatusProvider implements SystemdStatusProvider, HealthProvider {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+
+  private static final Path FD_DIRECTORY = Path.of("/proc/self/fd");
+  private static final Path[] TCP_TABLES = {Path.of("/proc/self/net/tcp"), Path.of("/proc/self/net/tcp6")};
+  // indexed by the state code of the kernel, see include/net/tcp_states.h
+  private static final String[] TCP_STATES = {"", "established", "syn-sent", "syn-recv", "fin-wait1", "fin-wait2", "time-wait", "close", "close-wait",
+      "last-ack", "listen", "closing", "new-syn-recv"};
+  private static final String SOCKET_PREFIX = "socket:[";
+
+  @Nullable
+  private final UnixOperatingSystemMXBean os;
+  private final long socketIntervalNanos;
+  @Nullable
+  private final Double unhealthyRatio;
+  private boolean socketsEnabled;
+  private long socketTime;
+  private int @NonNull [] sockets = new int[TCP_STATES.length];
+
+  private SystemdFileDescriptorStatusProvider(@NonNull Builder builder) {
+    OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+    this.os = bean instanceof UnixOperatingSystemMXBean unix ? unix : null;
+    this.socketIntervalNanos = builder.socketInterval.toNanos();
+    this.socketTime = System.nanoTime() - socketIntervalNanos;
+    this.unhealthyRatio = builder.unhealthyRatio;
+    this.socketsEnabled = builder.socketStates && SystemdUtilities.isLinux();
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdFileDescriptorStatusProvider instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public @NonNull String status() {
+    long open = getOpenFileDescriptors();
+    if (open < 0) {
+      return "";
+    }
+    long max = getMaxFileDescriptors();
+    StringBuilder status = new StringBuilder("FDs: ").append(open);
+    if (max > 0) {
+      status.append('/').append(max);
+    }
+    int[] counts = readSockets();
+    StringJoiner joiner = new StringJoiner(", ", ", sockets: ", "").setEmptyValue("");
+    for (int state = 0; state < counts.length; state++) {
+      if (counts[state] > 0) {
+        joiner.add(counts[state] + " " + TCP_STATES[state]);
+      }
+    }
+    return status.append(joiner).toString();
+  }
+
+  @Override
+  public Health health() {
+    long open = getOpenFileDescriptors();
+    long max = getMaxFileDescriptors();
+    if (unhealthyRatio == null || open < 0 || max <= 0 || open < max * unhealthyRatio) {
+      return Health.healthy();
+    }
+    return new Health(false, Collections.singletonMap("fileDescriptors", String.format("%d/%d open", open, max)));
+  }
+
+  /**
+   * Returns the number of file descriptors open by the process, or -1 if unknown.
+   *
+   * @return the number of open file descriptors
+   */
+  public long getOpenFileDescriptors() {
+    return os == null ? -1 : os.getOpenFileDescriptorCount();
+  }
+
+  /**
+   * Returns the maximum number of file descriptors the process may open, which is the soft limit of {@code RLIMIT_NOFILE}, or -1 if unknown.
+   *
+   * @return the maximum number of file descriptors
+   */
+  public long getMaxFileDescriptors() {
+    return os == null ? -1 : os.getMaxFileDescriptorCount();
+  }
+
+  /**
+   * Returns the number of TCP sockets of the process in the given state, as of the last socket scan.
+   *
+   * @param state the state, in the lower case form shown in the status, such as {@code established} or {@code close-wait}
+   * @return the number of sockets, or 0 if the state is unknown or the breakdown is not available
+   */
+  public int getSockets(@NonNull String state) {
+    requireNonNull(state, "State must not be null");
+    int[] counts = readSockets();
+    for (int i = 1; i < TCP_STATES.length; i++) {
+      if (TCP_STATES[i].equals(state)) {
+        return counts[i];
+      }
+    }
+    return 0;
+  }
+
+  private synchronized int @NonNull [] readSockets() {
+    long now = System.nanoTime();
+    if (!socketsEnabled || now - socketTime < socketIntervalNanos) {
+      return sockets;
+    }
+    socketTime = now;
+    try {
+      long[] inodes = socketInodes();
+      int[] counts = new int[TCP_STATES.length];
+      for (Path table : TCP_TABLES) {
+        countStates(table, inodes, counts);
+      }
+      sockets = counts;
+    } catch (IOException | RuntimeException e) {
+      logger.debug("Could not read socket states, socket breakdown will not be reported", e);
+      socketsEnabled = false;
+      sockets = new int[TCP_STATES.length];
+    }
+    return sockets;
+  }
+
+  private static long @NonNull [] socketInodes() throws IOException {
+    long[] inodes = new long[64];
+    int size = 0;
+    try (DirectoryStream<Path> fds = Files.newDirectoryStream(FD_DIRECTORY)) {
+      for (Path fd : fds) {
+        String target;
+        try {
+          target = Files.readSymbolicLink(fd).toString();
+        } catch (NoSuchFileException e) {
+          // closed while walking
+          continue;
+        }
+        if (target.startsWith(SOCKET_PREFIX)) {
+          if (size == inodes.length) {
+            inodes = Arrays.copyOf(inodes, size * 2);
+          }
+          inodes[size++] = Long.parseLong(target, SOCKET_PREFIX.length(), target.length() - 1, 10);
+        }
+      }
+    }
+    inodes = Arrays.copyOf(inodes, size);
+    Arrays.sort(inodes);
+    return inodes;
+  }
+
+  private static void countStates(@NonNull Path table, long @NonNull [] inodes, int @NonNull [] counts) throws IOException {
+    if (!Files.exists(table)) {
+      return;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(table, StandardCharsets.US_ASCII)) {
+      // skip the header
+      String line = reader.readLine();
+      while ((line = reader.readLine()) != null) {
+        // sl local_address rem_address st tx_queue:rx_queue tr:tm->when retrnsmt uid timeout inode ...
+        String[] fields = line.trim().split("\\s+", 11);
+        if (fields.length < 10) {
+          continue;
+        }
+        int state = Integer.parseInt(fields[3], 16);
+        if (state < counts.length && Arrays.binarySearch(inodes, Long.parseLong(fields[9])) >= 0) {
+          counts[state]++;
+        }
+      }
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdFileDescriptorStatusProvider} objects.
+   */
+  public static class Builder {
+
+    private Duration socketInterval = Duration.ofSeconds(10);
+    private boolean socketStates = true;
+    @Nullable
+    private Double unhealthyRatio;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the minimum interval between two scans of the socket states, which grow with the number of open sockets. Defaults to 10 seconds.
+     *
+     * @param socketInterval the minimum interval between scans
+     * @return the same builder instance
+     */
+    public Builder socketInterval(@NonNull Duration socketInterval) {
+      requireNonNull(socketInterval, "Socket interval must not be null");
+      if (socketInterval.isNegative()) {
+        throw new IllegalArgumentException("Illegal value for socket interval");
+      }
+      this.socketInterval = socketInterval;
+      return this;
+    }
+
+    /**
+     * Sets whether the breakdown of TCP socket states is reported. Defaults to true. Only available on Linux.
+     *
+     * @param socketStates whether the breakdown of socket states is reported
+     * @return the same builder instance
+     */
+    public Builder socketStates(boolean socketStates) {
+      this.socketStates = socketStates;
+      return this;
+    }
+
+    /**
+     * Sets the fraction of the file descriptor limit at which the application is considered unhealthy. By default, the health is not affected.
+     *
+     * @param unhealthyRatio the fraction of the limit, between 0 (exclusive) and 1 (inclusive), or <code>null</code> to not affect the health
+     * @return the same builder instance
+     */
+    public Builder unhealthyRatio(@Nullable Double unhealthyRatio) {
+      if (unhealthyRatio != null && (unhealthyRatio <= 0 || unhealthyRatio > 1)) {
+        throw new IllegalArgumentException("Illegal value for unhealthy ratio");
+      }
+      this.unhealthyRatio = unhealthyRatio;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdFileDescriptorStatusProvider} instance.
+     *
+     * @return the instance built
+     */
+    public SystemdFileDescriptorStatusProvider build() {
+      return new SystemdFileDescriptorStatusProvider(this);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Implementation of {@link SystemdWatchdogListener} that keeps a continuous JFR recording, and dumps it when the watchdog heartbeat is suppressed or late.
+ *
+ * <p>The recording is bounded both in age and in size, so it behaves as a ring buffer of the most recent JVM activity. It is dumped on the first suppressed
+ * heartbeat of each unhealthy period, and on near-miss heartbeats, so that every watchdog kill leaves a performance post-mortem behind. By default, dumps are
+ * written to {@code $LOGS_DIRECTORY}.
+ *
+ * <p>The recording is started when the instance is built, and client code is expected to call {@link #close()} when the instance is no longer needed.
+ *
+ * @author Joao Silva
+ * @see SystemdDumpPolicy
+ * @see Recording
+ */
+public class SystemdFlightRecorder extends SystemdWatchdogDumper {
+
+  @NonNull
+  private final Recording recording;
+
+  private SystemdFlightRecorder(@NonNull Recording recording, @NonNull SystemdDumpPolicy policy) {
+    super("jfr", ".jfr", policy);
+    this.recording = recording;
+    this.recording.start();
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdFlightRecorder instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  protected void dump(@NonNull Path path) throws IOException {
+    recording.dump(path);
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      super.close();
+    } finally {
+      recording.close();
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdFlightRecorder} objects.
+   */
+  public static class Builder {
+
+    private Duration maxAge = Duration.ofMinutes(10);
+    private long maxSize = 64L * 1024 * 1024;
+    private String settings = "default";
+    private SystemdDumpPolicy policy;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the maximum age of the data kept in the recording. Defaults to 10 minutes.
+     *
+     * @param maxAge the maximum age of the recorded data
+     * @return the same builder instance
+     */
+    public Builder maxAge(@NonNull Duration maxAge) {
+      requireNonNull(maxAge, "Max age must not be null");
+      if (maxAge.isNegative() || maxAge.isZero()) {
+        throw new IllegalArgumentException("Illegal value for max age");
+      }
+      this.maxAge = maxAge;
+      return this;
+    }
+
+    /**
+     * Sets the maximum size of the data kept in the recording, in bytes. Defaults to 64 MiB.
+     *
+     * @param maxSize the maximum size of the recorded data
+     * @return the same builder instance
+     */
+    public Builder maxSize(long maxSize) {
+      if (maxSize <= 0) {
+        throw new IllegalArgumentException("Illegal value for max size");
+      }
+      this.maxSize = maxSize;
+      return this;
+    }
+
+    /**
+     * Sets the name of the JFR settings to use, such as {@code default} or {@code profile}. Defaults to {@code default}.
+     *
+     * @param settings the name of the JFR settings
+     * @return the same builder instance
+     * @see Configuration#getConfiguration(String)
+     */
+    public Builder settings(@NonNull String settings) {
+      this.settings = requireNonNull(settings, "Settings must not be null");
+      return this;
+    }
+
+    /**
+     * Sets the policy that controls when and where dumps are written. Defaults to the default {@link SystemdDumpPolicy}.
+     *
+     * @param policy the dump policy
+     * @return the same builder instance
+     */
+    public Builder policy(@NonNull SystemdDumpPolicy policy) {
+      this.policy = requireNonNull(policy, "Policy must not be null");
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdFlightRecorder} instance, and starts the underlying recording.
+     *
+     * @return the instance built
+     * @throws IllegalStateException if JFR is not available in the running JVM, or the settings cannot be loaded
+     */
+    public SystemdFlightRecorder build() {
+      Recording recording;
+      try {
+        recording = new Recording(Configuration.getConfiguration(settings));
+      } catch (IOException | ParseException e) {
+        throw new IllegalStateException("Could not load JFR settings " + settings, e);
+      }
+      recording.setName("jsystemd");
+      recording.setToDisk(true);
+      recording.setMaxAge(maxAge);
+      recording.setMaxSize(maxSize);
+      return new SystemdFlightRecorder(recording, policy != null ? policy : SystemdDumpPolicy.builder().build());
+    }
+  }
+}
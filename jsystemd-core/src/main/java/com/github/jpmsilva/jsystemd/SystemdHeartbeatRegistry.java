@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Registry of component heartbeats, implemented as a {@link HealthProvider} that gates the systemd watchdog on the liveness of critical background loops.
+ *
+ * <p>Components such as message consumers, schedulers or event loops {@link #register(String, Duration) register} a key with the maximum time they may stay
+ * silent, and call {@link Heartbeat#beat()} on their hot path. A beat is a single ordered store of the current time, with no allocation and no locking. The
+ * application is healthy only while every registered key has beaten within its maximum silence interval, so the watchdog stops receiving heartbeats as soon
+ * as one of those loops gets stuck.
+ *
+ * <p>Stale keys are reported both in the status, in the form {@code Stale: consumer (12s)}, and in the {@link Health#details}.
+ *
+ * @author Joao Silva
+ * @see Systemd#addHealthProvider(HealthProvider)
+ */
+@Order(1500)
+public class SystemdHeartbeatRegistry implements HealthProvider, SystemdStatusProvider {
+
+  @NonNull
+  private final Map<String, Heartbeat> heartbeats = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new SystemdHeartbeatRegistry.
+   */
+  public SystemdHeartbeatRegistry() {
+  }
+
+  /**
+   * Registers a component heartbeat. The heartbeat is considered fresh at registration time.
+   *
+   * @param key the name of the component
+   * @param maxSilence the maximum time the component may go without beating before it is considered stale
+   * @return the heartbeat the component must beat
+   * @throws IllegalStateException if a heartbeat is already registered with the same key
+   */
+  public @NonNull Heartbeat register(@NonNull String key, @NonNull Duration maxSilence) {
+    requireNonNull(key, "Key must not be null");
+    requireNonNull(maxSilence, "Max silence must not be null");
+    if (maxSilence.isNegative() || maxSilence.isZero()) {
+      throw new IllegalArgumentException("Illegal value for max silence");
+    }
+    Heartbeat heartbeat = new Heartbeat(this, key, maxSilence.toNanos());
+    if (heartbeats.putIfAbsent(key, heartbeat) != null) {
+      throw new IllegalStateException("Heartbeat already registered: " + key);
+    }
+    return heartbeat;
+  }
+
+  private @NonNull List<Heartbeat> stale() {
+    long now = System.nanoTime();
+    List<Heartbeat> stale = new ArrayList<>(0);
+    for (Heartbeat heartbeat : heartbeats.values()) {
+      if (heartbeat.silence(now) > heartbeat.maxSilence) {
+        stale.add(heartbeat);
+      }
+    }
+    return stale;
+  }
+
+  @Override
+  public Health health() {
+    List<Heartbeat> stale = stale();
+    if (stale.isEmpty()) {
+      return Health.healthy();
+    }
+    long now = System.nanoTime();
+    Map<String, Object> details = new HashMap<>();
+    for (Heartbeat heartbeat : stale) {
+      details.put("heartbeat." + heartbeat.key, String.format("silent for %s (max %s)", Duration.ofNanos(heartbeat.silence(now)),
+          Duration.ofNanos(heartbeat.maxSilence)));
+    }
+    return new Health(false, details);
+  }
+
+  @Override
+  public @NonNull String status() {
+    List<Heartbeat> stale = stale();
+    if (stale.isEmpty()) {
+      return "";
+    }
+    long now = System.nanoTime();
+    List<String> parts = new ArrayList<>(stale.size());
+    for (Heartbeat heartbeat : stale) {
+      parts.add(String.format("%s (%ds)", heartbeat.key, Duration.ofNanos(heartbeat.silence(now)).toSeconds()));
+    }
+    return "Stale: " + String.join(", ", parts);
+  }
+
+  /**
+   * Heartbeat of a registered component.
+   */
+  public static final class Heartbeat implements AutoCloseable {
+
+    private static final VarHandle LAST;
+
+    static {
+      try {
+        LAST = MethodHandles.lookup().findVarHandle(Heartbeat.class, "last", long.class);
+      } catch (ReflectiveOperationException e) {
+        throw new ExceptionInInitializerError(e);
+      }
+    }
+
+    @NonNull
+    private final SystemdHeartbeatRegistry registry;
+    @NonNull
+    private final String key;
+    private final long maxSilence;
+    @SuppressWarnings({"unused", "FieldMayBeFinal"})
+    private long last = System.nanoTime();
+
+    private Heartbeat(@NonNull SystemdHeartbeatRegistry registry, @NonNull String key, long maxSilence) {
+      this.registry = registry;
+      this.key = key;
+      this.maxSilence = maxSilence;
+    }
+
+    /**
+     * Signals that the component is alive. Meant to be called on the hot path of the component, as it neither allocates nor locks.
+     */
+    public void beat() {
+      LAST.setRelease(this, System.nanoTime());
+    }
+
+    private long silence(long now) {
+      return now - (long) LAST.getAcquire(this);
+    }
+
+    /**
+     * Returns the name of the component.
+     *
+     * @return the name of the component
+     */
+    public @NonNull String getKey() {
+      return key;
+    }
+
+    /**
+     * Unregisters the heartbeat, so that it no longer affects the health of the application.
+     */
+    @Override
+    public void close() {
+      registry.heartbeats.remove(key, this);
+    }
+  }
+}
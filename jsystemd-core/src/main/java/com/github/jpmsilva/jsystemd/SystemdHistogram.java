@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Lock-free, log-bucketed histogram of non-negative values, aggregated over rolling time windows.
+ *
+ * <p>Each power of two is split in eight linear sub-buckets, so percentiles are reported with a relative error of at most 12.5%. Recording a value is a
+ * few atomic increments on preallocated arrays, and never allocates or locks, which makes it safe to use on hot paths.
+ *
+ * <p>Windows are rotated lazily by {@link #snapshot()}: once the window period has elapsed, the active buckets are swapped with a spare set, and the
+ * summary of the finished window becomes the value returned until the next rotation. Each set counts the writers recording into it, and the finished set is
+ * only summarized and reset once the writers that loaded it before the swap are done, so that no value is lost or leaks into a later window. Not meant for
+ * direct usage.
+ *
+ * @author Joao Silva
+ */
+final class SystemdHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final long windowNanos;
+
+  @NonNull
+  private volatile Buckets active = new Buckets();
+  @NonNull
+  private Buckets spare = new Buckets();
+  @NonNull
+  private Snapshot last = Snapshot.EMPTY;
+  private long windowStart = System.nanoTime();
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param windowNanos the duration of each window, in nanoseconds
+   */
+  SystemdHistogram(long windowNanos) {
+    if (windowNanos <= 0) {
+      throw new IllegalArgumentException("Illegal value for window");
+    }
+    this.windowNanos = windowNanos;
+  }
+
+  /**
+   * Records a value in the current window. Negative values are recorded as 0.
+   *
+   * @param value the value to record
+   */
+  void record(long value) {
+    record(value, false);
+  }
+
+  /**
+   * Records a value in the current window, flagging it if needed, such as when the request it measures has failed. Negative values are recorded as 0.
+   *
+   * @param value the value to record
+   * @param flagged whether the value is counted as flagged
+   */
+  void record(long value, boolean flagged) {
+    while (true) {
+      Buckets buckets = active;
+      buckets.writers.incrementAndGet();
+      try {
+        // swapped since loaded, the rotation may not have seen this writer
+        if (buckets == active) {
+          buckets.record(Math.max(0, value), flagged);
+          return;
+        }
+      } finally {
+        buckets.writers.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Returns the summary of the last finished window, rotating the current window if its period has elapsed.
+   *
+   * @return the summary of the last finished window
+   */
+  synchronized @NonNull Snapshot snapshot() {
+    long now = System.nanoTime();
+    if (now - windowStart >= windowNanos) {
+      Buckets finished = active;
+      active = spare;
+      while (finished.writers.get() != 0) {
+        Thread.onSpinWait();
+      }
+      last = finished.summarize();
+      finished.reset();
+      spare = finished;
+      windowStart = now;
+    }
+    return last;
+  }
+
+  static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  static long upperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long sub = index % SUB_BUCKETS;
+    return ((SUB_BUCKETS + sub + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+
+  private static final class Buckets {
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray totals = new AtomicLongArray(3);
+    private final AtomicInteger writers = new AtomicInteger();
+
+    void record(long value, boolean flagged) {
+      counts.getAndIncrement(index(value));
+      totals.getAndIncrement(0);
+      if (flagged) {
+        totals.getAndIncrement(2);
+      }
+      long max = totals.get(1);
+      while (value > max && !totals.compareAndSet(1, max, value)) {
+        max = totals.get(1);
+      }
+    }
+
+    Snapshot summarize() {
+      long count = totals.get(0);
+      long max = totals.get(1);
+      if (count == 0) {
+        return Snapshot.EMPTY;
+      }
+      long target = count - count / 100;
+      long seen = 0;
+      long p99 = max;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += counts.get(i);
+        if (seen >= target) {
+          p99 = Math.min(upperBound(i), max);
+          break;
+        }
+      }
+      return new Snapshot(count, max, p99, totals.get(2));
+    }
+
+    void reset() {
+      for (int i = 0; i < BUCKETS; i++) {
+        counts.set(i, 0);
+      }
+      totals.set(0, 0);
+      totals.set(1, 0);
+      totals.set(2, 0);
+    }
+  }
+
+  /**
+   * Summary of a finished histogram window.
+   */
+  static final class Snapshot {
+
+    static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0);
+
+    /**
+     * The number of values recorded in the window.
+     */
+    final long count;
+
+    /**
+     * The maximum value recorded in the window.
+     */
+    final long max;
+
+    /**
+     * The 99th percentile of the values recorded in the window.
+     */
+    final long p99;
+
+    /**
+     * The number of flagged values recorded in the window.
+     */
+    final long flagged;
+
+    Snapshot(long count, long max, long p99, long flagged) {
+      this.count = count;
+      this.max = max;
+      this.p99 = p99;
+      this.flagged = flagged;
+    }
+  }
+}
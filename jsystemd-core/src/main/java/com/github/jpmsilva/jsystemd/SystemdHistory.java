@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Fixed-size history of the recent status updates and watchdog heartbeats, so that the state of the integration can be inspected after the fact.
+ *
+ * <p>Entries are kept in ring buffers allocated upfront, so recording neither allocates nor grows: once full, each entry replaces the oldest one. Recording
+ * happens on the threads of {@link Systemd}, and reading makes a copy of the buffers, so both are cheap enough to be left enabled in production.
+ *
+ * <p>The history must be registered through {@link Systemd#addStatusListeners(SystemdStatusListener...)} and
+ * {@link Systemd#addWatchdogListeners(SystemdWatchdogListener...)}.
+ *
+ * @author Joao Silva
+ */
+public class SystemdHistory implements SystemdStatusListener, SystemdWatchdogListener {
+
+  private final int capacity;
+  private final long @NonNull [] statusTimes;
+  private final String @NonNull [] statuses;
+  private long statusCount;
+  private final long @NonNull [] heartbeatTimes;
+  private final long @NonNull [] sinceLasts;
+  private final long @NonNull [] timeouts;
+  private final boolean @NonNull [] sent;
+  private long heartbeatCount;
+
+  /**
+   * Creates a new history that keeps the most recent status updates and heartbeats.
+   *
+   * @param capacity the number of status updates, and of heartbeats, to keep
+   */
+  public SystemdHistory(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Illegal value for capacity");
+    }
+    this.capacity = capacity;
+    this.statusTimes = new long[capacity];
+    this.statuses = new String[capacity];
+    this.heartbeatTimes = new long[capacity];
+    this.sinceLasts = new long[capacity];
+    this.timeouts = new long[capacity];
+    this.sent = new boolean[capacity];
+  }
+
+  @Override
+  public synchronized void statusUpdated(@NonNull String status) {
+    int index = (int) (statusCount++ % capacity);
+    statusTimes[index] = System.currentTimeMillis();
+    statuses[index] = status;
+  }
+
+  @Override
+  public void heartbeat(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    record(true, sinceLast, timeout);
+  }
+
+  @Override
+  public void suppressed(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    record(false, sinceLast, timeout);
+  }
+
+  private synchronized void record(boolean sent, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    int index = (int) (heartbeatCount++ % capacity);
+    heartbeatTimes[index] = System.currentTimeMillis();
+    sinceLasts[index] = sinceLast.toNanos();
+    timeouts[index] = timeout.toNanos();
+    this.sent[index] = sent;
+  }
+
+  /**
+   * Returns the recent status updates, oldest first.
+   *
+   * @return the recent status updates
+   */
+  public synchronized @NonNull List<StatusEntry> getStatuses() {
+    int size = (int) Math.min(statusCount, capacity);
+    List<StatusEntry> entries = new ArrayList<>(size);
+    for (long i = statusCount - size; i < statusCount; i++) {
+      int index = (int) (i % capacity);
+      entries.add(new StatusEntry(Instant.ofEpochMilli(statusTimes[index]), statuses[index]));
+    }
+    return entries;
+  }
+
+  /**
+   * Returns the recent heartbeats, sent or suppressed, oldest first.
+   *
+   * @return the recent heartbeats
+   */
+  public synchronized @NonNull List<HeartbeatEntry> getHeartbeats() {
+    int size = (int) Math.min(heartbeatCount, capacity);
+    List<HeartbeatEntry> entries = new ArrayList<>(size);
+    for (long i = heartbeatCount - size; i < heartbeatCount; i++) {
+      int index = (int) (i % capacity);
+      entries.add(new HeartbeatEntry(Instant.ofEpochMilli(heartbeatTimes[index]), sent[index], sinceLasts[index], timeouts[index]));
+    }
+    return entries;
+  }
+
+  /**
+   * Status update recorded in a {@link SystemdHistory}.
+   */
+  public static final class StatusEntry {
+
+    @NonNull
+    private final Instant time;
+    @NonNull
+    private final String status;
+
+    private StatusEntry(@NonNull Instant time, @NonNull String status) {
+      this.time = time;
+      this.status = status;
+    }
+
+    /**
+     * Returns the time the status was sent.
+     *
+     * @return the time the status was sent
+     */
+    public @NonNull Instant getTime() {
+      return time;
+    }
+
+    /**
+     * Returns the status sent.
+     *
+     * @return the status sent
+     */
+    public @NonNull String getStatus() {
+      return status;
+    }
+
+    @Override
+    public String toString() {
+      return "StatusEntry{time=" + time + ", status=" + status + '}';
+    }
+  }
+
+  /**
+   * Heartbeat recorded in a {@link SystemdHistory}.
+   */
+  public static final class HeartbeatEntry {
+
+    @NonNull
+    private final Instant time;
+    private final boolean sent;
+    private final long sinceLast;
+    private final long timeout;
+
+    private HeartbeatEntry(@NonNull Instant time, boolean sent, long sinceLast, long timeout) {
+      this.time = time;
+      this.sent = sent;
+      this.sinceLast = sinceLast;
+      this.timeout = timeout;
+    }
+
+    /**
+     * Returns the time of the heartbeat.
+     *
+     * @return the time of the heartbeat
+     */
+    public @NonNull Instant getTime() {
+      return time;
+    }
+
+    /**
+     * Check if the heartbeat was sent, or suppressed because the application was unhealthy.
+     *
+     * @return {@code true} if the heartbeat was sent
+     */
+    public boolean isSent() {
+      return sent;
+    }
+
+    /**
+     * Returns the time elapsed since the previous heartbeat sent, in milliseconds.
+     *
+     * @return the time elapsed since the previous heartbeat sent
+     */
+    public double getSinceLastMs() {
+      return sinceLast / 1e6;
+    }
+
+    /**
+     * Returns the time elapsed since the previous heartbeat sent, as a fraction of the watchdog timeout. Systemd stops the service when it reaches 1.
+     *
+     * @return the lateness of the heartbeat, or 0 if the watchdog timeout is unknown
+     */
+    public double getLateness() {
+      return timeout == 0 ? 0 : (double) sinceLast / timeout;
+    }
+
+    @Override
+    public String toString() {
+      return "HeartbeatEntry{time=" + time + ", sent=" + sent + ", sinceLastMs=" + getSinceLastMs() + ", lateness=" + getLateness() + '}';
+    }
+  }
+}
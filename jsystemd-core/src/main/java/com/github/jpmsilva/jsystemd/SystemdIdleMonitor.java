@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.nio.channels.ServerSocketChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Monitor that stops an idle service, so that services that are rarely used do not hold memory while waiting for requests.
+ *
+ * <p>The service is idle when none of the registered {@link Source sources} has been busy, nor reported any activity, for the configured timeout. Sources are
+ * sampled at every check interval, and the activity of a source is the latest of its busy samples and of its own last activity time, so that short requests
+ * between two samples are not missed. Application code can also report activity with {@link #touch()}, such as a message being consumed.
+ *
+ * <p>Once idle, the stop action is run once, on a new thread, and the monitor stops checking. It is meant for socket-activated services, where systemd keeps
+ * the listening socket while the service is stopped, and starts it again on the next connection; see {@link #isSocketActivated()}.
+ *
+ * <p>While idle for at least one check interval, the status is shown in the form {@code Idle: 4m 30s/10m}.
+ *
+ * <p>Sources are checked from a dedicated thread, started when the instance is built, and client code is expected to call {@link #close()} when the instance
+ * is no longer needed.
+ *
+ * @author Joao Silva
+ * @see Source
+ */
+@Order(1600)
+public class SystemdIdleMonitor implements SystemdStatusProvider, AutoCloseable {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+
+  @NonNull
+  private final List<Source> sources = new CopyOnWriteArrayList<>();
+  @NonNull
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    final Thread thread = new Thread(r, "jsystemd-idle");
+    thread.setDaemon(true);
+    return thread;
+  });
+  @NonNull
+  private final Duration timeout;
+  private final long intervalNanos;
+  @NonNull
+  private final Runnable action;
+  private volatile long lastActivity = System.nanoTime();
+  private volatile boolean stopped;
+
+  private SystemdIdleMonitor(@NonNull Builder builder) {
+    this.timeout = builder.timeout;
+    this.action = requireNonNull(builder.action, "Action must not be null");
+    Duration interval = builder.interval != null ? builder.interval : timeout.dividedBy(10);
+    this.intervalNanos = Math.max(interval.toNanos(), TimeUnit.SECONDS.toNanos(1));
+    scheduler.scheduleAtFixedRate(this::check, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdIdleMonitor instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Checks whether the process was started by systemd socket activation, with the listening socket passed as its standard input
+   * ({@code StandardInput=socket}), which is the form {@link System#inheritedChannel()} supports.
+   *
+   * @return whether the process inherited a listening socket
+   */
+  public static boolean isSocketActivated() {
+    try {
+      return System.inheritedChannel() instanceof ServerSocketChannel;
+    } catch (IOException | SecurityException e) {
+      logger.debug("Could not check the inherited channel", e);
+      return false;
+    }
+  }
+
+  /**
+   * Adds a source of activity, such as the connectors of a web server.
+   *
+   * @param source the source of activity
+   */
+  public void addSource(@NonNull Source source) {
+    sources.add(requireNonNull(source, "Source must not be null"));
+  }
+
+  /**
+   * Reports activity now, which restarts the idle timeout.
+   */
+  public void touch() {
+    lastActivity = System.nanoTime();
+  }
+
+  /**
+   * Returns the time elapsed since the last activity seen, as of the last check.
+   *
+   * @return the idle time
+   */
+  public @NonNull Duration getIdleTime() {
+    return Duration.ofNanos(Math.max(0, System.nanoTime() - lastActivity));
+  }
+
+  private void check() {
+    long now = System.nanoTime();
+    long last = lastActivity;
+    for (Source source : sources) {
+      try {
+        if (source.isBusy()) {
+          last = now;
+          break;
+        }
+        long sourceActivity = source.getLastActivity();
+        if (sourceActivity != Long.MIN_VALUE && sourceActivity - last > 0) {
+          last = sourceActivity;
+        }
+      } catch (RuntimeException e) {
+        logger.debug("Could not check source {}, considering it busy", source, e);
+        last = now;
+      }
+    }
+    if (last - lastActivity > 0) {
+      lastActivity = last;
+    }
+    if (now - lastActivity >= timeout.toNanos() && !stopped) {
+      stopped = true;
+      logger.info("No activity for {}, stopping", format(timeout));
+      scheduler.shutdown();
+      Thread thread = new Thread(action, "jsystemd-idle-stop");
+      thread.start();
+    }
+  }
+
+  @Override
+  public @NonNull String status() {
+    Duration idle = getIdleTime();
+    if (idle.toNanos() < intervalNanos) {
+      return "";
+    }
+    return "Idle: " + format(idle) + "/" + format(timeout);
+  }
+
+  private static @NonNull String format(@NonNull Duration duration) {
+    long minutes = duration.toMinutes();
+    int seconds = duration.toSecondsPart();
+    if (minutes == 0) {
+      return seconds + "s";
+    }
+    return seconds == 0 ? minutes + "m" : minutes + "m " + seconds + "s";
+  }
+
+  /**
+   * Stops checking for idleness.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  /**
+   * Source of activity of a service.
+   */
+  public interface Source {
+
+    /**
+     * Checks whether there is ongoing activity, such as open connections or requests in flight.
+     *
+     * @return whether there is ongoing activity
+     */
+    boolean isBusy();
+
+    /**
+     * Returns the time of the last activity, as per {@link System#nanoTime()}, such as the start or end of the last request. Sources that only report
+     * ongoing activity return {@link Long#MIN_VALUE}.
+     *
+     * @return the time of the last activity
+     */
+    default long getLastActivity() {
+      return Long.MIN_VALUE;
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdIdleMonitor} objects.
+   */
+  public static class Builder {
+
+    private Duration timeout = Duration.ofMinutes(10);
+    @Nullable
+    private Duration interval;
+    @Nullable
+    private Runnable action;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the time without activity after which the service is stopped. Defaults to 10 minutes.
+     *
+     * @param timeout the time without activity
+     * @return the same builder instance
+     */
+    public Builder timeout(@NonNull Duration timeout) {
+      requireNonNull(timeout, "Timeout must not be null");
+      if (timeout.isNegative() || timeout.isZero()) {
+        throw new IllegalArgumentException("Illegal value for timeout");
+      }
+      this.timeout = timeout;
+      return this;
+    }
+
+    /**
+     * Sets the interval between two checks of the sources. Defaults to a tenth of the timeout, and is never less than one second.
+     *
+     * @param interval the interval between checks
+     * @return the same builder instance
+     */
+    public Builder interval(@NonNull Duration interval) {
+      requireNonNull(interval, "Interval must not be null");
+      if (interval.isNegative() || interval.isZero()) {
+        throw new IllegalArgumentException("Illegal value for interval");
+      }
+      this.interval = interval;
+      return this;
+    }
+
+    /**
+     * Sets the action that stops the service once idle. Required.
+     *
+     * @param action the action that stops the service
+     * @return the same builder instance
+     */
+    public Builder action(@NonNull Runnable action) {
+      this.action = requireNonNull(action, "Action must not be null");
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdIdleMonitor} instance.
+     *
+     * @return the instance built
+     */
+    public SystemdIdleMonitor build() {
+      return new SystemdIdleMonitor(this);
+    }
+  }
+}
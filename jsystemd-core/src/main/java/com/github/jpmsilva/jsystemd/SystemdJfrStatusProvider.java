@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} and {@link HealthProvider} that reports short lived JVM incidents captured through JFR event streaming.
+ *
+ * <p>Unlike the MXBean based providers, which only sample the state of the JVM at each status update, this provider subscribes to garbage collection,
+ * safepoint, monitor contention, virtual thread pinning and CPU load events as they happen, and aggregates them in rolling windows. The status shows the 99th
+ * percentile and maximum duration of each kind of event observed in the last finished window, in the form {@code GC: 3.1/12.4 ms}.
+ *
+ * <p>Only events longer than the configured threshold are recorded by JFR, which bounds the overhead of the provider. Events that are not supported by the
+ * running JVM (such as virtual thread pinning before Java 21) are silently ignored.
+ *
+ * <p>As a {@link HealthProvider}, the application is reported as unhealthy when the 99th percentile of any metric with a configured limit exceeds that limit.
+ * Without limits, the application is always reported as healthy.
+ *
+ * <p>The underlying {@link RecordingStream} is started when the instance is built, and client code is expected to call {@link #close()} when the instance
+ * is no longer needed.
+ *
+ * @author Joao Silva
+ * @see RecordingStream
+ */
+@Order(-500)
+public class SystemdJfrStatusProvider implements SystemdStatusProvider, HealthProvider, AutoCloseable {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+  private static final String CPU_LOAD_EVENT = "jdk.CPULoad";
+
+  @NonNull
+  private final RecordingStream stream;
+  @NonNull
+  private final Map<Metric, SystemdHistogram> histograms = new EnumMap<>(Metric.class);
+  @NonNull
+  private final Map<Metric, Duration> limits;
+  private volatile float jvmCpuLoad = -1;
+  private volatile float machineCpuLoad = -1;
+
+  private SystemdJfrStatusProvider(@NonNull Duration window, @NonNull Duration threshold, @NonNull Duration cpuPeriod, @NonNull Map<Metric, Duration> limits) {
+    this.limits = new EnumMap<>(limits);
+    for (Metric metric : Metric.values()) {
+      histograms.put(metric, new SystemdHistogram(window.toNanos()));
+    }
+
+    stream = new RecordingStream();
+    stream.enable(Metric.GC_PAUSE.event);
+    stream.enable(Metric.SAFEPOINT.event).withThreshold(threshold);
+    stream.enable(Metric.MONITOR_ENTER.event).withThreshold(threshold);
+    stream.enable(Metric.PINNED.event).withThreshold(threshold);
+    stream.enable(CPU_LOAD_EVENT).withPeriod(cpuPeriod);
+
+    stream.onEvent(Metric.GC_PAUSE.event, event -> record(Metric.GC_PAUSE, event.getDuration("longestPause")));
+    stream.onEvent(Metric.SAFEPOINT.event, event -> record(Metric.SAFEPOINT, event.getDuration()));
+    stream.onEvent(Metric.MONITOR_ENTER.event, event -> record(Metric.MONITOR_ENTER, event.getDuration()));
+    stream.onEvent(Metric.PINNED.event, event -> record(Metric.PINNED, event.getDuration()));
+    stream.onEvent(CPU_LOAD_EVENT, this::cpuLoad);
+    stream.setMaxAge(window);
+    stream.startAsync();
+    logger.debug("Started JFR event stream (window={}, threshold={}, cpuPeriod={}, limits={})", window, threshold, cpuPeriod, limits);
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdJfrStatusProvider instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  private void record(@NonNull Metric metric, @NonNull Duration duration) {
+    histograms.get(metric).record(duration.toNanos() / 1000);
+  }
+
+  private void cpuLoad(@NonNull RecordedEvent event) {
+    jvmCpuLoad = event.getFloat("jvmUser") + event.getFloat("jvmSystem");
+    machineCpuLoad = event.getFloat("machineTotal");
+  }
+
+  @Override
+  public @NonNull String status() {
+    List<String> parts = new ArrayList<>(Metric.values().length + 1);
+    for (Metric metric : Metric.values()) {
+      SystemdHistogram.Snapshot snapshot = histograms.get(metric).snapshot();
+      if (snapshot.count > 0) {
+        parts.add(String.format("%s: %s/%s ms", metric.label, formatMillis(snapshot.p99), formatMillis(snapshot.max)));
+      }
+    }
+    if (machineCpuLoad >= 0) {
+      parts.add(String.format("CPU: %.0f%%/%.0f%%", jvmCpuLoad * 100, machineCpuLoad * 100));
+    }
+    return String.join(", ", parts);
+  }
+
+  @Override
+  public Health health() {
+    boolean healthy = true;
+    Map<String, Object> details = new HashMap<>();
+    for (Map.Entry<Metric, Duration> limit : limits.entrySet()) {
+      SystemdHistogram.Snapshot snapshot = histograms.get(limit.getKey()).snapshot();
+      if (snapshot.p99 > limit.getValue().toNanos() / 1000) {
+        healthy = false;
+        details.put("jfr." + limit.getKey().name().toLowerCase() + ".p99", Duration.ofNanos(snapshot.p99 * 1000));
+        details.put("jfr." + limit.getKey().name().toLowerCase() + ".limit", limit.getValue());
+      }
+    }
+    return new Health(healthy, details);
+  }
+
+  private static String formatMillis(long micros) {
+    return String.format("%.1f", micros / 1000d);
+  }
+
+  @Override
+  public void close() {
+    stream.close();
+  }
+
+  /**
+   * Enumeration of the metrics captured from JFR events.
+   */
+  public enum Metric {
+
+    /**
+     * Longest pause of each garbage collection, from {@code jdk.GarbageCollection} events.
+     */
+    GC_PAUSE("jdk.GarbageCollection", "GC"),
+
+    /**
+     * Duration of safepoints, from {@code jdk.SafepointBegin} events.
+     */
+    SAFEPOINT("jdk.SafepointBegin", "Safepoint"),
+
+    /**
+     * Time spent waiting to enter a contended monitor, from {@code jdk.JavaMonitorEnter} events.
+     */
+    MONITOR_ENTER("jdk.JavaMonitorEnter", "Monitor"),
+
+    /**
+     * Time a virtual thread spent pinned to its carrier, from {@code jdk.VirtualThreadPinned} events.
+     */
+    PINNED("jdk.VirtualThreadPinned", "Pinned");
+
+    @NonNull
+    private final String event;
+    @NonNull
+    private final String label;
+
+    Metric(@NonNull String event, @NonNull String label) {
+      this.event = event;
+      this.label = label;
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdJfrStatusProvider} objects.
+   */
+  public static class Builder {
+
+    private Duration window = Duration.ofMinutes(1);
+    private Duration threshold = Duration.ofMillis(10);
+    private Duration cpuPeriod = Duration.ofSeconds(5);
+    private final Map<Metric, Duration> limits = new EnumMap<>(Metric.class);
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the duration of the rolling windows over which events are aggregated. Defaults to one minute.
+     *
+     * @param window the duration of the windows
+     * @return the same builder instance
+     */
+    public Builder window(@NonNull Duration window) {
+      requireNonNull(window, "Window must not be null");
+      if (window.isNegative() || window.isZero()) {
+        throw new IllegalArgumentException("Illegal value for window");
+      }
+      this.window = window;
+      return this;
+    }
+
+    /**
+     * Sets the minimum duration of safepoint, monitor contention and pinning events that are recorded. Defaults to 10 milliseconds.
+     *
+     * @param threshold the minimum duration of recorded events
+     * @return the same builder instance
+     */
+    public Builder threshold(@NonNull Duration threshold) {
+      requireNonNull(threshold, "Threshold must not be null");
+      if (threshold.isNegative()) {
+        throw new IllegalArgumentException("Illegal value for threshold");
+      }
+      this.threshold = threshold;
+      return this;
+    }
+
+    /**
+     * Sets the period of the CPU load sampling. Defaults to 5 seconds.
+     *
+     * @param cpuPeriod the period of the CPU load sampling
+     * @return the same builder instance
+     */
+    public Builder cpuPeriod(@NonNull Duration cpuPeriod) {
+      requireNonNull(cpuPeriod, "CPU period must not be null");
+      if (cpuPeriod.isNegative() || cpuPeriod.isZero()) {
+        throw new IllegalArgumentException("Illegal value for CPU period");
+      }
+      this.cpuPeriod = cpuPeriod;
+      return this;
+    }
+
+    /**
+     * Reports the application as unhealthy when the 99th percentile of the metric in the last window exceeds the limit.
+     *
+     * @param metric the metric to limit
+     * @param limit the maximum acceptable 99th percentile of the metric
+     * @return the same builder instance
+     */
+    public Builder unhealthyAbove(@NonNull Metric metric, @NonNull Duration limit) {
+      this.limits.put(requireNonNull(metric, "Metric must not be null"), requireNonNull(limit, "Limit must not be null"));
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdJfrStatusProvider} instance, and starts the underlying event stream.
+     *
+     * @return the instance built
+     * @throws IllegalStateException if JFR is not available in the running JVM
+     */
+    public SystemdJfrStatusProvider build() {
+      return new SystemdJfrStatusProvider(window, threshold, cpuPeriod, limits);
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of {@link HealthProvider} that reports the application as unhealthy when its request latency or error rate breaches a service level
+ * objective.
+ *
+ * <p>Requests are {@link #record(long, boolean) recorded} by the web layer into a lock-free, log-bucketed histogram aggregated over rolling windows. Recording
+ * a request never allocates nor locks. The application is reported as unhealthy when, in the last finished window, the 99th percentile of the latency exceeds
+ * the configured limit, or the fraction of failed requests exceeds the configured error rate. Windows with fewer requests than the configured minimum are
+ * considered healthy, as their percentiles are not significant.
+ *
+ * <p>The observed and configured values are provided in the {@link Health#details}. Wrap the instance in a {@code PendingHealthProvider} so that only a
+ * sustained breach of the objective suppresses the watchdog heartbeats.
+ *
+ * @author Joao Silva
+ * @see Systemd#addHealthProvider(HealthProvider)
+ */
+public class SystemdLatencyHealthProvider implements HealthProvider {
+
+  @NonNull
+  private final SystemdHistogram histogram;
+  @Nullable
+  private final Duration p99Limit;
+  private final double errorRateLimit;
+  private final long minRequests;
+
+  private SystemdLatencyHealthProvider(@NonNull Builder builder) {
+    this.histogram = new SystemdHistogram(builder.window.toNanos());
+    this.p99Limit = builder.p99Limit;
+    this.errorRateLimit = builder.errorRateLimit;
+    this.minRequests = builder.minRequests;
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdLatencyHealthProvider instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Records a request in the current window. Meant to be called on the hot path of the web layer, as it neither allocates nor locks.
+   *
+   * @param nanos the latency of the request, in nanoseconds
+   * @param error whether the request failed
+   */
+  public void record(long nanos, boolean error) {
+    histogram.record(nanos / 1000, error);
+  }
+
+  @Override
+  public Health health() {
+    SystemdHistogram.Snapshot snapshot = histogram.snapshot();
+    if (snapshot.count < minRequests) {
+      return Health.healthy();
+    }
+    Map<String, Object> details = new HashMap<>();
+    Duration p99 = Duration.ofNanos(snapshot.p99 * 1000);
+    if (p99Limit != null && p99.compareTo(p99Limit) > 0) {
+      details.put("latency.p99", p99);
+      details.put("latency.p99.limit", p99Limit);
+    }
+    double errorRate = (double) snapshot.flagged / snapshot.count;
+    if (errorRate > errorRateLimit) {
+      details.put("latency.errorRate", errorRate);
+      details.put("latency.errorRate.limit", errorRateLimit);
+    }
+    if (details.isEmpty()) {
+      return Health.healthy();
+    }
+    details.put("latency.requests", snapshot.count);
+    return new Health(false, details);
+  }
+
+  /**
+   * Returns the 99th percentile of the latency of the requests in the last finished window.
+   *
+   * @return the 99th percentile of the latency, in microseconds
+   */
+  public long getP99Micros() {
+    return histogram.snapshot().p99;
+  }
+
+  /**
+   * Returns the number of requests in the last finished window.
+   *
+   * @return the number of requests
+   */
+  public long getRequests() {
+    return histogram.snapshot().count;
+  }
+
+  /**
+   * Returns the number of failed requests in the last finished window.
+   *
+   * @return the number of failed requests
+   */
+  public long getErrors() {
+    return histogram.snapshot().flagged;
+  }
+
+  /**
+   * Specialized build class of {@link SystemdLatencyHealthProvider} objects.
+   */
+  public static class Builder {
+
+    private Duration window = Duration.ofMinutes(1);
+    @Nullable
+    private Duration p99Limit;
+    private double errorRateLimit = 1;
+    private long minRequests = 100;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the duration of the rolling windows over which requests are aggregated. Defaults to one minute.
+     *
+     * @param window the duration of the windows
+     * @return the same builder instance
+     */
+    public Builder window(@NonNull Duration window) {
+      requireNonNull(window, "Window must not be null");
+      if (window.isNegative() || window.isZero()) {
+        throw new IllegalArgumentException("Illegal value for window");
+      }
+      this.window = window;
+      return this;
+    }
+
+    /**
+     * Reports the application as unhealthy when the 99th percentile of the latency in the last window exceeds the limit. Not limited by default.
+     *
+     * @param p99Limit the maximum acceptable 99th percentile of the latency
+     * @return the same builder instance
+     */
+    public Builder p99Limit(@NonNull Duration p99Limit) {
+      requireNonNull(p99Limit, "P99 limit must not be null");
+      if (p99Limit.isNegative() || p99Limit.isZero()) {
+        throw new IllegalArgumentException("Illegal value for p99 limit");
+      }
+      this.p99Limit = p99Limit;
+      return this;
+    }
+
+    /**
+     * Reports the application as unhealthy when the fraction of failed requests in the last window exceeds the limit. Not limited by default.
+     *
+     * @param errorRateLimit the maximum acceptable fraction of failed requests, between 0 (inclusive) and 1 (exclusive)
+     * @return the same builder instance
+     */
+    public Builder errorRateLimit(double errorRateLimit) {
+      if (errorRateLimit < 0 || errorRateLimit >= 1) {
+        throw new IllegalArgumentException("Illegal value for error rate limit");
+      }
+      this.errorRateLimit = errorRateLimit;
+      return this;
+    }
+
+    /**
+     * Sets the minimum number of requests in a window for the objective to be evaluated. Defaults to 100.
+     *
+     * @param minRequests the minimum number of requests
+     * @return the same builder instance
+     */
+    public Builder minRequests(long minRequests) {
+      if (minRequests < 0) {
+        throw new IllegalArgumentException("Illegal value for min requests");
+      }
+      this.minRequests = minRequests;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdLatencyHealthProvider} instance.
+     *
+     * @return the instance built
+     */
+    public SystemdLatencyHealthProvider build() {
+      return new SystemdLatencyHealthProvider(this);
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Registry of the numeric values of the systemd integration, published by {@link SystemdStats} and {@link SystemdPrometheusExporter}.
+ *
+ * <p>Values are gauges, registered with {@link #gauge(String, String, LongSupplier)} and evaluated by the publishers when they need them. The registry
+ * comes with the heap, non-heap, class loading, thread and garbage collection gauges of the JVM, and with the outcome of the last watchdog heartbeat, when
+ * registered through {@link Systemd#addWatchdogListeners(SystemdWatchdogListener...)}.
+ *
+ * @author Joao Silva
+ * @see Systemd#addWatchdogListeners(SystemdWatchdogListener...)
+ */
+public class SystemdMetrics implements SystemdWatchdogListener {
+
+  /**
+   * The maximum length of the name of a gauge.
+   */
+  public static final int MAX_NAME_LENGTH = 47;
+
+  @NonNull
+  private final List<Gauge> gauges = new CopyOnWriteArrayList<>();
+  @NonNull
+  private final List<Gauge> view = Collections.unmodifiableList(gauges);
+  @NonNull
+  private final LongAdder heartbeats = new LongAdder();
+  @NonNull
+  private final LongAdder suppressed = new LongAdder();
+  private volatile boolean healthy = true;
+  private volatile long sinceLast;
+  private volatile long margin;
+
+  /**
+   * Create a new SystemdMetrics, with the gauges of the JVM and of the watchdog.
+   */
+  public SystemdMetrics() {
+    final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    final ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    gauge("jvm.heap.used", "bytes", () -> memory.getHeapMemoryUsage().getUsed());
+    gauge("jvm.heap.committed", "bytes", () -> memory.getHeapMemoryUsage().getCommitted());
+    gauge("jvm.heap.max", "bytes", () -> memory.getHeapMemoryUsage().getMax());
+    gauge("jvm.nonheap.used", "bytes", () -> memory.getNonHeapMemoryUsage().getUsed());
+    gauge("jvm.nonheap.committed", "bytes", () -> memory.getNonHeapMemoryUsage().getCommitted());
+    gauge("jvm.classes.loaded", "count", classes::getLoadedClassCount);
+    gauge("jvm.threads.live", "count", threads::getThreadCount);
+    final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    gauge("jvm.gc.count", "count", () -> sum(collectors, GarbageCollectorMXBean::getCollectionCount));
+    gauge("jvm.gc.time", "ms", () -> sum(collectors, GarbageCollectorMXBean::getCollectionTime));
+    gauge("systemd.healthy", "bool", () -> healthy ? 1 : 0);
+    gauge("systemd.watchdog.since_last", "ns", () -> sinceLast);
+    gauge("systemd.watchdog.margin", "ns", () -> margin);
+  }
+
+  private static long sum(@NonNull List<GarbageCollectorMXBean> collectors, @NonNull ToLongFunction<GarbageCollectorMXBean> value) {
+    long sum = 0;
+    for (GarbageCollectorMXBean collector : collectors) {
+      // undefined values are negative
+      sum += Math.max(value.applyAsLong(collector), 0);
+    }
+    return sum;
+  }
+
+  /**
+   * Registers a gauge.
+   *
+   * <p>Gauges are evaluated on the threads of the publishers, so they are expected to return quickly.
+   *
+   * @param name the name of the gauge, made of ASCII letters, digits, dots and underscores, at most {@link #MAX_NAME_LENGTH} characters long
+   * @param unit the unit of the value, such as {@code bytes}, {@code count}, {@code ms} or {@code ns}, in ASCII letters, at most 7 characters long
+   * @param value the supplier of the value
+   */
+  public void gauge(@NonNull String name, @NonNull String unit, @NonNull LongSupplier value) {
+    gauges.add(new Gauge(name, unit, value));
+  }
+
+  /**
+   * Turns a free form text, such as a bean name, into a segment of a valid gauge name. Characters not allowed in gauge names are replaced by underscores, and
+   * the text is truncated to the given length.
+   *
+   * @param text the free form text
+   * @param maxLength the maximum length of the segment, such as {@link #MAX_NAME_LENGTH} minus the length of the rest of the name
+   * @return the segment
+   */
+  public static @NonNull String segment(@NonNull String text, int maxLength) {
+    requireNonNull(text, "Text must not be null");
+    if (maxLength < 1) {
+      throw new IllegalArgumentException("Illegal value for max length");
+    }
+    StringBuilder segment = new StringBuilder(Math.min(text.length(), maxLength));
+    for (int i = 0; i < text.length() && i < maxLength; i++) {
+      char c = text.charAt(i);
+      segment.append(Gauge.isLetterOrDigit(c) || c == '.' || c == '_' ? c : '_');
+    }
+    return segment.toString();
+  }
+
+  /**
+   * Returns a read only view of the gauges, in registration order.
+   *
+   * @return the gauges
+   */
+  public @NonNull List<Gauge> getGauges() {
+    return view;
+  }
+
+  /**
+   * Returns the number of watchdog heartbeats sent.
+   *
+   * @return the number of heartbeats sent
+   */
+  public long getHeartbeats() {
+    return heartbeats.sum();
+  }
+
+  /**
+   * Returns the number of watchdog heartbeats suppressed because the application was unhealthy.
+   *
+   * @return the number of heartbeats suppressed
+   */
+  public long getSuppressed() {
+    return suppressed.sum();
+  }
+
+  @Override
+  public void heartbeat(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    heartbeats.increment();
+    record(true, sinceLast, timeout);
+  }
+
+  @Override
+  public void suppressed(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    suppressed.increment();
+    record(false, sinceLast, timeout);
+  }
+
+  private void record(boolean healthy, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    this.healthy = healthy;
+    this.sinceLast = sinceLast.toNanos();
+    this.margin = timeout.isZero() ? 0 : timeout.toNanos() - sinceLast.toNanos();
+  }
+
+  /**
+   * Gauge registered in a {@link SystemdMetrics}.
+   */
+  public static final class Gauge {
+
+    private static final int MAX_UNIT_LENGTH = 7;
+
+    @NonNull
+    private final String name;
+    @NonNull
+    private final String unit;
+    @NonNull
+    private final LongSupplier value;
+
+    private Gauge(@NonNull String name, @NonNull String unit, @NonNull LongSupplier value) {
+      this.name = requireNonNull(name, "Name must not be null");
+      this.unit = requireNonNull(unit, "Unit must not be null");
+      this.value = requireNonNull(value, "Value must not be null");
+      if (name.isEmpty() || name.length() > MAX_NAME_LENGTH || !name.chars().allMatch(c -> isLetterOrDigit(c) || c == '.' || c == '_')) {
+        throw new IllegalArgumentException("Illegal value for name: " + name);
+      }
+      if (unit.isEmpty() || unit.length() > MAX_UNIT_LENGTH || !unit.chars().allMatch(Gauge::isLetterOrDigit)) {
+        throw new IllegalArgumentException("Illegal value for unit: " + unit);
+      }
+    }
+
+    private static boolean isLetterOrDigit(int c) {
+      return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns the name of the gauge.
+     *
+     * @return the name of the gauge
+     */
+    public @NonNull String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the unit of the value of the gauge.
+     *
+     * @return the unit of the value
+     */
+    public @NonNull String getUnit() {
+      return unit;
+    }
+
+    /**
+     * Evaluates the gauge.
+     *
+     * @return the current value
+     */
+    public long getAsLong() {
+      return value.getAsLong();
+    }
+
+    byte @NonNull [] nameBytes() {
+      return name.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    byte @NonNull [] unitBytes() {
+      return unit.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+      return "Gauge{name=" + name + ", unit=" + unit + '}';
+    }
+  }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static com.github.jpmsilva.jsystemd.SystemdUtilities.formatByteCount;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} that provides information regarding the native memory of the process, which the heap and non-heap providers
+ * do not cover.
+ *
+ * <p>The status is shown in the form {@code Native: 1.2 GiB RSS, 64 MiB direct, 10 MiB mapped, 300 MiB unaccounted}, where:
+ * <ul>
+ *   <li>RSS is the resident set size of the process, read from {@code /proc/self/status}</li>
+ *   <li>direct and mapped are the memory used by direct and mapped byte buffers, read from the {@link BufferPoolMXBean}s</li>
+ *   <li>unaccounted is the resident memory that the JVM does not account for, such as memory allocated by native libraries, or lost to malloc
+ *   fragmentation</li>
+ * </ul>
+ *
+ * <p>When Native Memory Tracking is enabled, with {@code -XX:NativeMemoryTracking=summary}, the memory committed by the JVM is read from its summary, through
+ * the {@code DiagnosticCommand} MBean, at most once per NMT interval, and is also shown. Unaccounted memory is then the resident memory not committed by the
+ * JVM nor used by mapped buffers. Otherwise, it is the resident memory not committed to the heap and non-heap pools nor used by buffers, so it also includes
+ * thread stacks and the internal structures of the JVM. Committed memory is not necessarily resident, so unaccounted memory is a lower bound, and is reported
+ * as 0 when negative. Growing unaccounted memory is the sign of a native leak.
+ *
+ * <p>{@code /proc/self/status} is kept open and read into a reused buffer, so that the status update does not allocate beyond formatting. RSS is only
+ * available on Linux.
+ *
+ * @author Joao Silva
+ * @see BufferPoolMXBean
+ */
+@Order(-1500)
+public class SystemdNativeMemoryStatusProvider implements SystemdStatusProvider, AutoCloseable {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+
+  private static final byte[] RSS_KEY = "VmRSS:".getBytes(StandardCharsets.US_ASCII);
+  private static final Pattern NMT_TOTAL = Pattern.compile("Total: reserved=(\\d+)KB, committed=(\\d+)KB");
+  private static final String[] NMT_SIGNATURE = {String[].class.getName()};
+
+  @NonNull
+  private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+  @Nullable
+  private final BufferPoolMXBean direct;
+  @Nullable
+  private final BufferPoolMXBean mapped;
+  @NonNull
+  private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+  @Nullable
+  private FileChannel procStatus;
+  private final long nmtIntervalNanos;
+  private boolean nmtEnabled = true;
+  private long nmtTime;
+  private long nmtCommitted = -1;
+
+  private SystemdNativeMemoryStatusProvider(@NonNull Duration nmtInterval) {
+    this.nmtIntervalNanos = nmtInterval.toNanos();
+    this.nmtTime = System.nanoTime() - nmtIntervalNanos;
+    List<BufferPoolMXBean> pools = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
+    this.direct = pools.stream().filter(pool -> "direct".equals(pool.getName())).findFirst().orElse(null);
+    this.mapped = pools.stream().filter(pool -> "mapped".equals(pool.getName())).findFirst().orElse(null);
+    if (SystemdUtilities.isLinux()) {
+      try {
+        procStatus = FileChannel.open(Path.of("/proc/self/status"));
+      } catch (IOException e) {
+        logger.debug("Could not open /proc/self/status, resident set size will not be reported", e);
+      }
+    }
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdNativeMemoryStatusProvider instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public synchronized @NonNull String status() {
+    long rss = getResidentSetSize();
+    StringJoiner joiner = new StringJoiner(", ", "Native: ", "");
+    if (rss >= 0) {
+      joiner.add(formatByteCount(rss) + " RSS");
+    }
+    joiner.add(formatByteCount(getDirectMemory()) + " direct");
+    joiner.add(formatByteCount(getMappedMemory()) + " mapped");
+    long committed = readNmtCommitted();
+    if (committed >= 0) {
+      joiner.add(formatByteCount(committed) + " NMT");
+    }
+    if (rss >= 0) {
+      joiner.add(formatByteCount(unaccounted(rss, committed)) + " unaccounted");
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Returns the resident set size of the process, or -1 if unknown.
+   *
+   * @return the resident set size, in bytes
+   */
+  public synchronized long getResidentSetSize() {
+    FileChannel channel = procStatus;
+    if (channel == null) {
+      return -1;
+    }
+    buffer.clear();
+    try {
+      // procfs may return the file in several chunks
+      int read;
+      do {
+        read = channel.read(buffer, buffer.position());
+      } while (read > 0 && buffer.hasRemaining());
+    } catch (IOException e) {
+      logger.debug("Could not read /proc/self/status", e);
+      return -1;
+    }
+    long kb = parseValue(buffer, RSS_KEY);
+    return kb < 0 ? -1 : kb * 1024;
+  }
+
+  /**
+   * Returns the memory used by direct byte buffers.
+   *
+   * @return the memory used, in bytes
+   */
+  public long getDirectMemory() {
+    return direct == null ? 0 : Math.max(0, direct.getMemoryUsed());
+  }
+
+  /**
+   * Returns the memory used by mapped byte buffers.
+   *
+   * @return the memory used, in bytes
+   */
+  public long getMappedMemory() {
+    return mapped == null ? 0 : Math.max(0, mapped.getMemoryUsed());
+  }
+
+  /**
+   * Returns the resident memory that the JVM does not account for, or -1 if the resident set size is unknown.
+   *
+   * @return the unaccounted memory, in bytes
+   */
+  public synchronized long getUnaccountedMemory() {
+    long rss = getResidentSetSize();
+    return rss < 0 ? -1 : unaccounted(rss, readNmtCommitted());
+  }
+
+  private long unaccounted(long rss, long nmtCommitted) {
+    long accounted;
+    if (nmtCommitted >= 0) {
+      // NMT covers direct buffers, but not mapped files
+      accounted = nmtCommitted + getMappedMemory();
+    } else {
+      accounted = memory.getHeapMemoryUsage().getCommitted() + memory.getNonHeapMemoryUsage().getCommitted() + getDirectMemory() + getMappedMemory();
+    }
+    return Math.max(0, rss - accounted);
+  }
+
+  private long readNmtCommitted() {
+    long now = System.nanoTime();
+    if (!nmtEnabled || now - nmtTime < nmtIntervalNanos) {
+      return nmtCommitted;
+    }
+    nmtTime = now;
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      Object summary = server.invoke(new ObjectName("com.sun.management:type=DiagnosticCommand"), "vmNativeMemory", new Object[]{new String[]{"summary"}},
+          NMT_SIGNATURE);
+      Matcher matcher = NMT_TOTAL.matcher(String.valueOf(summary));
+      if (matcher.find()) {
+        nmtCommitted = Long.parseLong(matcher.group(2)) * 1024;
+      } else {
+        // not enabled in this JVM, which cannot be changed at runtime
+        logger.debug("Native memory tracking is not enabled");
+        nmtEnabled = false;
+      }
+    } catch (JMException | RuntimeException e) {
+      logger.debug("Could not read native memory tracking summary", e);
+      nmtEnabled = false;
+    }
+    return nmtCommitted;
+  }
+
+  private static long parseValue(@NonNull ByteBuffer buffer, byte @NonNull [] key) {
+    int limit = buffer.position();
+    byte[] bytes = buffer.array();
+    for (int i = 0; i <= limit - key.length; i++) {
+      if ((i == 0 || bytes[i - 1] == '\n') && startsWith(bytes, i, key)) {
+        long value = -1;
+        for (int k = i + key.length; k < limit && bytes[k] != '\n'; k++) {
+          if (bytes[k] >= '0' && bytes[k] <= '9') {
+            value = Math.max(value, 0) * 10 + bytes[k] - '0';
+          }
+        }
+        return value;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean startsWith(byte @NonNull [] bytes, int offset, byte @NonNull [] key) {
+    for (int j = 0; j < key.length; j++) {
+      if (bytes[offset + j] != key[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Closes {@code /proc/self/status}.
+   */
+  @Override
+  public synchronized void close() {
+    if (procStatus != null) {
+      try {
+        procStatus.close();
+      } catch (IOException e) {
+        logger.debug("Could not close /proc/self/status", e);
+      }
+      procStatus = null;
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdNativeMemoryStatusProvider} objects.
+   */
+  public static class Builder {
+
+    private Duration nmtInterval = Duration.ofMinutes(1);
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the minimum interval between two reads of the Native Memory Tracking summary, which are relatively expensive. Defaults to one minute.
+     *
+     * @param nmtInterval the minimum interval between reads
+     * @return the same builder instance
+     */
+    public Builder nmtInterval(@NonNull Duration nmtInterval) {
+      requireNonNull(nmtInterval, "NMT interval must not be null");
+      if (nmtInterval.isNegative()) {
+        throw new IllegalArgumentException("Illegal value for NMT interval");
+      }
+      this.nmtInterval = nmtInterval;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdNativeMemoryStatusProvider} instance.
+     *
+     * @return the instance built
+     */
+    public SystemdNativeMemoryStatusProvider build() {
+      return new SystemdNativeMemoryStatusProvider(nmtInterval);
+    }
+  }
+}
@@ -18,13 +18,21 @@ package com.github.jpmsilva.jsystemd;
 
 import static com.github.jpmsilva.jsystemd.SystemdUtilities.hasNotifySocket;
 import static com.github.jpmsilva.jsystemd.SystemdUtilities.isLinux;
+import static com.github.jpmsilva.jsystemd.SystemdUtilities.isNativeImage;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.Objects.requireNonNull;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.sun.jna.Function;
 import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
 import java.net.UnixDomainSocketAddress;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 
 /**
@@ -37,6 +45,26 @@ public class SystemdNotify {
 
   private static final Logger logger = getLogger(lookup().lookupClass());
 
+  @NonNull
+  private static final Map<String, Counter> counters = createCounters("READY", "STATUS", "EXTEND_TIMEOUT_USEC", "WATCHDOG", "WATCHDOG_USEC", "STOPPING");
+
+  private static @NonNull Map<String, Counter> createCounters(@NonNull String... types) {
+    Map<String, Counter> counters = new LinkedHashMap<>();
+    for (String type : types) {
+      counters.put(type, new Counter());
+    }
+    return Collections.unmodifiableMap(counters);
+  }
+
+  /**
+   * Returns the counters of the notifications sent to systemd, per type of message, such as {@code STATUS} or {@code WATCHDOG}.
+   *
+   * @return a read only view of the counters, in a stable order
+   */
+  public static @NonNull Map<String, Counter> counters() {
+    return counters;
+  }
+
   /**
    * Allows knowing if this library is usable under current execution conditions (operating system type, systemd available, etc...).
    *
@@ -54,7 +82,7 @@ public class SystemdNotify {
   static void ready() {
     if (usable()) {
       logger.info("Notifying systemd that service is ready");
-      invoke("READY=1");
+      invoke("READY", "READY=1");
     }
   }
 
@@ -66,7 +94,7 @@ public class SystemdNotify {
   static void status(@NonNull String message) {
     if (usable()) {
       logger.debug("Notifying systemd that service status is {}", requireNonNull(message, "Message must not be null"));
-      invoke("STATUS=" + message);
+      invoke("STATUS", "STATUS=" + message);
     }
   }
 
@@ -79,7 +107,7 @@ public class SystemdNotify {
   static void extendTimeout(long timeout) {
     if (usable()) {
       logger.debug("Extending startup timeout with {} microseconds", timeout);
-      invoke("EXTEND_TIMEOUT_USEC=" + timeout);
+      invoke("EXTEND_TIMEOUT_USEC", "EXTEND_TIMEOUT_USEC=" + timeout);
     }
   }
 
@@ -91,7 +119,19 @@ public class SystemdNotify {
   static void watchdog() {
     if (usable()) {
       logger.debug("Updating watchdog timestamp");
-      invoke("WATCHDOG=1");
+      invoke("WATCHDOG", "WATCHDOG=1");
+    }
+  }
+
+  /**
+   * Notifies systemd to reset the watchdog timeout to the specified microseconds. Like a heartbeat, this restarts the watchdog timer of systemd.
+   *
+   * @see <a href="https://www.freedesktop.org/software/systemd/man/sd_notify.html#WATCHDOG_USEC=%E2%80%A6">watchdog timeout</a>
+   */
+  static void watchdogTimeout(long timeout) {
+    if (usable()) {
+      logger.debug("Resetting watchdog timeout to {} microseconds", timeout);
+      invoke("WATCHDOG_USEC", "WATCHDOG_USEC=" + timeout);
     }
   }
 
@@ -103,18 +143,21 @@ public class SystemdNotify {
   static void stopping() {
     if (usable()) {
       logger.info("Notifying systemd that service is stopping");
-      invoke("STOPPING=1");
+      invoke("STOPPING", "STOPPING=1");
     }
   }
 
   /**
    * Low level method that sends the {@code sd_notify} formatted message to systemd.
    *
+   * @param type the type of the message, used to account for it
    * @param message the message to send, according to <a href="https://www.freedesktop.org/software/systemd/man/sd_notify.html#Description">specification</a>
    */
-  private static void invoke(String message) {
+  private static void invoke(@NonNull String type, String message) {
     if (usable() && message != null && !message.isEmpty()) {
-      Library.sd_notify(0, message);
+      long start = System.nanoTime();
+      int result = Library.notify(message);
+      counters.get(type).record(System.nanoTime() - start, result >= 0);
     }
   }
 
@@ -140,22 +183,85 @@ public class SystemdNotify {
   public static void close() {
   }
 
+  /**
+   * Counters of the notifications of one type sent to systemd.
+   */
+  public static final class Counter {
+
+    @NonNull
+    private final LongAdder sent = new LongAdder();
+    @NonNull
+    private final LongAdder failed = new LongAdder();
+    @NonNull
+    private final LongAdder nanos = new LongAdder();
+
+    private Counter() {
+    }
+
+    private void record(long duration, boolean success) {
+      sent.increment();
+      nanos.add(duration);
+      if (!success) {
+        failed.increment();
+      }
+    }
+
+    /**
+     * Returns the number of notifications sent, including failed ones.
+     *
+     * @return the number of notifications sent
+     */
+    public long getSent() {
+      return sent.sum();
+    }
+
+    /**
+     * Returns the number of notifications that {@code sd_notify} failed to send.
+     *
+     * @return the number of failed notifications
+     */
+    public long getFailed() {
+      return failed.sum();
+    }
+
+    /**
+     * Returns the total time spent sending notifications.
+     *
+     * @return the total time, in nanoseconds
+     */
+    public long getNanos() {
+      return nanos.sum();
+    }
+  }
+
   @SuppressWarnings("checkstyle:EmptyCatchBlock")
   private static class Library {
 
     private static boolean initialized = false;
+    @Nullable
+    private static Function function;
 
     static {
       if (isLinux() && hasNotifySocket()) {
         try {
-          Native.register("systemd");
+          if (isNativeImage()) {
+            // direct mapping needs reflection and JNI metadata for this class, so native images call sd_notify through a function lookup instead
+            function = NativeLibrary.getInstance("systemd").getFunction("sd_notify");
+          } else {
+            Native.register("systemd");
+          }
           initialized = true;
         } catch (UnsatisfiedLinkError ignored) {
         }
       }
     }
 
-    @SuppressWarnings({"UnusedReturnValue", "checkstyle:ParameterName", "checkstyle:MethodName"})
+    private static int notify(@NonNull String state) {
+      Function function = Library.function;
+      return function != null ? function.invokeInt(new Object[]{0, state}) : sd_notify(0, state);
+    }
+
+    @SuppressWarnings({"checkstyle:ParameterName", "checkstyle:MethodName"})
     public static native int sd_notify(int unset_environment, String state);
   }
 }
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.github.jpmsilva.jsystemd.SystemdMetrics.Gauge;
+import com.github.jpmsilva.jsystemd.SystemdNotify.Counter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.CopyOption;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Implementation of {@link SystemdStatusListener} that exports the metrics of the systemd integration to a file, for the textfile collector of the
+ * Prometheus node exporter.
+ *
+ * <p>On every status update, the file is written with:
+ * <ul>
+ *   <li>every gauge of the {@link SystemdMetrics}, in base units: values in {@code bytes} are suffixed with {@code _bytes}, and values in {@code ns},
+ *   {@code us} and {@code ms} are converted to seconds</li>
+ *   <li>the number of watchdog heartbeats sent and suppressed</li>
+ *   <li>the number of notifications sent to systemd, the number of failed ones, and the time spent sending them, per type of message</li>
+ * </ul>
+ *
+ * <p>The file is written to a temporary file first, then renamed, so the collector never reads a partial file. The output uses the subset of the OpenMetrics
+ * format that the text parser of the collector understands, and is rendered in a buffer reused across updates: exporting allocates nothing beyond what the
+ * JDK needs to open and rename the file.
+ *
+ * @author Joao Silva
+ * @see Systemd#addStatusListeners(SystemdStatusListener...)
+ * @see <a href="https://github.com/prometheus/node_exporter#textfile-collector">Textfile collector</a>
+ */
+public class SystemdPrometheusExporter implements SystemdStatusListener {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+  private static final OpenOption[] WRITE = {StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE};
+  private static final CopyOption[] MOVE = {StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING};
+  private static final byte[] EOF = utf8("# EOF\n");
+
+  @NonNull
+  private final SystemdMetrics metrics;
+  @NonNull
+  private final Path file;
+  @NonNull
+  private final Path temporary;
+  @NonNull
+  private final String prefix;
+  @NonNull
+  private final String labels;
+  @NonNull
+  private final List<Sample> gauges = new ArrayList<>();
+  @NonNull
+  private final Counter[] counters = SystemdNotify.counters().values().toArray(new Counter[0]);
+  @NonNull
+  private final List<Sample[]> notifications = new ArrayList<>();
+  @NonNull
+  private final Sample heartbeats;
+  @NonNull
+  private final Sample suppressed;
+  private final byte @NonNull [] digits = new byte[20];
+  private byte @NonNull [] buffer = new byte[8192];
+  @NonNull
+  private ByteBuffer output = ByteBuffer.wrap(buffer);
+  private int position;
+
+  private SystemdPrometheusExporter(@NonNull Builder builder) {
+    this.metrics = builder.metrics;
+    this.file = builder.directory.resolve(builder.fileName);
+    // the collector only reads files ending in .prom
+    this.temporary = builder.directory.resolve("." + builder.fileName + ".tmp");
+    this.prefix = builder.prefix;
+    StringBuilder labels = new StringBuilder();
+    builder.labels.forEach((name, value) -> labels.append(labels.length() == 0 ? "" : ",").append(name).append("=\"").append(escape(value)).append('"'));
+    this.labels = labels.toString();
+    this.heartbeats = new Sample(prefix + "_watchdog_heartbeats_total", "counter", "", 0);
+    this.suppressed = new Sample(prefix + "_watchdog_suppressed_total", "counter", "", 0);
+    boolean first = true;
+    for (String type : SystemdNotify.counters().keySet()) {
+      String label = "type=\"" + type + "\"";
+      notifications.add(new Sample[]{
+          new Sample(prefix + "_notify_sent_total", first ? "counter" : null, label, 0),
+          new Sample(prefix + "_notify_failed_total", first ? "counter" : null, label, 0),
+          new Sample(prefix + "_notify_duration_seconds_total", first ? "counter" : null, label, 9)});
+      first = false;
+    }
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdPrometheusExporter instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public void statusUpdated(@NonNull String status) {
+    try {
+      export();
+    } catch (IOException e) {
+      logger.warn("Could not export metrics to {}", file, e);
+    }
+  }
+
+  /**
+   * Renders the metrics, and replaces the file with them.
+   *
+   * @throws IOException if the file could not be written
+   */
+  public synchronized void export() throws IOException {
+    render();
+    output.clear().limit(position);
+    try (FileChannel channel = FileChannel.open(temporary, WRITE)) {
+      while (output.hasRemaining()) {
+        channel.write(output);
+      }
+    }
+    Files.move(temporary, file, MOVE);
+  }
+
+  private void render() {
+    position = 0;
+    List<Gauge> registered = metrics.getGauges();
+    for (int i = gauges.size(); i < registered.size(); i++) {
+      gauges.add(sample(registered.get(i)));
+    }
+    for (int i = 0; i < gauges.size(); i++) {
+      try {
+        gauges.get(i).write(registered.get(i).getAsLong());
+      } catch (RuntimeException e) {
+        logger.debug("Could not evaluate gauge {}", registered.get(i), e);
+      }
+    }
+    heartbeats.write(metrics.getHeartbeats());
+    suppressed.write(metrics.getSuppressed());
+    for (int column = 0; column < 3; column++) {
+      for (int i = 0; i < counters.length; i++) {
+        Counter counter = counters[i];
+        notifications.get(i)[column].write(column == 0 ? counter.getSent() : column == 1 ? counter.getFailed() : counter.getNanos());
+      }
+    }
+    write(EOF);
+  }
+
+  private @NonNull Sample sample(@NonNull Gauge gauge) {
+    String name = prefix + "_" + gauge.getName().replace('.', '_');
+    return switch (gauge.getUnit()) {
+      case "bytes" -> new Sample(name + "_bytes", "gauge", "", 0);
+      case "ns" -> new Sample(name + "_seconds", "gauge", "", 9);
+      case "us" -> new Sample(name + "_seconds", "gauge", "", 6);
+      case "ms" -> new Sample(name + "_seconds", "gauge", "", 3);
+      default -> new Sample(name, "gauge", "", 0);
+    };
+  }
+
+  private void write(byte @NonNull [] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  private void write(long value, int scale) {
+    ensureCapacity(digits.length + 3);
+    if (value < 0) {
+      buffer[position++] = '-';
+    }
+    // negative remainders keep Long.MIN_VALUE exact
+    long remaining = value < 0 ? value : -value;
+    int count = 0;
+    do {
+      digits[count++] = (byte) ('0' - remaining % 10);
+      remaining /= 10;
+    } while (remaining != 0 || count <= scale);
+    while (count > 0) {
+      if (count == scale) {
+        buffer[position++] = '.';
+      }
+      buffer[position++] = digits[--count];
+    }
+  }
+
+  private void ensureCapacity(int length) {
+    if (position + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+      output = ByteBuffer.wrap(buffer);
+    }
+  }
+
+  private static @NonNull String escape(@NonNull String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static byte @NonNull [] utf8(@NonNull String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Sample of a metric, with its metadata and labels rendered once.
+   */
+  private final class Sample {
+
+    private final byte @NonNull [] header;
+    private final byte @NonNull [] prefix;
+    private final int scale;
+
+    /**
+     * Creates a new sample.
+     *
+     * @param name the name of the metric
+     * @param type the type of the metric, or <code>null</code> if the sample is not the first of its family
+     * @param label the labels specific to the sample
+     * @param scale the number of decimal places of the values, which are divided by ten to the power of the scale
+     */
+    private Sample(@NonNull String name, @Nullable String type, @NonNull String label, int scale) {
+      this.header = type == null ? new byte[0] : utf8("# TYPE " + name + " " + type + "\n");
+      String all = label.isEmpty() ? labels : labels.isEmpty() ? label : label + "," + labels;
+      this.prefix = utf8(name + (all.isEmpty() ? "" : "{" + all + "}") + " ");
+      this.scale = scale;
+    }
+
+    private void write(long value) {
+      SystemdPrometheusExporter.this.write(header);
+      SystemdPrometheusExporter.this.write(prefix);
+      SystemdPrometheusExporter.this.write(value, scale);
+      buffer[position++] = '\n';
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdPrometheusExporter} objects.
+   */
+  public static class Builder {
+
+    @Nullable
+    private Path directory;
+    @NonNull
+    private String fileName = "jsystemd.prom";
+    @NonNull
+    private String prefix = "jsystemd";
+    @NonNull
+    private final Map<String, String> labels = new LinkedHashMap<>();
+    @NonNull
+    private SystemdMetrics metrics = new SystemdMetrics();
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the directory the textfile collector reads, typically given by its {@code --collector.textfile.directory} option. Mandatory.
+     *
+     * @param directory the directory to write the file to
+     * @return the same builder instance
+     */
+    public Builder directory(@NonNull Path directory) {
+      this.directory = requireNonNull(directory, "Directory must not be null");
+      return this;
+    }
+
+    /**
+     * Sets the name of the file, which must be unique among the services of the host. Defaults to {@code jsystemd.prom}.
+     *
+     * @param fileName the name of the file, ending in {@code .prom}
+     * @return the same builder instance
+     */
+    public Builder fileName(@NonNull String fileName) {
+      requireNonNull(fileName, "File name must not be null");
+      if (!fileName.endsWith(".prom") || fileName.contains("/")) {
+        throw new IllegalArgumentException("Illegal value for file name");
+      }
+      this.fileName = fileName;
+      return this;
+    }
+
+    /**
+     * Sets the prefix of the names of the metrics. Defaults to {@code jsystemd}.
+     *
+     * @param prefix the prefix of the names of the metrics
+     * @return the same builder instance
+     */
+    public Builder prefix(@NonNull String prefix) {
+      requireNonNull(prefix, "Prefix must not be null");
+      if (!prefix.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+        throw new IllegalArgumentException("Illegal value for prefix");
+      }
+      this.prefix = prefix;
+      return this;
+    }
+
+    /**
+     * Adds a label to every metric, such as the name of the service, to tell apart the metrics of the services of the host.
+     *
+     * @param name the name of the label
+     * @param value the value of the label
+     * @return the same builder instance
+     */
+    public Builder label(@NonNull String name, @NonNull String value) {
+      requireNonNull(name, "Name must not be null");
+      requireNonNull(value, "Value must not be null");
+      if (!name.matches("[a-zA-Z_][a-zA-Z0-9_]*") || "type".equals(name)) {
+        throw new IllegalArgumentException("Illegal value for label name: " + name);
+      }
+      labels.put(name, value);
+      return this;
+    }
+
+    /**
+     * Sets the metrics whose gauges are exported. Defaults to a new {@link SystemdMetrics}, with the gauges of the JVM only.
+     *
+     * @param metrics the metrics to export
+     * @return the same builder instance
+     */
+    public Builder metrics(@NonNull SystemdMetrics metrics) {
+      this.metrics = requireNonNull(metrics, "Metrics must not be null");
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdPrometheusExporter} instance.
+     *
+     * @return the instance built
+     */
+    public SystemdPrometheusExporter build() {
+      if (directory == null) {
+        throw new IllegalStateException("Directory must be set");
+      }
+      return new SystemdPrometheusExporter(this);
+    }
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Publishes live numeric statistics of the process in a fixed layout memory-mapped file, similar to the {@code hsperfdata} files of the JVM.
+ *
+ * <p>The status line sent to systemd is lossy, text only, and reading it requires a D-Bus round trip. The statistics file, by default
+ * {@code $RUNTIME_DIRECTORY/jsystemd.stats}, can instead be sampled by external agents at any frequency, without any system call or cooperation from the JVM.
+ *
+ * <p>Values are the gauges of a {@link SystemdMetrics}, evaluated periodically by a dedicated thread. The file holds a 64 bytes header followed by up to
+ * {@code capacity} entries of 64 bytes each. All numbers are little endian, and 64-bit numbers are naturally aligned:
+ *
+ * <table>
+ *   <caption>Header</caption>
+ *   <tr><th>Offset</th><th>Type</th><th>Content</th></tr>
+ *   <tr><td>0</td><td>char[8]</td><td>magic, {@code JSYSSTAT}</td></tr>
+ *   <tr><td>8</td><td>int32</td><td>layout version, currently 1</td></tr>
+ *   <tr><td>12</td><td>int32</td><td>number of entries in use</td></tr>
+ *   <tr><td>16</td><td>int64</td><td>process id</td></tr>
+ *   <tr><td>24</td><td>int64</td><td>process start time, in milliseconds since the epoch</td></tr>
+ *   <tr><td>32</td><td>int64</td><td>sequence, odd while the values are being updated</td></tr>
+ *   <tr><td>40</td><td>int64</td><td>time of the last update, in milliseconds since the epoch</td></tr>
+ *   <tr><td>48</td><td>int64</td><td>update period, in milliseconds</td></tr>
+ * </table>
+ *
+ * <table>
+ *   <caption>Entry</caption>
+ *   <tr><th>Offset</th><th>Type</th><th>Content</th></tr>
+ *   <tr><td>0</td><td>char[48]</td><td>name, ASCII, padded with zeros</td></tr>
+ *   <tr><td>48</td><td>char[8]</td><td>unit, ASCII, padded with zeros</td></tr>
+ *   <tr><td>56</td><td>int64</td><td>value</td></tr>
+ * </table>
+ *
+ * <p>Updates are plain ordered stores, protected by a sequence lock: readers read the sequence, the values, and the sequence again, and retry if the sequence
+ * was odd or changed in between. Readers that keep the file mapped must also re-read the number of entries, as gauges may be added at any time.
+ *
+ * <p>The file is recreated rather than truncated when the process restarts, so readers can detect a new instance by the identity of the file.
+ *
+ * <p>Since this object owns a thread, client code is expected to call {@link #close()} when the instance is no longer needed, which also deletes the file.
+ *
+ * @author Joao Silva
+ * @see SystemdMetrics
+ */
+public class SystemdStats implements AutoCloseable {
+
+  /**
+   * The name of the statistics file, in the runtime directory.
+   */
+  public static final String FILE_NAME = "jsystemd.stats";
+
+  static final long MAGIC = 0x544154535359534AL;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 64;
+  static final int ENTRY_SIZE = 64;
+  static final int NAME_SIZE = 48;
+  static final int UNIT_SIZE = 8;
+  static final int COUNT = 12;
+  static final int PID = 16;
+  static final int START = 24;
+  static final int SEQUENCE = 32;
+  static final int UPDATED = 40;
+  static final int PERIOD = 48;
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+  private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  @NonNull
+  private final Path path;
+  @NonNull
+  private final MappedByteBuffer buffer;
+  private final int capacity;
+  @NonNull
+  private final SystemdMetrics metrics;
+  @NonNull
+  private final ScheduledExecutorService executor;
+  private long sequence;
+  private int count;
+
+  private SystemdStats(@NonNull Builder builder) throws IOException {
+    this.path = builder.resolvePath();
+    this.capacity = builder.capacity;
+    this.metrics = builder.metrics;
+    // never truncate a file left behind, as readers may still have it mapped
+    Files.deleteIfExists(path);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      this.buffer = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * ENTRY_SIZE);
+    }
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(8, VERSION);
+    buffer.putLong(PID, ProcessHandle.current().pid());
+    buffer.putLong(START, ManagementFactory.getRuntimeMXBean().getStartTime());
+    buffer.putLong(PERIOD, builder.period.toMillis());
+    // written last, so that readers never see a valid file with an incomplete header
+    LONGS.setRelease(buffer, 0, MAGIC);
+
+    this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r);
+      thread.setName("jsystemd-stats");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.executor.scheduleAtFixedRate(this::update, 0, builder.period.toNanos(), TimeUnit.NANOSECONDS);
+    logger.debug("Publishing statistics to {}", path);
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdStats instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  private void publishNewEntries(@NonNull List<SystemdMetrics.Gauge> gauges) {
+    if (gauges.size() > capacity && count < capacity) {
+      logger.warn("Only the first {} of {} gauges fit in the statistics file", capacity, gauges.size());
+    }
+    int total = Math.min(gauges.size(), capacity);
+    for (int index = count; index < total; index++) {
+      int offset = HEADER_SIZE + index * ENTRY_SIZE;
+      buffer.put(offset, gauges.get(index).nameBytes());
+      buffer.put(offset + NAME_SIZE, gauges.get(index).unitBytes());
+    }
+    if (total > count) {
+      // the entries are complete before the count makes them visible
+      VarHandle.storeStoreFence();
+      buffer.putInt(COUNT, total);
+      count = total;
+    }
+  }
+
+  /**
+   * Evaluates all gauges and publishes their values. Called periodically by the statistics thread.
+   */
+  public synchronized void update() {
+    List<SystemdMetrics.Gauge> gauges = metrics.getGauges();
+    publishNewEntries(gauges);
+    long[] values = new long[count];
+    for (int i = 0; i < count; i++) {
+      try {
+        values[i] = gauges.get(i).getAsLong();
+      } catch (RuntimeException e) {
+        // keep the previous value
+        values[i] = (long) LONGS.getOpaque(buffer, valueOffset(i));
+        logger.debug("Could not evaluate gauge {}", gauges.get(i), e);
+      }
+    }
+    // evaluate outside of the write section, so that readers retry as little as possible
+    LONGS.setOpaque(buffer, SEQUENCE, ++sequence);
+    VarHandle.storeStoreFence();
+    for (int i = 0; i < count; i++) {
+      LONGS.setOpaque(buffer, valueOffset(i), values[i]);
+    }
+    LONGS.setOpaque(buffer, UPDATED, System.currentTimeMillis());
+    LONGS.setRelease(buffer, SEQUENCE, ++sequence);
+  }
+
+  private static int valueOffset(int index) {
+    return HEADER_SIZE + index * ENTRY_SIZE + NAME_SIZE + UNIT_SIZE;
+  }
+
+  /**
+   * Returns the path of the statistics file.
+   *
+   * @return the path of the statistics file
+   */
+  public @NonNull Path getPath() {
+    return path;
+  }
+
+  @Override
+  public void close() throws Exception {
+    executor.shutdown();
+    if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+      executor.shutdownNow();
+    }
+    Files.deleteIfExists(path);
+  }
+
+  /**
+   * Specialized build class of {@link SystemdStats} objects.
+   */
+  public static class Builder {
+
+    @Nullable
+    private Path path;
+    private int capacity = 64;
+    @NonNull
+    private Duration period = Duration.ofSeconds(1);
+    @NonNull
+    private SystemdMetrics metrics = new SystemdMetrics();
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the path of the statistics file. Defaults to {@value SystemdStats#FILE_NAME} in {@code $RUNTIME_DIRECTORY}.
+     *
+     * @param path the path of the statistics file
+     * @return the same builder instance
+     */
+    public Builder path(@NonNull Path path) {
+      this.path = requireNonNull(path, "Path must not be null");
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of gauges in the file. Defaults to 64.
+     *
+     * @param capacity the maximum number of gauges
+     * @return the same builder instance
+     */
+    public Builder capacity(int capacity) {
+      if (capacity <= 0) {
+        throw new IllegalArgumentException("Illegal value for capacity");
+      }
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Sets the period of the updates. Defaults to 1 second.
+     *
+     * @param period the period of the updates
+     * @return the same builder instance
+     */
+    public Builder period(@NonNull Duration period) {
+      requireNonNull(period, "Period must not be null");
+      if (period.isNegative() || period.isZero()) {
+        throw new IllegalArgumentException("Illegal value for period");
+      }
+      this.period = period;
+      return this;
+    }
+
+    /**
+     * Sets the metrics whose gauges are published. Defaults to a new {@link SystemdMetrics}, with the gauges of the JVM only.
+     *
+     * @param metrics the metrics to publish
+     * @return the same builder instance
+     */
+    public Builder metrics(@NonNull SystemdMetrics metrics) {
+      this.metrics = requireNonNull(metrics, "Metrics must not be null");
+      return this;
+    }
+
+    private @NonNull Path resolvePath() {
+      if (path != null) {
+        return path;
+      }
+      Path runtimeDirectory = SystemdUtilities.runtimeDirectory();
+      if (runtimeDirectory == null) {
+        throw new IllegalStateException("No path configured for the statistics file, and RUNTIME_DIRECTORY is not set");
+      }
+      return runtimeDirectory.resolve(FILE_NAME);
+    }
+
+    /**
+     * Builds a {@link SystemdStats} instance, creating the statistics file and starting the updates.
+     *
+     * @return the instance built
+     * @throws IOException if the statistics file cannot be created
+     */
+    public SystemdStats build() throws IOException {
+      return new SystemdStats(this);
+    }
+  }
+}
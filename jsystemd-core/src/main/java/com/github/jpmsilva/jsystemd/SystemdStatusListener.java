@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Interface that represents any object that wants to be notified of status updates, such as publishers of metrics that follow the same tick.
+ *
+ * <p>Listeners are called on the status update thread, so implementations are expected to return quickly.
+ *
+ * <p>Status listeners can be registered through {@link Systemd#addStatusListeners(SystemdStatusListener...)}
+ *
+ * @author Joao Silva
+ * @see Systemd#updateStatus()
+ */
+public interface SystemdStatusListener {
+
+  /**
+   * Called after the status is sent to systemd.
+   *
+   * @param status the status sent
+   */
+  void statusUpdated(@NonNull String status);
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Implementation of {@link SystemdWatchdogListener} that writes thread dumps when the watchdog heartbeat is suppressed, late, or sent while the health
+ * provider is delaying an unhealthy state.
+ *
+ * <p>Each dump lists every platform thread with its full stack trace and lock information, as provided by {@link ThreadMXBean#dumpAllThreads(boolean,
+ * boolean)}. When running on Java 21 or above, the dump is followed by the output of {@code HotSpotDiagnosticMXBean.dumpThreads}, which also includes
+ * virtual threads.
+ *
+ * @author Joao Silva
+ * @see SystemdDumpPolicy
+ * @see ThreadMXBean
+ */
+public class SystemdThreadDumper extends SystemdWatchdogDumper {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+
+  @Nullable
+  private static final Method dumpThreads = findDumpThreads();
+  @Nullable
+  private static final Object textFormat = findTextFormat();
+
+  /**
+   * Creates a new instance that writes thread dumps according to the provided policy.
+   *
+   * @param policy the policy that controls when and where dumps are written
+   */
+  public SystemdThreadDumper(@NonNull SystemdDumpPolicy policy) {
+    super("threads", ".txt", policy);
+  }
+
+  @Override
+  protected void dump(@NonNull Path path) throws IOException {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    ThreadInfo[] infos = threads.dumpAllThreads(threads.isObjectMonitorUsageSupported(), threads.isSynchronizerUsageSupported());
+    try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+      writer.write("Thread dump at " + Instant.now() + System.lineSeparator() + System.lineSeparator());
+      for (ThreadInfo info : infos) {
+        write(writer, info);
+      }
+    }
+    if (dumpThreads != null && textFormat != null) {
+      appendVirtualThreads(path, dumpThreads, textFormat);
+    }
+  }
+
+  private static void write(@NonNull BufferedWriter writer, @NonNull ThreadInfo info) throws IOException {
+    writer.write(String.format("\"%s\" #%d%s %s", info.getThreadName(), info.getThreadId(), info.isDaemon() ? " daemon" : "", info.getThreadState()));
+    if (info.getLockName() != null) {
+      writer.write(" on " + info.getLockName());
+    }
+    if (info.getLockOwnerName() != null) {
+      writer.write(String.format(" owned by \"%s\" #%d", info.getLockOwnerName(), info.getLockOwnerId()));
+    }
+    writer.newLine();
+    StackTraceElement[] stack = info.getStackTrace();
+    MonitorInfo[] monitors = info.getLockedMonitors();
+    for (int depth = 0; depth < stack.length; depth++) {
+      writer.write("\tat " + stack[depth]);
+      writer.newLine();
+      for (MonitorInfo monitor : monitors) {
+        if (monitor.getLockedStackDepth() == depth) {
+          writer.write("\t- locked " + monitor);
+          writer.newLine();
+        }
+      }
+    }
+    LockInfo[] synchronizers = info.getLockedSynchronizers();
+    if (synchronizers.length > 0) {
+      writer.write("\tLocked synchronizers:");
+      writer.newLine();
+      for (LockInfo synchronizer : synchronizers) {
+        writer.write("\t- " + synchronizer);
+        writer.newLine();
+      }
+    }
+    writer.newLine();
+  }
+
+  private static void appendVirtualThreads(@NonNull Path path, @NonNull Method dumpThreads, @NonNull Object format) throws IOException {
+    // dumpThreads refuses to overwrite files, so dump to a sibling file and append it
+    Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+    try (OutputStream out = Files.newOutputStream(path, StandardOpenOption.APPEND)) {
+      HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+      dumpThreads.invoke(diagnostics, temporary.toAbsolutePath().toString(), format);
+      Files.copy(temporary, out);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      logger.debug("Could not dump virtual threads", e);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private static @Nullable Class<?> findFormatClass() {
+    try {
+      return Class.forName(HotSpotDiagnosticMXBean.class.getName() + "$ThreadDumpFormat");
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
+  private static @Nullable Method findDumpThreads() {
+    Class<?> format = findFormatClass();
+    if (format == null) {
+      return null;
+    }
+    try {
+      return HotSpotDiagnosticMXBean.class.getMethod("dumpThreads", String.class, format);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static @Nullable Object findTextFormat() {
+    Class<?> format = findFormatClass();
+    if (format == null) {
+      return null;
+    }
+    for (Object constant : format.getEnumConstants()) {
+      if ("TEXT_PLAIN".equals(constant.toString())) {
+        return constant;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Implementation of {@link HealthProvider} that detects deadlocked JVMs and wedged thread pools, which application level health indicators usually miss.
+ *
+ * <p>The application is reported as unhealthy when:
+ * <ul>
+ *   <li>{@link ThreadMXBean#findDeadlockedThreads()} finds threads deadlocked on monitors or ownable synchronizers</li>
+ *   <li>all the current threads of a registered {@link ThreadPoolExecutor} are busy and tasks are queued waiting for them, while no task completes for the
+ *   configured stall period. Executors with unbounded queues, such as the default task executor of Spring Boot, never grow past their core size, so
+ *   saturation is measured against the current pool size rather than the maximum</li>
+ *   <li>the fraction of threads in a registered group that are blocked on a lock owned by another thread reaches the configured ratio</li>
+ * </ul>
+ *
+ * <p>The names of the offending threads are provided in the {@link Health#details}.
+ *
+ * <p>Deadlock detection and thread state inspection need a safepoint, so their cost grows with the number of threads. They are run on a cost budget: at most
+ * once per minimum interval, and never more often than needed to keep their cost below the configured fraction of the elapsed time. In between, the last
+ * result is reused. Executor checks are cheap and run on every call. A saturated executor that still completes tasks is only busy, as during load spikes, so
+ * it is reported once it has completed no task across consecutive checks spanning at least the stall period.
+ *
+ * @author Joao Silva
+ * @see CompositeHealthProvider
+ */
+public class SystemdThreadHealthProvider implements HealthProvider {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+
+  @NonNull
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  @NonNull
+  private final Map<String, ExecutorState> executors = new LinkedHashMap<>();
+  @NonNull
+  private final Map<String, Pattern> groups;
+  private final long minIntervalNanos;
+  private final double budget;
+  private final double blockedRatio;
+  private final long stallPeriodNanos;
+  private long nextScan = System.nanoTime();
+  @NonNull
+  private Map<String, Object> lastScan = Collections.emptyMap();
+
+  private SystemdThreadHealthProvider(@NonNull Builder builder) {
+    builder.executors.forEach((name, executor) -> executors.put(name, new ExecutorState(executor)));
+    this.groups = new LinkedHashMap<>(builder.groups);
+    this.minIntervalNanos = builder.minInterval.toNanos();
+    this.budget = builder.budget;
+    this.blockedRatio = builder.blockedRatio;
+    this.stallPeriodNanos = builder.stallPeriod.toNanos();
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdThreadHealthProvider instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public Health health() {
+    Map<String, Object> details = new HashMap<>(scan());
+    long now = System.nanoTime();
+    for (Map.Entry<String, ExecutorState> entry : executors.entrySet()) {
+      String stalled = entry.getValue().check(now, stallPeriodNanos);
+      if (stalled != null) {
+        details.put("executor." + entry.getKey(), stalled);
+      }
+    }
+    return new Health(details.isEmpty(), details);
+  }
+
+  private synchronized @NonNull Map<String, Object> scan() {
+    long start = System.nanoTime();
+    if (start - nextScan < 0) {
+      return lastScan;
+    }
+
+    Map<String, Object> details = new HashMap<>();
+    long[] deadlocked = threads.isSynchronizerUsageSupported() ? threads.findDeadlockedThreads() : threads.findMonitorDeadlockedThreads();
+    if (deadlocked != null) {
+      List<String> names = new ArrayList<>(deadlocked.length);
+      for (ThreadInfo info : threads.getThreadInfo(deadlocked, 0)) {
+        if (info != null) {
+          names.add(describe(info));
+        }
+      }
+      details.put("deadlockedThreads", names);
+    }
+    if (!groups.isEmpty()) {
+      scanGroups(threads.getThreadInfo(threads.getAllThreadIds(), 0), details);
+    }
+
+    long cost = System.nanoTime() - start;
+    nextScan = start + Math.max(minIntervalNanos, (long) (cost / budget));
+    logger.debug("Scanned threads in {} us, next scan in {} ms", cost / 1000, (nextScan - start) / 1_000_000);
+    lastScan = details;
+    return details;
+  }
+
+  private void scanGroups(@NonNull ThreadInfo[] infos, @NonNull Map<String, Object> details) {
+    for (Map.Entry<String, Pattern> group : groups.entrySet()) {
+      int total = 0;
+      List<String> blocked = new ArrayList<>();
+      for (ThreadInfo info : infos) {
+        if (info == null || !group.getValue().matcher(info.getThreadName()).matches()) {
+          continue;
+        }
+        total++;
+        if (isBlocked(info)) {
+          blocked.add(describe(info));
+        }
+      }
+      if (total > 0 && blocked.size() >= total * blockedRatio) {
+        details.put("threads." + group.getKey() + ".blocked", blocked);
+      }
+    }
+  }
+
+  private static boolean isBlocked(@NonNull ThreadInfo info) {
+    return switch (info.getThreadState()) {
+      case BLOCKED -> true;
+      // waiting on a lock held by another thread, rather than idle on a condition
+      case WAITING, TIMED_WAITING -> info.getLockOwnerId() != -1;
+      default -> false;
+    };
+  }
+
+  private static @NonNull String describe(@NonNull ThreadInfo info) {
+    if (info.getLockOwnerName() != null) {
+      return String.format("%s (waiting on %s held by %s)", info.getThreadName(), info.getLockName(), info.getLockOwnerName());
+    }
+    return info.getThreadName();
+  }
+
+  private static final class ExecutorState {
+
+    @NonNull
+    private final ThreadPoolExecutor executor;
+    private long completed = -1;
+    private long stalledSince;
+
+    private ExecutorState(@NonNull ThreadPoolExecutor executor) {
+      this.executor = executor;
+    }
+
+    private synchronized @Nullable String check(long now, long stallPeriodNanos) {
+      int active = executor.getActiveCount();
+      // not the maximum pool size, which executors with unbounded queues never grow past their core size to reach
+      int threads = executor.getPoolSize();
+      int queued = executor.getQueue().size();
+      long completed = executor.getCompletedTaskCount();
+      boolean progress = completed != this.completed;
+      this.completed = completed;
+      if (active < threads || queued == 0 || progress) {
+        stalledSince = now;
+        return null;
+      }
+      Duration stalled = Duration.ofNanos(now - stalledSince);
+      if (stalled.toNanos() < stallPeriodNanos) {
+        return null;
+      }
+      return String.format("%d/%d busy, %d queued, no task completed for %s", active, threads, queued, stalled);
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdThreadHealthProvider} objects.
+   */
+  public static class Builder {
+
+    private final Map<String, ThreadPoolExecutor> executors = new LinkedHashMap<>();
+    private final Map<String, Pattern> groups = new LinkedHashMap<>();
+    private Duration minInterval = Duration.ofSeconds(10);
+    private double budget = 0.01;
+    private double blockedRatio = 0.9;
+    private Duration stallPeriod = Duration.ofSeconds(30);
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the minimum interval between two deadlock and thread state scans. Defaults to 10 seconds.
+     *
+     * @param minInterval the minimum interval between scans
+     * @return the same builder instance
+     */
+    public Builder minInterval(@NonNull Duration minInterval) {
+      requireNonNull(minInterval, "Min interval must not be null");
+      if (minInterval.isNegative()) {
+        throw new IllegalArgumentException("Illegal value for min interval");
+      }
+      this.minInterval = minInterval;
+      return this;
+    }
+
+    /**
+     * Sets the maximum fraction of the elapsed time that deadlock and thread state scans may take. Defaults to 0.01 (1%).
+     *
+     * @param budget the maximum fraction of the elapsed time, between 0 (exclusive) and 1 (inclusive)
+     * @return the same builder instance
+     */
+    public Builder budget(double budget) {
+      if (budget <= 0 || budget > 1) {
+        throw new IllegalArgumentException("Illegal value for budget");
+      }
+      this.budget = budget;
+      return this;
+    }
+
+    /**
+     * Sets the fraction of blocked threads in a group at which the application is considered unhealthy. Defaults to 0.9.
+     *
+     * @param blockedRatio the fraction of blocked threads, between 0 (exclusive) and 1 (inclusive)
+     * @return the same builder instance
+     */
+    public Builder blockedRatio(double blockedRatio) {
+      if (blockedRatio <= 0 || blockedRatio > 1) {
+        throw new IllegalArgumentException("Illegal value for blocked ratio");
+      }
+      this.blockedRatio = blockedRatio;
+      return this;
+    }
+
+    /**
+     * Sets the minimum period during which a saturated executor must complete no task to be considered starved. Defaults to 30 seconds. With a period of
+     * zero, an executor is considered starved as soon as it completes no task between two consecutive checks.
+     *
+     * @param stallPeriod the minimum period without progress
+     * @return the same builder instance
+     */
+    public Builder stallPeriod(@NonNull Duration stallPeriod) {
+      requireNonNull(stallPeriod, "Stall period must not be null");
+      if (stallPeriod.isNegative()) {
+        throw new IllegalArgumentException("Illegal value for stall period");
+      }
+      this.stallPeriod = stallPeriod;
+      return this;
+    }
+
+    /**
+     * Registers an executor that is considered starved when all of its threads are busy and tasks are queued, while no task completes for the stall period.
+     *
+     * @param name the name of the executor, used in the health details
+     * @param executor the executor to inspect
+     * @return the same builder instance
+     */
+    public Builder executor(@NonNull String name, @NonNull ThreadPoolExecutor executor) {
+      executors.put(requireNonNull(name, "Name must not be null"), requireNonNull(executor, "Executor must not be null"));
+      return this;
+    }
+
+    /**
+     * Registers a group of threads, such as the worker threads of a web server, that is considered wedged when too many of them are blocked.
+     *
+     * @param name the name of the group, used in the health details
+     * @param threadNames the pattern that the names of the threads in the group match, such as {@code http-nio-\d+-exec-\d+}
+     * @return the same builder instance
+     */
+    public Builder threads(@NonNull String name, @NonNull Pattern threadNames) {
+      groups.put(requireNonNull(name, "Name must not be null"), requireNonNull(threadNames, "Thread names must not be null"));
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdThreadHealthProvider} instance.
+     *
+     * @return the instance built
+     */
+    public SystemdThreadHealthProvider build() {
+      return new SystemdThreadHealthProvider(this);
+    }
+  }
+}
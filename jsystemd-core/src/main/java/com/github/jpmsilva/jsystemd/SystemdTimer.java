@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulated count and duration of the calls to a component of the systemd integration, such as a {@link SystemdStatusProvider}.
+ *
+ * <p>Recording a call is a pair of {@link LongAdder} updates, so timers can be kept on the paths they measure without contention. Timers are read by
+ * monitoring systems, which derive rates and averages from the totals.
+ *
+ * @author Joao Silva
+ * @see Systemd#getStatusTimers()
+ */
+public final class SystemdTimer {
+
+  private final LongAdder count = new LongAdder();
+  private final LongAdder nanos = new LongAdder();
+
+  /**
+   * Create a new SystemdTimer.
+   */
+  public SystemdTimer() {
+  }
+
+  /**
+   * Records a call.
+   *
+   * @param duration the duration of the call, in nanoseconds
+   */
+  public void record(long duration) {
+    count.increment();
+    nanos.add(duration);
+  }
+
+  /**
+   * Returns the number of calls recorded.
+   *
+   * @return the number of calls
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the total time spent in the calls recorded.
+   *
+   * @return the total time, in nanoseconds
+   */
+  public long getNanos() {
+    return nanos.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "SystemdTimer{count=" + getCount() + ", nanos=" + getNanos() + '}';
+  }
+}
@@ -44,6 +44,10 @@ abstract class SystemdUtilities {
 
   private static final long watchdogUsec = readWatchdogUsec();
 
+  private static final Path logsDirectory = readDirectory("LOGS_DIRECTORY");
+
+  private static final Path runtimeDirectory = readDirectory("RUNTIME_DIRECTORY");
+
   private SystemdUtilities() {
   }
 
@@ -59,6 +63,15 @@ abstract class SystemdUtilities {
     return 0;
   }
 
+  private static Path readDirectory(String name) {
+    String directories = System.getenv(name);
+    if (isNotEmpty(directories)) {
+      // systemd separates multiple directories with colons, use the first one
+      return Path.of(directories.split(":", 2)[0]);
+    }
+    return null;
+  }
+
   private static boolean isNotEmpty(String input) {
     return input != null && !input.isEmpty();
   }
@@ -103,10 +116,37 @@ abstract class SystemdUtilities {
     return watchdogUsec;
   }
 
+  /**
+   * Allows determining the logs directory systemd created for the service.
+   *
+   * @return the {@link Path} corresponding to the first entry of the environment variable {@code LOGS_DIRECTORY}, or <code>null</code> if the environment
+   *     variable is not set
+   * @see <a href="https://www.freedesktop.org/software/systemd/man/systemd.exec.html#LogsDirectory=">LogsDirectory</a>
+   */
+  static Path logsDirectory() {
+    return logsDirectory;
+  }
+
+  /**
+   * Allows determining the runtime directory systemd created for the service.
+   *
+   * @return the {@link Path} corresponding to the first entry of the environment variable {@code RUNTIME_DIRECTORY}, or <code>null</code> if the
+   *     environment variable is not set
+   * @see <a href="https://www.freedesktop.org/software/systemd/man/systemd.exec.html#RuntimeDirectory=">RuntimeDirectory</a>
+   */
+  static Path runtimeDirectory() {
+    return runtimeDirectory;
+  }
+
   static boolean isLinux() {
     return osName().toLowerCase().startsWith("linux");
   }
 
+  static boolean isNativeImage() {
+    // set by GraalVM both while building and while running native images
+    return System.getProperty("org.graalvm.nativeimage.imagecode") != null;
+  }
+
   static boolean hasNotifySocket() {
     return notifySocketPath != null && notifySocketPath.toFile().exists();
   }
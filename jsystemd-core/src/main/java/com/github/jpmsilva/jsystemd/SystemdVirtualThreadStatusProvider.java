@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.PlatformManagedObject;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordingStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} that provides information regarding the scheduler of virtual threads.
+ *
+ * <p>Applications running on virtual threads have no thread pool whose busy threads reflect their load. Instead, this provider reports the carrier threads of
+ * the virtual thread scheduler, in the form {@code Virtual threads: 6/8 carriers, 42 queued, 3 pinned}, meaning that 6 virtual threads are mounted on the 8
+ * carrier threads the scheduler runs at most, 42 virtual threads are ready to run and waiting for a carrier, and 3 virtual threads have been pinned to their
+ * carrier since the provider was built.
+ *
+ * <p>Mounted and queued virtual threads are read from {@code jdk.management.VirtualThreadSchedulerMXBean}, which is available from Java 24 on. On earlier
+ * versions only the parallelism of the scheduler is reported.
+ *
+ * <p>Pinned virtual threads are counted from {@code jdk.VirtualThreadPinned} JFR events longer than a threshold, only when enabled with
+ * {@link Builder#countPinned(Duration)}. The underlying {@link RecordingStream} is then started when the instance is built, and client code is expected to
+ * call {@link #close()} when the instance is no longer needed.
+ *
+ * @author Joao Silva
+ * @see SystemdJfrStatusProvider
+ */
+@Order(-1000)
+public class SystemdVirtualThreadStatusProvider implements SystemdStatusProvider, AutoCloseable {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  @Nullable
+  private static final Scheduler scheduler = Scheduler.find();
+
+  @NonNull
+  private final LongAdder pinned = new LongAdder();
+  @Nullable
+  private final RecordingStream stream;
+
+  private SystemdVirtualThreadStatusProvider(@Nullable Duration pinnedThreshold) {
+    stream = pinnedThreshold == null ? null : startStream(pinnedThreshold);
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdVirtualThreadStatusProvider instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  private @Nullable RecordingStream startStream(@NonNull Duration pinnedThreshold) {
+    try {
+      RecordingStream stream = new RecordingStream();
+      stream.enable(PINNED_EVENT).withThreshold(pinnedThreshold);
+      stream.onEvent(PINNED_EVENT, event -> pinned.increment());
+      stream.startAsync();
+      logger.debug("Started JFR event stream for pinned virtual threads (threshold={})", pinnedThreshold);
+      return stream;
+    } catch (IllegalStateException | SecurityException e) {
+      logger.warn("Could not start JFR event stream, pinned virtual threads will not be counted", e);
+      return null;
+    }
+  }
+
+  @Override
+  public @NonNull String status() {
+    StringJoiner joiner = new StringJoiner(", ", "Virtual threads: ", "");
+    if (scheduler != null) {
+      joiner.add(String.format("%d/%d carriers", getMountedThreads(), getParallelism()));
+      joiner.add(String.format("%d queued", getQueuedThreads()));
+    } else {
+      joiner.add(String.format("%d carriers", getParallelism()));
+    }
+    if (stream != null) {
+      joiner.add(String.format("%d pinned", getPinnedThreads()));
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Returns the maximum number of carrier threads the virtual thread scheduler runs virtual threads on.
+   *
+   * @return the parallelism of the scheduler
+   */
+  public int getParallelism() {
+    if (scheduler != null) {
+      return (int) scheduler.read(scheduler.parallelism);
+    }
+    // same default as the scheduler built in the JDK
+    return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Returns the number of virtual threads currently mounted on a carrier thread, or -1 if unknown.
+   *
+   * @return the number of mounted virtual threads
+   */
+  public long getMountedThreads() {
+    return scheduler == null ? -1 : scheduler.read(scheduler.mounted);
+  }
+
+  /**
+   * Returns the number of virtual threads waiting for a carrier thread, or -1 if unknown.
+   *
+   * @return the number of queued virtual threads
+   */
+  public long getQueuedThreads() {
+    return scheduler == null ? -1 : scheduler.read(scheduler.queued);
+  }
+
+  /**
+   * Returns the number of virtual threads pinned to their carrier longer than the threshold since the instance was built, or 0 if not counted.
+   *
+   * @return the number of pinned virtual threads
+   */
+  public long getPinnedThreads() {
+    return pinned.sum();
+  }
+
+  @Override
+  public void close() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  private static final class Scheduler {
+
+    @NonNull
+    private final Object bean;
+    @NonNull
+    private final Method parallelism;
+    @NonNull
+    private final Method mounted;
+    @NonNull
+    private final Method queued;
+
+    private Scheduler(@NonNull Object bean, @NonNull Class<?> type) throws NoSuchMethodException {
+      this.bean = bean;
+      this.parallelism = type.getMethod("getParallelism");
+      this.mounted = type.getMethod("getMountedVirtualThreadCount");
+      this.queued = type.getMethod("getQueuedVirtualThreadCount");
+    }
+
+    private static @Nullable Scheduler find() {
+      try {
+        Class<? extends PlatformManagedObject> type = Class.forName("jdk.management.VirtualThreadSchedulerMXBean").asSubclass(PlatformManagedObject.class);
+        return new Scheduler(ManagementFactory.getPlatformMXBean(type), type);
+      } catch (ClassNotFoundException | NoSuchMethodException | IllegalArgumentException e) {
+        return null;
+      }
+    }
+
+    private long read(@NonNull Method method) {
+      try {
+        return ((Number) method.invoke(bean)).longValue();
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        logger.debug("Could not read {}", method.getName(), e);
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdVirtualThreadStatusProvider} objects.
+   */
+  public static class Builder {
+
+    @Nullable
+    private Duration pinnedThreshold;
+
+    private Builder() {
+    }
+
+    /**
+     * Counts the virtual threads pinned to their carrier thread for longer than the threshold. Disabled by default, as it requires JFR.
+     *
+     * @param pinnedThreshold the minimum duration of the pinning events that are counted, such as 20 milliseconds
+     * @return the same builder instance
+     */
+    public Builder countPinned(@NonNull Duration pinnedThreshold) {
+      requireNonNull(pinnedThreshold, "Pinned threshold must not be null");
+      if (pinnedThreshold.isNegative()) {
+        throw new IllegalArgumentException("Illegal value for pinned threshold");
+      }
+      this.pinnedThreshold = pinnedThreshold;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdVirtualThreadStatusProvider} instance, and starts the underlying event stream when pinned virtual threads are counted.
+     *
+     * @return the instance built
+     */
+    public SystemdVirtualThreadStatusProvider build() {
+      return new SystemdVirtualThreadStatusProvider(pinnedThreshold);
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+
+/**
+ * Base implementation of {@link SystemdWatchdogListener} that writes diagnostic dumps when the watchdog heartbeat is suppressed or late.
+ *
+ * <p>Heartbeats sent while the health provider is delaying an unhealthy state (see {@link Health#UNHEALTHY_SINCE}) are handled as near-misses.
+ *
+ * <p>Dumps are written by a dedicated thread, never on the watchdog thread, and at most one dump is written at a time. While a dump is being written, the
+ * watchdog timeout is extended by {@link SystemdDumpPolicy.Builder#extension(Duration)}, so that systemd does not kill the process before the dump is complete.
+ * The extension is shared by all dumpers, as systemd only knows one timeout: it is requested by the first dump to start, and covers the dumps that start
+ * while it is in effect.
+ *
+ * <p>Every {@code WATCHDOG_USEC=} message also restarts the watchdog timer of systemd, as a heartbeat would. So the original timeout is not restored when the
+ * last dump is written, which would grant an unhealthy process a whole new timeout, but along with the next heartbeat, when the timer restarts anyway. Until
+ * then, a process that stays unhealthy is killed once the extended timeout expires.
+ *
+ * <p>Since this object owns a thread, client code is expected to call {@link #close()} when the instance is no longer needed.
+ *
+ * @author Joao Silva
+ * @see SystemdDumpPolicy
+ */
+public abstract class SystemdWatchdogDumper implements SystemdWatchdogListener, AutoCloseable {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+  private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+  private static final Object extensionLock = new Object();
+
+  // state of the shared watchdog timeout extension, guarded by extensionLock
+  private static int extensions;
+  private static long extendedUsec;
+  private static long originalUsec;
+
+  @NonNull
+  private final String name;
+  @NonNull
+  private final String suffix;
+  @NonNull
+  private final SystemdDumpPolicy policy;
+  @NonNull
+  private final ThreadPoolExecutor executor;
+  @NonNull
+  private final AtomicBoolean unhealthy = new AtomicBoolean(false);
+  @NonNull
+  private final AtomicLong lastNearMiss;
+
+  /**
+   * Creates a new instance that writes dumps according to the provided policy.
+   *
+   * @param name the short name of the kind of dump, used to name the dump thread and files
+   * @param suffix the suffix of the dump files, including the dot
+   * @param policy the policy that controls when and where dumps are written
+   */
+  protected SystemdWatchdogDumper(@NonNull String name, @NonNull String suffix, @NonNull SystemdDumpPolicy policy) {
+    this.name = requireNonNull(name, "Name must not be null");
+    this.suffix = requireNonNull(suffix, "Suffix must not be null");
+    this.policy = requireNonNull(policy, "Policy must not be null");
+    this.lastNearMiss = new AtomicLong(System.nanoTime() - policy.minInterval.toNanos());
+    this.executor = new ThreadPoolExecutor(1, 1, 0, SECONDS, new SynchronousQueue<>(), r -> {
+      final Thread thread = new Thread(r);
+      thread.setName("jsystemd-" + name);
+      thread.setDaemon(true);
+      return thread;
+    });
+    logger.debug("Enabled {} dumps with policy ({})", name, policy);
+  }
+
+  /**
+   * Writes the diagnostic dump to the provided path.
+   *
+   * @param path the file to write the dump to, which does not exist yet
+   * @throws IOException if the dump could not be written
+   */
+  protected abstract void dump(@NonNull Path path) throws IOException;
+
+  @Override
+  public void heartbeat(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    unhealthy.set(false);
+    restoreTimeout();
+    if (isNearMiss(sinceLast, timeout)) {
+      requestRateLimited("near-miss", timeout);
+    } else if (health.details.containsKey(Health.UNHEALTHY_SINCE)) {
+      requestRateLimited("pending", timeout);
+    }
+  }
+
+  @Override
+  public void suppressed(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    if (unhealthy.compareAndSet(false, true)) {
+      request("suppressed", timeout);
+    }
+  }
+
+  /**
+   * Requests a dump outside of the watchdog heartbeat cycle, subject to the same rate limiting as near-miss dumps.
+   *
+   * @param reason a short description of the reason for the dump, used to name the dump file
+   * @param timeout the watchdog timeout configured in systemd, or {@link Duration#ZERO} if unknown
+   */
+  protected void requestRateLimited(@NonNull String reason, @NonNull Duration timeout) {
+    long now = System.nanoTime();
+    long last = lastNearMiss.get();
+    if (now - last >= policy.minInterval.toNanos() && lastNearMiss.compareAndSet(last, now)) {
+      request(reason, timeout);
+    }
+  }
+
+  private boolean isNearMiss(@NonNull Duration sinceLast, @NonNull Duration timeout) {
+    return !timeout.isZero() && sinceLast.toNanos() >= timeout.toNanos() * policy.nearMissRatio;
+  }
+
+  private void request(@NonNull String reason, @NonNull Duration timeout) {
+    try {
+      executor.execute(() -> write(reason, timeout));
+    } catch (RejectedExecutionException e) {
+      logger.debug("Skipping {} dump after {} heartbeat, as another dump is in progress", name, reason);
+    }
+  }
+
+  private void write(@NonNull String reason, @NonNull Duration timeout) {
+    long timeoutUsec = timeout.toNanos() / 1000;
+    boolean extend = timeoutUsec > 0 && !policy.extension.isZero();
+    if (extend) {
+      extendTimeout(timeoutUsec, policy.extension.toNanos() / 1000);
+    }
+    try {
+      Path path = next(reason);
+      dump(path);
+      logger.warn("Wrote {} dump after {} watchdog heartbeat to {}", name, reason, path);
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Could not write {} dump after {} watchdog heartbeat", name, reason, e);
+    } finally {
+      if (extend) {
+        synchronized (extensionLock) {
+          extensions--;
+        }
+      }
+    }
+  }
+
+  private static void extendTimeout(long timeoutUsec, long extensionUsec) {
+    synchronized (extensionLock) {
+      if (extendedUsec == 0) {
+        originalUsec = timeoutUsec;
+      }
+      extensions++;
+      // never shorten an extension in effect, and avoid restarting the watchdog timer needlessly
+      if (originalUsec + extensionUsec > extendedUsec) {
+        extendedUsec = originalUsec + extensionUsec;
+        SystemdNotify.watchdogTimeout(extendedUsec);
+      }
+    }
+  }
+
+  private static void restoreTimeout() {
+    synchronized (extensionLock) {
+      if (extensions == 0 && extendedUsec != 0) {
+        SystemdNotify.watchdogTimeout(originalUsec);
+        extendedUsec = 0;
+      }
+    }
+  }
+
+  private @NonNull Path next(@NonNull String reason) throws IOException {
+    Files.createDirectories(policy.directory);
+    String prefix = "jsystemd-" + name + "-";
+    List<Path> dumps;
+    try (Stream<Path> files = Files.list(policy.directory)) {
+      dumps = files.filter(p -> p.getFileName().toString().startsWith(prefix) && p.getFileName().toString().endsWith(suffix))
+          .sorted(Comparator.comparingLong(p -> p.toFile().lastModified()))
+          .collect(Collectors.toList());
+    }
+    for (int i = 0; i <= dumps.size() - policy.maxFiles; i++) {
+      Files.deleteIfExists(dumps.get(i));
+    }
+    String file = prefix + ProcessHandle.current().pid() + "-" + TIMESTAMP.format(LocalDateTime.now()) + "-" + reason + suffix;
+    return policy.directory.resolve(file);
+  }
+
+  /**
+   * Returns the directory where dumps are written.
+   *
+   * @return the directory where dumps are written
+   */
+  public @NonNull Path getDirectory() {
+    return policy.directory;
+  }
+
+  @Override
+  public void close() throws Exception {
+    synchronized (executor) {
+      if (!executor.isShutdown()) {
+        executor.shutdown();
+        boolean terminated = executor.awaitTermination(10, SECONDS);
+        if (!terminated) {
+          executor.shutdownNow();
+        }
+      }
+    }
+  }
+}
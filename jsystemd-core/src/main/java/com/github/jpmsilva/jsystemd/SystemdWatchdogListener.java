@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.time.Duration;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Interface that represents any object that wants to be notified of watchdog heartbeats.
+ *
+ * <p>Listeners are called on the watchdog thread, so implementations are expected to return quickly, and to offload any expensive work to another thread.
+ *
+ * <p>Watchdog listeners can be registered through {@link Systemd#addWatchdogListeners(SystemdWatchdogListener...)}
+ *
+ * @author Joao Silva
+ * @see Systemd#watchdog()
+ */
+public interface SystemdWatchdogListener {
+
+  /**
+   * Called after a heartbeat is sent to the watchdog.
+   *
+   * @param health the healthy state reported by the health provider, or {@link Health#healthy()} if there is none
+   * @param sinceLast the time elapsed since the previous heartbeat was sent
+   * @param timeout the watchdog timeout configured in systemd, or {@link Duration#ZERO} if unknown
+   */
+  default void heartbeat(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+  }
+
+  /**
+   * Called when a heartbeat is suppressed because the application is unhealthy.
+   *
+   * @param health the unhealthy state reported by the health provider
+   * @param sinceLast the time elapsed since the last heartbeat was sent
+   * @param timeout the watchdog timeout configured in systemd, or {@link Duration#ZERO} if unknown
+   */
+  default void suppressed(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+  }
+}
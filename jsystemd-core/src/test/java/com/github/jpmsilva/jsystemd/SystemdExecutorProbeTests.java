@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SystemdExecutorProbeTests {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private ThreadPoolExecutor executor;
+  private SystemdExecutorProbe probe;
+
+  @AfterEach
+  void close() {
+    release.countDown();
+    if (probe != null) {
+      probe.close();
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private SystemdExecutorProbe probe(RejectedExecutionHandler policy) {
+    executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1), policy);
+    return SystemdExecutorProbe.builder().interval(Duration.ofMillis(20)).window(Duration.ofMillis(200)).unhealthyAbove(Duration.ofMillis(100)).build();
+  }
+
+  private static boolean awaitHealthy(SystemdExecutorProbe probe) throws InterruptedException {
+    for (int i = 0; i < 100; i++) {
+      if (probe.health().healthy) {
+        return true;
+      }
+      Thread.sleep(20);
+    }
+    return false;
+  }
+
+  @Test
+  void recoversFromProbeDiscardedOnSubmission() throws InterruptedException {
+    probe = probe(new ThreadPoolExecutor.DiscardPolicy());
+    executor.execute(this::awaitRelease);
+    executor.execute(() -> { });
+    probe.addExecutor("discarding", executor);
+
+    Thread.sleep(200);
+    assertFalse(probe.health().healthy);
+    release.countDown();
+    assertTrue(awaitHealthy(probe));
+  }
+
+  @Test
+  void recoversFromProbeDiscardedFromQueue() throws InterruptedException {
+    probe = probe(new ThreadPoolExecutor.DiscardOldestPolicy());
+    executor.execute(this::awaitRelease);
+    probe.addExecutor("discarding", executor);
+
+    Thread.sleep(50);
+    // evicts the queued probe
+    executor.execute(() -> { });
+    Thread.sleep(150);
+    assertFalse(probe.health().healthy);
+    release.countDown();
+    assertTrue(awaitHealthy(probe));
+  }
+
+  @Test
+  void keepsReportingStuckExecutor() throws InterruptedException {
+    probe = probe(new ThreadPoolExecutor.AbortPolicy());
+    executor.execute(this::awaitRelease);
+    probe.addExecutor("stuck", executor);
+
+    Thread.sleep(500);
+    assertFalse(probe.health().healthy);
+    assertTrue(probe.getMaxMicros("stuck") >= 400_000);
+  }
+}
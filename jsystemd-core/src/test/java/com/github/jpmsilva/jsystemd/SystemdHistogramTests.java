@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jpmsilva.jsystemd.SystemdHistogram.Snapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SystemdHistogramTests {
+
+  @Test
+  void bucketsCoverEveryValueWithinTheRelativeError() {
+    long[] values = {0, 1, 7, 8, 9, 15, 16, 100, 1000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+    for (long value : values) {
+      int index = SystemdHistogram.index(value);
+      long upper = SystemdHistogram.upperBound(index);
+      assertTrue(upper >= value, "upper bound " + upper + " below " + value);
+      assertTrue(index == 0 || SystemdHistogram.upperBound(index - 1) < value, "value " + value + " belongs to a lower bucket");
+      assertTrue(upper - value <= value / 8, "upper bound " + upper + " too far from " + value);
+    }
+  }
+
+  @Test
+  void snapshotSummarizesTheFinishedWindow() throws InterruptedException {
+    SystemdHistogram histogram = new SystemdHistogram(TimeUnit.MILLISECONDS.toNanos(1));
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i, i % 10 == 0);
+    }
+    histogram.record(-5);
+    Thread.sleep(2);
+
+    Snapshot snapshot = histogram.snapshot();
+    assertEquals(1001, snapshot.count);
+    assertEquals(1000, snapshot.max);
+    assertEquals(100, snapshot.flagged);
+    assertTrue(snapshot.p99 >= 990 && snapshot.p99 <= 1000, "p99 " + snapshot.p99);
+
+    Thread.sleep(2);
+    assertSame(Snapshot.EMPTY, histogram.snapshot());
+  }
+
+  @Test
+  void rotationLosesNoValueRecordedConcurrently() throws InterruptedException {
+    // every snapshot rotates, so that writers race with the swap as often as possible
+    SystemdHistogram histogram = new SystemdHistogram(1);
+    int writers = 4;
+    int values = 200_000;
+    CountDownLatch done = new CountDownLatch(writers);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < writers; i++) {
+      Thread thread = new Thread(() -> {
+        for (int j = 0; j < values; j++) {
+          histogram.record(j & 1023, true);
+        }
+        done.countDown();
+      });
+      thread.start();
+      threads.add(thread);
+    }
+
+    long count = 0;
+    long flagged = 0;
+    boolean finished;
+    do {
+      finished = done.await(0, TimeUnit.MILLISECONDS);
+      Snapshot snapshot = histogram.snapshot();
+      count += snapshot.count;
+      flagged += snapshot.flagged;
+      assertTrue(snapshot.max <= 1023, "max " + snapshot.max);
+    } while (!finished);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Thread.sleep(1);
+    Snapshot last = histogram.snapshot();
+    count += last.count;
+    flagged += last.flagged;
+
+    assertEquals((long) writers * values, count);
+    assertEquals(count, flagged);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SystemdLatencyHealthProviderTests {
+
+  private static final Duration WINDOW = Duration.ofMillis(100);
+
+  private final SystemdLatencyHealthProvider provider = SystemdLatencyHealthProvider.builder()
+      .window(WINDOW)
+      .p99Limit(Duration.ofMillis(10))
+      .errorRateLimit(0.1)
+      .minRequests(10)
+      .build();
+
+  @Test
+  void unhealthyWhileTheP99ExceedsTheLimitThenRecovers() throws InterruptedException {
+    record(100, Duration.ofMillis(1), 0);
+    Health health = nextWindow();
+    assertTrue(health.healthy);
+    assertEquals(100, provider.getRequests());
+
+    record(98, Duration.ofMillis(1), 0);
+    record(2, Duration.ofMillis(50), 0);
+    health = nextWindow();
+    assertFalse(health.healthy);
+    Duration p99 = (Duration) health.details.get("latency.p99");
+    assertTrue(p99.compareTo(Duration.ofMillis(40)) > 0, "p99 " + p99);
+    assertEquals(Duration.ofMillis(10), health.details.get("latency.p99.limit"));
+    assertEquals(100L, health.details.get("latency.requests"));
+
+    record(100, Duration.ofMillis(1), 0);
+    assertTrue(nextWindow().healthy);
+  }
+
+  @Test
+  void unhealthyWhileTheErrorRateExceedsTheLimitThenRecovers() throws InterruptedException {
+    record(100, Duration.ofMillis(1), 20);
+    Health health = nextWindow();
+    assertFalse(health.healthy);
+    assertEquals(0.2, health.details.get("latency.errorRate"));
+    assertEquals(20, provider.getErrors());
+
+    record(100, Duration.ofMillis(1), 5);
+    assertTrue(nextWindow().healthy);
+  }
+
+  @Test
+  void windowsWithTooFewRequestsAreHealthy() throws InterruptedException {
+    record(9, Duration.ofSeconds(1), 9);
+    assertTrue(nextWindow().healthy);
+  }
+
+  private void record(int requests, Duration latency, int errors) {
+    for (int i = 0; i < requests; i++) {
+      provider.record(latency.toNanos(), i < errors);
+    }
+  }
+
+  // waits for the current window to finish, so that the health reflects what was recorded in it
+  private Health nextWindow() throws InterruptedException {
+    TimeUnit.MILLISECONDS.sleep(WINDOW.toMillis() + 20);
+    return provider.health();
+  }
+}
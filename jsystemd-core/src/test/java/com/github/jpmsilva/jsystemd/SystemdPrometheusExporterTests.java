@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SystemdPrometheusExporterTests {
+
+  @TempDir
+  Path directory;
+
+  private final SystemdMetrics metrics = new SystemdMetrics();
+
+  private List<String> export(SystemdPrometheusExporter exporter) throws IOException {
+    exporter.export();
+    return Files.readAllLines(directory.resolve("jsystemd.prom"));
+  }
+
+  private static String line(List<String> lines, String prefix) {
+    return lines.stream().filter(line -> line.startsWith(prefix)).findFirst().orElseThrow(() -> new AssertionError("No line starting with " + prefix));
+  }
+
+  @Test
+  void valuesAreConvertedToBaseUnits() throws IOException {
+    metrics.gauge("test.latency", "ms", () -> 1250);
+    metrics.gauge("test.pause", "ns", () -> 5);
+    metrics.gauge("test.drift", "us", () -> -3);
+    metrics.gauge("test.heap", "bytes", () -> 1024);
+    metrics.gauge("test.zero", "ms", () -> 0);
+    metrics.gauge("test.min", "count", () -> Long.MIN_VALUE);
+    List<String> lines = export(SystemdPrometheusExporter.builder().directory(directory).metrics(metrics).build());
+
+    assertEquals("jsystemd_test_latency_seconds 1.250", line(lines, "jsystemd_test_latency_seconds "));
+    assertEquals("jsystemd_test_pause_seconds 0.000000005", line(lines, "jsystemd_test_pause_seconds "));
+    assertEquals("jsystemd_test_drift_seconds -0.000003", line(lines, "jsystemd_test_drift_seconds "));
+    assertEquals("jsystemd_test_heap_bytes 1024", line(lines, "jsystemd_test_heap_bytes "));
+    assertEquals("jsystemd_test_zero_seconds 0.000", line(lines, "jsystemd_test_zero_seconds "));
+    assertEquals("jsystemd_test_min -9223372036854775808", line(lines, "jsystemd_test_min "));
+  }
+
+  @Test
+  void everyFamilyIsTypedOnceAndTheFileEndsWithEof() throws IOException {
+    metrics.gauge("test.latency", "ms", () -> 1);
+    List<String> lines = export(SystemdPrometheusExporter.builder().directory(directory).metrics(metrics).build());
+
+    assertEquals("# TYPE jsystemd_test_latency_seconds gauge", lines.get(lines.indexOf("jsystemd_test_latency_seconds 0.001") - 1));
+    assertEquals(1, lines.stream().filter("# TYPE jsystemd_notify_sent_total counter"::equals).count());
+    assertEquals(SystemdNotify.counters().size(), lines.stream().filter(line -> line.startsWith("jsystemd_notify_sent_total{type=\"")).count());
+    assertTrue(lines.contains("jsystemd_watchdog_heartbeats_total 0"));
+    assertEquals("# EOF", lines.get(lines.size() - 1));
+    for (String line : lines) {
+      assertTrue(line.startsWith("# ") || line.matches("[a-zA-Z_:][a-zA-Z0-9_:]*(\\{.*})? -?[0-9]+(\\.[0-9]+)?"), "malformed line " + line);
+    }
+  }
+
+  @Test
+  void labelsAreEscapedAndAddedToEverySample() throws IOException {
+    List<String> lines = export(SystemdPrometheusExporter.builder().directory(directory).metrics(metrics).prefix("app").label("service", "a\"b\\c\nd")
+        .build());
+
+    String label = "service=\"a\\\"b\\\\c\\nd\"";
+    assertTrue(lines.contains("app_watchdog_heartbeats_total{" + label + "} 0"), String.join("\n", lines));
+    assertTrue(line(lines, "app_notify_sent_total{").matches("app_notify_sent_total\\{type=\"[A-Z_]+\"," + Pattern.quote(label) + "} \\d+"));
+    assertFalse(lines.stream().anyMatch(line -> !line.startsWith("#") && !line.contains(label)));
+  }
+
+  @Test
+  void fileIsReplacedOnEveryExport() throws IOException {
+    AtomicLong value = new AtomicLong(1);
+    metrics.gauge("test.value", "count", value::get);
+    SystemdPrometheusExporter exporter = SystemdPrometheusExporter.builder().directory(directory).metrics(metrics).build();
+    assertTrue(export(exporter).contains("jsystemd_test_value 1"));
+
+    value.set(2);
+    metrics.gauge("test.later", "count", () -> 3);
+    List<String> lines = export(exporter);
+    assertTrue(lines.contains("jsystemd_test_value 2"));
+    assertTrue(lines.contains("jsystemd_test_later 3"));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(List.of(directory.resolve("jsystemd.prom")), files.toList());
+    }
+  }
+
+  @Test
+  void invalidNamesAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> SystemdPrometheusExporter.builder().prefix("1app"));
+    assertThrows(IllegalArgumentException.class, () -> SystemdPrometheusExporter.builder().label("type", "x"));
+    assertThrows(IllegalArgumentException.class, () -> SystemdPrometheusExporter.builder().fileName("jsystemd.txt"));
+    assertThrows(IllegalStateException.class, () -> SystemdPrometheusExporter.builder().build());
+  }
+}
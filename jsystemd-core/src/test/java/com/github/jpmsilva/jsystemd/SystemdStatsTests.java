@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SystemdStatsTests {
+
+  private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  @TempDir
+  Path directory;
+
+  private final SystemdMetrics metrics = new SystemdMetrics();
+  private SystemdStats stats;
+  private volatile long generation;
+
+  @AfterEach
+  void close() throws Exception {
+    if (stats != null) {
+      stats.close();
+    }
+  }
+
+  private MappedByteBuffer start() throws IOException {
+    // a long period, so that only the explicit updates of the tests run after the first one
+    stats = SystemdStats.builder().path(directory.resolve(SystemdStats.FILE_NAME)).metrics(metrics).period(Duration.ofHours(1)).build();
+    try (FileChannel channel = FileChannel.open(stats.getPath())) {
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      return buffer;
+    }
+  }
+
+  private static int find(ByteBuffer buffer, String name) {
+    int count = buffer.getInt(SystemdStats.COUNT);
+    for (int i = 0; i < count; i++) {
+      if (name.equals(text(buffer, SystemdStats.HEADER_SIZE + i * SystemdStats.ENTRY_SIZE, SystemdStats.NAME_SIZE))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static String text(ByteBuffer buffer, int offset, int size) {
+    byte[] bytes = new byte[size];
+    buffer.get(offset, bytes);
+    int length = 0;
+    while (length < size && bytes[length] != 0) {
+      length++;
+    }
+    return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+  }
+
+  private static long value(ByteBuffer buffer, int index) {
+    return buffer.getLong(SystemdStats.HEADER_SIZE + index * SystemdStats.ENTRY_SIZE + SystemdStats.NAME_SIZE + SystemdStats.UNIT_SIZE);
+  }
+
+  @Test
+  void fileFollowsTheDocumentedLayout() throws IOException {
+    metrics.gauge("test.answer", "count", () -> 42);
+    MappedByteBuffer buffer = start();
+    stats.update();
+
+    assertEquals(SystemdStats.MAGIC, buffer.getLong(0));
+    assertEquals("JSYSSTAT", text(buffer, 0, 8));
+    assertEquals(SystemdStats.VERSION, buffer.getInt(8));
+    assertEquals(ProcessHandle.current().pid(), buffer.getLong(SystemdStats.PID));
+    assertEquals(Duration.ofHours(1).toMillis(), buffer.getLong(SystemdStats.PERIOD));
+    assertEquals(metrics.getGauges().size(), buffer.getInt(SystemdStats.COUNT));
+    assertEquals(0, buffer.getLong(SystemdStats.SEQUENCE) & 1);
+    assertTrue(buffer.getLong(SystemdStats.UPDATED) > 0);
+
+    int index = find(buffer, "test.answer");
+    assertTrue(index >= 0);
+    assertEquals("count", text(buffer, SystemdStats.HEADER_SIZE + index * SystemdStats.ENTRY_SIZE + SystemdStats.NAME_SIZE, SystemdStats.UNIT_SIZE));
+    assertEquals(42, value(buffer, index));
+  }
+
+  @Test
+  void gaugesAddedLaterArePublishedAndFailingGaugesKeepTheirValue() throws IOException {
+    AtomicBoolean failing = new AtomicBoolean();
+    metrics.gauge("test.flaky", "count", () -> {
+      if (failing.get()) {
+        throw new IllegalStateException("failing");
+      }
+      return 7;
+    });
+    MappedByteBuffer buffer = start();
+    stats.update();
+    metrics.gauge("test.late", "ms", () -> 3);
+    failing.set(true);
+    stats.update();
+
+    assertEquals(7, value(buffer, find(buffer, "test.flaky")));
+    assertEquals(3, value(buffer, find(buffer, "test.late")));
+    assertEquals(metrics.getGauges().size(), buffer.getInt(SystemdStats.COUNT));
+  }
+
+  @Test
+  void readersUnderTheSequenceLockNeverSeeTornUpdates() throws Exception {
+    // every gauge returns the generation of the update, so a consistent read sees the same value in all of them
+    for (int i = 0; i < 16; i++) {
+      metrics.gauge("test.generation" + i, "count", () -> generation);
+    }
+    MappedByteBuffer buffer = start();
+    stats.update();
+    int first = find(buffer, "test.generation0");
+    assertTrue(first >= 0);
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread writer = new Thread(() -> {
+      while (running.get()) {
+        generation++;
+        stats.update();
+      }
+    });
+    writer.start();
+    try {
+      int consistent = 0;
+      long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+      while (System.nanoTime() < deadline) {
+        long before = (long) LONGS.getAcquire(buffer, SystemdStats.SEQUENCE);
+        long[] values = new long[16];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = (long) LONGS.getOpaque(buffer, SystemdStats.HEADER_SIZE + (first + i) * SystemdStats.ENTRY_SIZE + SystemdStats.NAME_SIZE
+              + SystemdStats.UNIT_SIZE);
+        }
+        VarHandle.loadLoadFence();
+        if ((before & 1) != 0 || (long) LONGS.getOpaque(buffer, SystemdStats.SEQUENCE) != before) {
+          continue;
+        }
+        consistent++;
+        for (long value : values) {
+          assertEquals(values[0], value, "torn read at sequence " + before);
+        }
+      }
+      assertTrue(consistent > 0);
+    } finally {
+      running.set(false);
+      writer.join();
+    }
+  }
+
+  @Test
+  void closeDeletesTheFile() throws Exception {
+    start();
+    Path path = stats.getPath();
+    assertTrue(Files.exists(path));
+    stats.close();
+    stats = null;
+    assertFalse(Files.exists(path));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SystemdTests {
+
+  private final HealthProvider healthy = Health::healthy;
+  private final HealthProvider unhealthy = () -> new Health(false, Map.of("reason", "test"));
+
+  @Test
+  void addedHealthProvidersAreCombined() throws Exception {
+    try (Systemd systemd = Systemd.builder().build()) {
+      systemd.addHealthProvider(healthy);
+      assertSame(healthy, systemd.getHealthProvider().orElseThrow());
+
+      systemd.addHealthProvider(unhealthy);
+      HealthProvider combined = systemd.getHealthProvider().orElseThrow();
+      systemd.addHealthProvider(healthy);
+      assertSame(combined, systemd.getHealthProvider().orElseThrow());
+      assertEquals(List.of(healthy, unhealthy, healthy), assertInstanceOf(CompositeHealthProvider.class, combined).getDelegates());
+      assertFalse(combined.health().healthy);
+    }
+  }
+
+  @Test
+  void compositeSetByTheCallerIsNeverModified() throws Exception {
+    try (Systemd systemd = Systemd.builder().build()) {
+      CompositeHealthProvider callers = new CompositeHealthProvider(healthy);
+      systemd.setHealthProvider(callers);
+      systemd.addHealthProvider(unhealthy);
+
+      assertEquals(List.of(healthy), callers.getDelegates());
+      HealthProvider combined = systemd.getHealthProvider().orElseThrow();
+      assertNotSame(callers, combined);
+      assertEquals(List.of(callers, unhealthy), assertInstanceOf(CompositeHealthProvider.class, combined).getDelegates());
+    }
+  }
+}
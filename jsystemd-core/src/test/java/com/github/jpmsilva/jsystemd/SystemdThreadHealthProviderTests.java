@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SystemdThreadHealthProviderTests {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+
+  @AfterEach
+  void shutdown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  private void submit(int tasks, long sleepMillis) {
+    for (int i = 0; i < tasks; i++) {
+      executor.execute(() -> {
+        try {
+          if (sleepMillis > 0) {
+            Thread.sleep(sleepMillis);
+          } else {
+            release.await();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+  }
+
+  @Test
+  void saturatedExecutorThatCompletesTasksIsHealthy() throws InterruptedException {
+    submit(1000, 10);
+    SystemdThreadHealthProvider provider = SystemdThreadHealthProvider.builder().executor("busy", executor).stallPeriod(Duration.ZERO).build();
+
+    for (int i = 0; i < 5; i++) {
+      assertTrue(provider.health().healthy);
+      Thread.sleep(100);
+    }
+  }
+
+  @Test
+  void saturatedExecutorThatCompletesNoTaskIsUnhealthyAfterStallPeriod() throws InterruptedException {
+    submit(5, 0);
+    SystemdThreadHealthProvider provider = SystemdThreadHealthProvider.builder().executor("stuck", executor).stallPeriod(Duration.ofMillis(200)).build();
+
+    assertTrue(provider.health().healthy);
+    Thread.sleep(300);
+    Health health = provider.health();
+    assertFalse(health.healthy);
+    assertEquals(Set.of("executor.stuck"), health.details.keySet());
+  }
+
+  @Test
+  void stalledExecutorWithUnboundedQueueIsUnhealthyBelowItsMaximumPoolSize() throws InterruptedException {
+    // as the default task executor of Spring Boot, which never grows past its core size
+    ThreadPoolExecutor unbounded = new ThreadPoolExecutor(2, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    try {
+      for (int i = 0; i < 5; i++) {
+        unbounded.execute(() -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+      }
+      SystemdThreadHealthProvider provider = SystemdThreadHealthProvider.builder().executor("stuck", unbounded).stallPeriod(Duration.ofMillis(200)).build();
+
+      assertTrue(provider.health().healthy);
+      Thread.sleep(300);
+      Health health = provider.health();
+      assertFalse(health.healthy);
+      assertTrue(health.details.get("executor.stuck").toString().startsWith("2/2 busy, 3 queued"), health.details.toString());
+    } finally {
+      release.countDown();
+      unbounded.shutdownNow();
+    }
+  }
+
+  @Test
+  void executorWithIdleThreadsIsHealthy() throws InterruptedException {
+    submit(1, 0);
+    SystemdThreadHealthProvider provider = SystemdThreadHealthProvider.builder().executor("idle", executor).stallPeriod(Duration.ZERO).build();
+
+    assertTrue(provider.health().healthy);
+    Thread.sleep(50);
+    assertTrue(provider.health().healthy);
+  }
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Asynchronous writer of entries to the systemd journal, over its native protocol.
+ *
+ * <p>Entries are queued in a bounded ring buffer, and sent by a dedicated thread in batches, each batch with a single system call over a persistent
+ * datagram socket. Entries larger than the configured threshold are passed to journald through sealed memfds.
+ *
+ * <p>Two policies control what happens under pressure, and every entry lost is accounted for in a summary entry sent to the journal:
+ * <ul>
+ *   <li>when the ring buffer is full, because journald does not keep up, new entries are either dropped or block the caller, see {@link OverflowPolicy}</li>
+ *   <li>journald drops entries beyond its rate limit ({@code RateLimitIntervalSec=} and {@code RateLimitBurst=} in journald.conf) without telling which. The
+ *   writer applies the same limit first, and chooses what is dropped: once 80% of the burst is used within the interval, only entries of priority
+ *   {@link SystemdJournalEntry#WARNING} or above are sent, and once the whole burst is used, none are.</li>
+ * </ul>
+ *
+ * <p>Entries that could not be sent because of an error, even after reconnecting, are accounted for in the same way, once the journal can be written again.
+ * The error itself is passed to the {@link Builder#errorHandler(Consumer) error handler}, which the appenders route to the status of the logging framework.
+ *
+ * @author Joao Silva
+ * @see SystemdJournalEntry
+ * @see <a href="https://systemd.io/JOURNAL_NATIVE_PROTOCOL/">Native Journal Protocol</a>
+ */
+public class SystemdJournal implements AutoCloseable {
+
+  /**
+   * The path of the socket journald listens on for the native protocol.
+   */
+  public static final Path DEFAULT_SOCKET = Path.of("/run/systemd/journal/socket");
+
+  @NonNull
+  private final BlockingQueue<SystemdJournalEntry> ring;
+  @NonNull
+  private final OverflowPolicy overflowPolicy;
+  private final int batchSize;
+  private final int largeEntryThreshold;
+  private final int rateLimitBurst;
+  private final long rateLimitIntervalNanos;
+  @Nullable
+  private final String syslogIdentifier;
+  @NonNull
+  private final Consumer<Exception> errorHandler;
+  @NonNull
+  private final SystemdJournalSocket socket;
+  @NonNull
+  private final Thread sender;
+  @NonNull
+  private final AtomicLong overflowed = new AtomicLong();
+  private volatile boolean closed;
+
+  // only accessed by the sender thread
+  private long windowStart = System.nanoTime();
+  private int windowCount;
+  private long suppressed;
+  private long suppressedImportant;
+  private int unsent;
+  private long failed;
+  @Nullable
+  private String lastError;
+
+  private SystemdJournal(@NonNull Builder builder) throws IOException {
+    this.ring = new ArrayBlockingQueue<>(builder.capacity);
+    this.overflowPolicy = builder.overflowPolicy;
+    this.batchSize = builder.batchSize;
+    this.largeEntryThreshold = builder.largeEntryThreshold;
+    this.rateLimitBurst = builder.rateLimitBurst;
+    this.rateLimitIntervalNanos = builder.rateLimitInterval.toNanos();
+    this.syslogIdentifier = builder.syslogIdentifier;
+    this.errorHandler = builder.errorHandler;
+    this.socket = new SystemdJournalSocket(builder.socket, builder.batchSize, Math.max(builder.largeEntryThreshold, 64 * 1024) * 4);
+    this.socket.connect();
+    this.sender = new Thread(this::run, "jsystemd-journal");
+    this.sender.setDaemon(true);
+    this.sender.start();
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdJournal instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Queues an entry to be sent to the journal.
+   *
+   * @param entry the entry to send
+   * @return {@code true} if the entry was queued, {@code false} if it was dropped because the ring buffer is full or the writer is closed
+   */
+  public boolean send(@NonNull SystemdJournalEntry entry) {
+    requireNonNull(entry, "Entry must not be null");
+    if (closed) {
+      return false;
+    }
+    if (overflowPolicy == OverflowPolicy.BLOCK) {
+      try {
+        ring.put(entry);
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    } else if (ring.offer(entry)) {
+      return true;
+    }
+    overflowed.incrementAndGet();
+    return false;
+  }
+
+  private void run() {
+    List<SystemdJournalEntry> batch = new ArrayList<>(batchSize);
+    List<byte[]> datagrams = new ArrayList<>(batchSize);
+    while (!closed || !ring.isEmpty()) {
+      try {
+        SystemdJournalEntry first = ring.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        ring.drainTo(batch, batchSize - 1);
+        write(batch, datagrams);
+      } catch (InterruptedException e) {
+        // keep draining until closed, so that no queued entry is lost
+        continue;
+      } catch (IOException | RuntimeException e) {
+        failed += unsent;
+        lastError = e.toString();
+        errorHandler.accept(e);
+      } finally {
+        unsent = 0;
+        batch.clear();
+        datagrams.clear();
+      }
+    }
+  }
+
+  private void write(@NonNull List<SystemdJournalEntry> batch, @NonNull List<byte[]> datagrams) throws IOException {
+    summarize(datagrams);
+    unsent = batch.size();
+    int batched = 0;
+    for (SystemdJournalEntry entry : batch) {
+      if (!admit(entry)) {
+        unsent--;
+        continue;
+      }
+      if (entry.size() > largeEntryThreshold || entry.size() > socket.maxBatchedSize()) {
+        // keep the order of the entries
+        flush(datagrams);
+        unsent -= batched;
+        batched = 0;
+        socket.sendLarge(entry.toByteArray());
+        unsent--;
+      } else {
+        datagrams.add(entry.toByteArray());
+        batched++;
+      }
+    }
+    flush(datagrams);
+    unsent -= batched;
+  }
+
+  private void flush(@NonNull List<byte[]> datagrams) throws IOException {
+    if (datagrams.isEmpty()) {
+      return;
+    }
+    try {
+      socket.send(datagrams);
+    } catch (IOException e) {
+      // journald may have been restarted, reconnect and retry once
+      socket.connect();
+      socket.send(datagrams);
+    } finally {
+      datagrams.clear();
+    }
+  }
+
+  private boolean admit(@NonNull SystemdJournalEntry entry) {
+    if (rateLimitBurst <= 0) {
+      return true;
+    }
+    boolean important = entry.getPriority() <= SystemdJournalEntry.WARNING;
+    if (windowCount >= rateLimitBurst || !important && windowCount >= rateLimitBurst * 4L / 5) {
+      suppressed++;
+      if (important) {
+        suppressedImportant++;
+      }
+      return false;
+    }
+    windowCount++;
+    return true;
+  }
+
+  private void summarize(@NonNull List<byte[]> datagrams) {
+    long now = System.nanoTime();
+    if (now - windowStart >= rateLimitIntervalNanos) {
+      windowStart = now;
+      windowCount = 0;
+      if (suppressed > 0) {
+        datagrams.add(summary(String.format("Suppressed %d log entries to stay under the journald rate limit, %d of them of priority warning or above",
+            suppressed, suppressedImportant)));
+        suppressed = 0;
+        suppressedImportant = 0;
+      }
+    }
+    if (failed > 0) {
+      datagrams.add(summary(String.format("Could not send %d log entries because of errors writing to the journal, the last one: %s", failed, lastError)));
+      failed = 0;
+      lastError = null;
+    }
+    long dropped = overflowed.getAndSet(0);
+    if (dropped > 0) {
+      datagrams.add(summary(String.format("Dropped %d log entries because the journal did not keep up", dropped)));
+    }
+  }
+
+  private byte @NonNull [] summary(@NonNull String message) {
+    windowCount++;
+    return new SystemdJournalEntry(SystemdJournalEntry.WARNING).field("MESSAGE", message).field("SYSLOG_IDENTIFIER", syslogIdentifier).toByteArray();
+  }
+
+  /**
+   * Returns the number of entries dropped because the ring buffer was full, and not yet accounted for in a summary entry.
+   *
+   * @return the number of entries dropped
+   */
+  public long getOverflowed() {
+    return overflowed.get();
+  }
+
+  /**
+   * Stops accepting entries, sends the ones queued, and closes the socket.
+   *
+   * @throws InterruptedException if interrupted while waiting for the queued entries to be sent
+   */
+  @Override
+  public void close() throws InterruptedException {
+    closed = true;
+    sender.join(TimeUnit.SECONDS.toMillis(5));
+    socket.close();
+  }
+
+  /**
+   * What to do with new entries when the ring buffer is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * Drop the new entries, never blocking the logging threads. This is the default.
+     */
+    DROP,
+    /**
+     * Block the logging threads until there is room in the ring buffer, so that no entry is lost.
+     */
+    BLOCK
+  }
+
+  /**
+   * Specialized build class of {@link SystemdJournal} objects.
+   */
+  public static class Builder {
+
+    @NonNull
+    private Path socket = DEFAULT_SOCKET;
+    private int capacity = 8192;
+    private int batchSize = 64;
+    @NonNull
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private int largeEntryThreshold = 64 * 1024;
+    private int rateLimitBurst = 10000;
+    @NonNull
+    private Duration rateLimitInterval = Duration.ofSeconds(30);
+    @Nullable
+    private String syslogIdentifier;
+    @NonNull
+    private Consumer<Exception> errorHandler = e -> {
+    };
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the path of the journald socket. Defaults to {@link #DEFAULT_SOCKET}.
+     *
+     * @param socket the path of the socket
+     * @return the same builder instance
+     */
+    public Builder socket(@NonNull Path socket) {
+      this.socket = requireNonNull(socket, "Socket must not be null");
+      return this;
+    }
+
+    /**
+     * Sets the number of entries the ring buffer holds. Defaults to 8192.
+     *
+     * @param capacity the number of entries
+     * @return the same builder instance
+     */
+    public Builder capacity(int capacity) {
+      if (capacity <= 0) {
+        throw new IllegalArgumentException("Illegal value for capacity");
+      }
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of entries sent with a single system call. Defaults to 64.
+     *
+     * @param batchSize the maximum number of entries per batch
+     * @return the same builder instance
+     */
+    public Builder batchSize(int batchSize) {
+      if (batchSize <= 0) {
+        throw new IllegalArgumentException("Illegal value for batch size");
+      }
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Sets what to do with new entries when the ring buffer is full. Defaults to {@link OverflowPolicy#DROP}.
+     *
+     * @param overflowPolicy the overflow policy
+     * @return the same builder instance
+     */
+    public Builder overflowPolicy(@NonNull OverflowPolicy overflowPolicy) {
+      this.overflowPolicy = requireNonNull(overflowPolicy, "Overflow policy must not be null");
+      return this;
+    }
+
+    /**
+     * Sets the size above which entries are passed through a sealed memfd rather than a datagram. Defaults to 64 KiB.
+     *
+     * @param largeEntryThreshold the size, in bytes
+     * @return the same builder instance
+     */
+    public Builder largeEntryThreshold(int largeEntryThreshold) {
+      if (largeEntryThreshold <= 0) {
+        throw new IllegalArgumentException("Illegal value for large entry threshold");
+      }
+      this.largeEntryThreshold = largeEntryThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the rate limit to apply before journald does, which should match {@code RateLimitBurst=} and {@code RateLimitIntervalSec=} of the service.
+     * Defaults to the journald defaults, 10000 entries every 30 seconds.
+     *
+     * @param burst the maximum number of entries per interval, or 0 to disable rate limiting
+     * @param interval the interval
+     * @return the same builder instance
+     */
+    public Builder rateLimit(int burst, @NonNull Duration interval) {
+      requireNonNull(interval, "Interval must not be null");
+      if (burst < 0) {
+        throw new IllegalArgumentException("Illegal value for burst");
+      }
+      if (interval.isNegative() || interval.isZero()) {
+        throw new IllegalArgumentException("Illegal value for interval");
+      }
+      this.rateLimitBurst = burst;
+      this.rateLimitInterval = interval;
+      return this;
+    }
+
+    /**
+     * Sets the {@code SYSLOG_IDENTIFIER} of the summary entries the writer sends itself.
+     *
+     * @param syslogIdentifier the syslog identifier
+     * @return the same builder instance
+     */
+    public Builder syslogIdentifier(@Nullable String syslogIdentifier) {
+      this.syslogIdentifier = syslogIdentifier;
+      return this;
+    }
+
+    /**
+     * Sets the handler of errors sending entries, which must not log through the journal itself. Defaults to none, the entries lost being reported in a
+     * summary entry once the journal can be written again.
+     *
+     * @param errorHandler the error handler
+     * @return the same builder instance
+     */
+    public Builder errorHandler(@NonNull Consumer<Exception> errorHandler) {
+      this.errorHandler = requireNonNull(errorHandler, "Error handler must not be null");
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdJournal} instance, connected to journald.
+     *
+     * @return the instance built
+     * @throws IOException if the socket cannot be connected, or the platform is not 64 bit Linux
+     */
+    public SystemdJournal build() throws IOException {
+      return new SystemdJournal(this);
+    }
+  }
+}
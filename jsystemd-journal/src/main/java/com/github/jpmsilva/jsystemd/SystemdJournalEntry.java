@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Entry of the systemd journal, encoded in the native journal protocol as fields are added.
+ *
+ * <p>Values without line breaks are encoded as {@code NAME=value} lines, and values with line breaks, such as stack traces, in the binary form: the field name,
+ * a line break, the length of the value as a 64 bit little endian integer, the value, and a line break.
+ *
+ * @author Joao Silva
+ * @see <a href="https://systemd.io/JOURNAL_NATIVE_PROTOCOL/">Native Journal Protocol</a>
+ * @see SystemdJournal
+ */
+public final class SystemdJournalEntry {
+
+  /**
+   * Syslog priority of entries reporting that the system is unusable.
+   */
+  public static final int EMERGENCY = 0;
+  /**
+   * Syslog priority of entries reporting that action must be taken immediately.
+   */
+  public static final int ALERT = 1;
+  /**
+   * Syslog priority of entries reporting critical conditions.
+   */
+  public static final int CRITICAL = 2;
+  /**
+   * Syslog priority of entries reporting error conditions.
+   */
+  public static final int ERROR = 3;
+  /**
+   * Syslog priority of entries reporting warning conditions.
+   */
+  public static final int WARNING = 4;
+  /**
+   * Syslog priority of entries reporting normal but significant conditions.
+   */
+  public static final int NOTICE = 5;
+  /**
+   * Syslog priority of informational entries.
+   */
+  public static final int INFO = 6;
+  /**
+   * Syslog priority of debug entries.
+   */
+  public static final int DEBUG = 7;
+
+  private static final int MAX_FIELD_NAME_LENGTH = 64;
+  // the fields set by the appenders, and the other user fields journald gives a meaning to, see systemd.journal-fields(7)
+  private static final Set<String> RESERVED_FIELD_NAMES = Set.of("MESSAGE", "MESSAGE_ID", "PRIORITY", "CODE_FILE", "CODE_LINE", "CODE_FUNC", "ERRNO",
+      "INVOCATION_ID", "USER_INVOCATION_ID", "SYSLOG_FACILITY", "SYSLOG_IDENTIFIER", "SYSLOG_PID", "SYSLOG_TIMESTAMP", "SYSLOG_RAW", "DOCUMENTATION", "TID",
+      "UNIT", "USER_UNIT", "LOGGER_NAME", "THREAD_NAME");
+
+  private final int priority;
+  @NonNull
+  private final ByteArrayOutputStream data = new ByteArrayOutputStream(256);
+
+  /**
+   * Creates a new entry with the provided priority, set in the {@code PRIORITY} field.
+   *
+   * @param priority the syslog priority of the entry, between {@link #EMERGENCY} and {@link #DEBUG}
+   */
+  public SystemdJournalEntry(int priority) {
+    if (priority < EMERGENCY || priority > DEBUG) {
+      throw new IllegalArgumentException("Illegal value for priority");
+    }
+    this.priority = priority;
+    field("PRIORITY", Integer.toString(priority));
+  }
+
+  /**
+   * Adds a field to the entry. The same field may be added several times, with different values.
+   *
+   * @param name the name of the field, made of uppercase letters, digits and underscores, not starting with an underscore or a digit
+   * @param value the value of the field, ignored if <code>null</code>
+   * @return the same entry
+   * @throws IllegalArgumentException if the name of the field is not valid
+   * @see #fieldName(String)
+   */
+  public @NonNull SystemdJournalEntry field(@NonNull String name, @Nullable String value) {
+    if (!isValidFieldName(requireNonNull(name, "Name must not be null"))) {
+      throw new IllegalArgumentException("Illegal value for field name: " + name);
+    }
+    if (value == null) {
+      return this;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    data.writeBytes(name.getBytes(StandardCharsets.US_ASCII));
+    if (value.indexOf('\n') < 0) {
+      data.write('=');
+    } else {
+      data.write('\n');
+      long length = bytes.length;
+      for (int i = 0; i < Long.BYTES; i++) {
+        data.write((int) (length >>> (8 * i)));
+      }
+    }
+    data.writeBytes(bytes);
+    data.write('\n');
+    return this;
+  }
+
+  /**
+   * Returns the syslog priority of the entry.
+   *
+   * @return the syslog priority
+   */
+  public int getPriority() {
+    return priority;
+  }
+
+  /**
+   * Returns the size of the entry, once encoded.
+   *
+   * @return the size of the entry, in bytes
+   */
+  public int size() {
+    return data.size();
+  }
+
+  byte @NonNull [] toByteArray() {
+    return data.toByteArray();
+  }
+
+  /**
+   * Converts an arbitrary name, such as an MDC key, into a valid journal field name: uppercase, with any character other than letters and digits replaced by
+   * underscores, without leading underscores or digits, and at most 64 characters long.
+   *
+   * @param name the name to convert
+   * @return the valid field name, or <code>null</code> if nothing is left of the name
+   */
+  public static @Nullable String fieldName(@NonNull String name) {
+    StringBuilder field = new StringBuilder(Math.min(name.length(), MAX_FIELD_NAME_LENGTH));
+    for (int i = 0; i < name.length() && field.length() < MAX_FIELD_NAME_LENGTH; i++) {
+      char c = name.charAt(i);
+      if (c >= 'a' && c <= 'z') {
+        field.append((char) (c - 'a' + 'A'));
+      } else if (c >= 'A' && c <= 'Z') {
+        field.append(c);
+      } else if (field.length() > 0) {
+        // leading digits and underscores are not allowed
+        field.append(c >= '0' && c <= '9' ? c : '_');
+      }
+    }
+    return field.length() == 0 ? null : field.toString();
+  }
+
+  /**
+   * Converts a key of the logging context, such as an MDC key, into a valid journal field name, as {@link #fieldName(String)} does. Names that would duplicate
+   * a field with a meaning to journald or the appenders, such as {@code MESSAGE} or {@code PRIORITY}, are prefixed with {@code MDC_}.
+   *
+   * @param key the key to convert
+   * @return the valid field name, or <code>null</code> if nothing is left of the key
+   */
+  public static @Nullable String contextFieldName(@NonNull String key) {
+    String name = fieldName(key);
+    return name != null && RESERVED_FIELD_NAMES.contains(name) ? "MDC_" + name : name;
+  }
+
+  private static boolean isValidFieldName(@NonNull String name) {
+    if (name.isEmpty() || name.length() > MAX_FIELD_NAME_LENGTH || name.charAt(0) == '_' || Character.isDigit(name.charAt(0))) {
+      return false;
+    }
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (!(c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "SystemdJournalEntry{priority=" + priority + ", size=" + data.size() + '}';
+  }
+}
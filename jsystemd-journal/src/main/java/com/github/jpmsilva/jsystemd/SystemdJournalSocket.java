@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Persistent datagram socket connected to journald. Not thread safe, meant to be used by a single sender thread.
+ *
+ * <p>Entries are sent in batches with a single {@code sendmmsg} call, from native buffers allocated once. Entries too large for a datagram are written to a
+ * sealed memfd, whose file descriptor is passed to journald instead, as {@code sd_journal_send} does.
+ *
+ * <p>The native structures are laid out for 64 bit Linux.
+ *
+ * @author Joao Silva
+ */
+final class SystemdJournalSocket implements AutoCloseable {
+
+  private static final int AF_UNIX = 1;
+  private static final int SOCK_DGRAM = 2;
+  private static final int SOCK_CLOEXEC = 0x80000;
+  private static final int SOL_SOCKET = 1;
+  private static final int SO_SNDBUF = 7;
+  private static final int SCM_RIGHTS = 1;
+  private static final int MSG_NOSIGNAL = 0x4000;
+  private static final int MFD_CLOEXEC = 1;
+  private static final int MFD_ALLOW_SEALING = 2;
+  private static final int F_ADD_SEALS = 1033;
+  // F_SEAL_SEAL | F_SEAL_SHRINK | F_SEAL_GROW | F_SEAL_WRITE
+  private static final int SEALS = 1 | 2 | 4 | 8;
+  private static final int EMSGSIZE = 90;
+  private static final int SUN_PATH_LENGTH = 108;
+
+  // struct msghdr is 56 bytes, struct mmsghdr adds the 4 byte msg_len and padding
+  private static final int MSGHDR_SIZE = 56;
+  private static final int MMSGHDR_SIZE = 64;
+  private static final int IOVEC_SIZE = 16;
+  // CMSG_SPACE(sizeof(int)) and CMSG_LEN(sizeof(int))
+  private static final int CMSG_SPACE = 24;
+  private static final int CMSG_LEN = 20;
+
+  @NonNull
+  private final Path path;
+  private final byte @NonNull [] address;
+  private final int maxBatch;
+  @NonNull
+  private final Memory payload;
+  @NonNull
+  private final Memory headers;
+  @NonNull
+  private final Memory iovecs;
+  @NonNull
+  private final Memory control;
+  @NonNull
+  private final Memory message;
+  private int fd = -1;
+
+  /**
+   * Creates a new socket, not yet connected.
+   *
+   * @param path the path of the journald socket
+   * @param maxBatch the maximum number of entries sent with a single system call
+   * @param payloadSize the size of the native batch buffer
+   * @throws IOException if the platform is not 64 bit Linux, checked before any native memory is allocated
+   */
+  SystemdJournalSocket(@NonNull Path path, int maxBatch, int payloadSize) throws IOException {
+    if (!Platform.isLinux() || !Platform.is64Bit()) {
+      throw new IOException("The journal socket is only supported on 64 bit Linux, not " + System.getProperty("os.name") + " "
+          + System.getProperty("os.arch"));
+    }
+    this.path = path;
+    this.address = address(path);
+    this.maxBatch = maxBatch;
+    this.payload = new Memory(payloadSize);
+    this.headers = new Memory((long) MMSGHDR_SIZE * maxBatch);
+    this.iovecs = new Memory((long) IOVEC_SIZE * maxBatch);
+    this.control = new Memory(CMSG_SPACE);
+    this.message = new Memory(MSGHDR_SIZE);
+  }
+
+  /**
+   * Returns the maximum size of an entry that fits in the native batch buffer.
+   *
+   * @return the maximum size, in bytes
+   */
+  long maxBatchedSize() {
+    return payload.size();
+  }
+
+  void connect() throws IOException {
+    close();
+    try {
+      fd = LibC.socket(AF_UNIX, SOCK_DGRAM | SOCK_CLOEXEC, 0);
+      LibC.connect(fd, address, address.length);
+    } catch (LastErrorException e) {
+      close();
+      throw new IOException("Could not connect to " + path, e);
+    }
+    try {
+      // as sd_journal_send does, so that bursts do not block on a small send buffer
+      LibC.setsockopt(fd, SOL_SOCKET, SO_SNDBUF, new int[]{8 * 1024 * 1024}, Integer.BYTES);
+    } catch (LastErrorException ignored) {
+      // keep the default send buffer
+    }
+  }
+
+  /**
+   * Sends the entries, in as few system calls as possible. Entries larger than {@link #maxBatchedSize()} are sent through {@link #sendLarge(byte[])}, in
+   * order with the others.
+   *
+   * @param entries the encoded entries to send
+   * @throws IOException if the entries could not be sent
+   */
+  void send(@NonNull List<byte[]> entries) throws IOException {
+    int next = 0;
+    while (next < entries.size()) {
+      long offset = 0;
+      int count = 0;
+      while (next + count < entries.size() && count < maxBatch && offset + entries.get(next + count).length <= payload.size()) {
+        byte[] entry = entries.get(next + count);
+        payload.write(offset, entry, 0, entry.length);
+        iovecs.setPointer((long) count * IOVEC_SIZE, payload.share(offset));
+        iovecs.setLong((long) count * IOVEC_SIZE + 8, entry.length);
+        Pointer header = headers.share((long) count * MMSGHDR_SIZE);
+        header.clear(MMSGHDR_SIZE);
+        header.setPointer(16, iovecs.share((long) count * IOVEC_SIZE));
+        header.setLong(24, 1);
+        offset += entry.length;
+        count++;
+      }
+      if (count == 0) {
+        // too large for the native buffer, nothing could be packed
+        sendLarge(entries.get(next));
+        next++;
+      } else {
+        next += sendBatch(entries, next, count);
+      }
+    }
+  }
+
+  private int sendBatch(@NonNull List<byte[]> entries, int first, int count) throws IOException {
+    int sent = 0;
+    while (sent < count) {
+      try {
+        sent += LibC.sendmmsg(fd, headers.share((long) sent * MMSGHDR_SIZE), count - sent, MSG_NOSIGNAL);
+      } catch (LastErrorException e) {
+        if (e.getErrorCode() != EMSGSIZE) {
+          throw new IOException("Could not send to " + path, e);
+        }
+        // larger than the socket allows, hand it over through a memfd instead
+        sendLarge(entries.get(first + sent));
+        sent++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Sends an entry of any size, by writing it to a sealed memfd and passing its file descriptor to journald.
+   *
+   * @param entry the encoded entry to send
+   * @throws IOException if the entry could not be sent
+   */
+  void sendLarge(byte @NonNull [] entry) throws IOException {
+    int memfd;
+    try {
+      memfd = LibC.memfd_create("journal-entry", MFD_CLOEXEC | MFD_ALLOW_SEALING);
+    } catch (LastErrorException | UnsatisfiedLinkError e) {
+      throw new IOException("Could not create memfd", e);
+    }
+    try {
+      byte[] remaining = entry;
+      while (remaining.length > 0) {
+        long written = LibC.write(memfd, remaining, remaining.length);
+        remaining = Arrays.copyOfRange(remaining, (int) written, remaining.length);
+      }
+      LibC.fcntl(memfd, F_ADD_SEALS, SEALS);
+
+      control.clear();
+      control.setLong(0, CMSG_LEN);
+      control.setInt(8, SOL_SOCKET);
+      control.setInt(12, SCM_RIGHTS);
+      control.setInt(16, memfd);
+      message.clear();
+      message.setPointer(32, control);
+      message.setLong(40, CMSG_SPACE);
+      LibC.sendmsg(fd, message, MSG_NOSIGNAL);
+    } catch (LastErrorException e) {
+      throw new IOException("Could not send memfd to " + path, e);
+    } finally {
+      LibC.close(memfd);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (fd >= 0) {
+      try {
+        LibC.close(fd);
+      } catch (LastErrorException ignored) {
+        // nothing left to do
+      }
+      fd = -1;
+    }
+  }
+
+  private static byte @NonNull [] address(@NonNull Path path) {
+    byte[] name = path.toString().getBytes(StandardCharsets.UTF_8);
+    if (name.length >= SUN_PATH_LENGTH) {
+      throw new IllegalArgumentException("Illegal value for socket, path too long: " + path);
+    }
+    // struct sockaddr_un: the address family as a native short, followed by the null terminated path
+    ByteBuffer address = ByteBuffer.allocate(Short.BYTES + name.length + 1).order(ByteOrder.nativeOrder());
+    address.putShort((short) AF_UNIX).put(name).put((byte) 0);
+    return address.array();
+  }
+
+  @SuppressWarnings("checkstyle:MethodName")
+  private static class LibC {
+
+    static {
+      Native.register(Platform.C_LIBRARY_NAME);
+    }
+
+    static native int socket(int domain, int type, int protocol) throws LastErrorException;
+
+    static native int connect(int fd, byte[] address, int length) throws LastErrorException;
+
+    static native int setsockopt(int fd, int level, int name, int[] value, int length) throws LastErrorException;
+
+    static native int sendmmsg(int fd, Pointer messages, int length, int flags) throws LastErrorException;
+
+    static native long sendmsg(int fd, Pointer message, int flags) throws LastErrorException;
+
+    static native int memfd_create(String name, int flags) throws LastErrorException;
+
+    static native long write(int fd, byte[] buffer, long count) throws LastErrorException;
+
+    static native int fcntl(int fd, int command, int argument) throws LastErrorException;
+
+    static native int close(int fd) throws LastErrorException;
+  }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import com.github.jpmsilva.jsystemd.SystemdJournal.OverflowPolicy;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Log4j2 appender that writes structured entries directly to the systemd journal.
+ *
+ * <p>Each event becomes an entry with the same fields as {@link SystemdLogbackJournalAppender}, with {@code FATAL} mapped to priority 2. The context data
+ * takes the place of the MDC. When a layout is configured, it formats the {@code MESSAGE} field.
+ *
+ * <p>When the journal socket does not exist, typically because the application is not running under systemd, the appender warns and discards all events.
+ *
+ * <pre>{@code
+ * <SystemdJournal name="journal" syslogIdentifier="my-service" includeLocation="true"/>
+ * }</pre>
+ *
+ * @author Joao Silva
+ * @see SystemdJournal
+ */
+@Plugin(name = "SystemdJournal", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class SystemdLog4jJournalAppender extends AbstractAppender {
+
+  @NonNull
+  private final Builder<?> config;
+  @Nullable
+  private volatile SystemdJournal journal;
+
+  private SystemdLog4jJournalAppender(@NonNull Builder<?> builder) {
+    super(builder.getName(), builder.getFilter(), builder.getLayout(), builder.isIgnoreExceptions(), builder.getPropertyArray());
+    this.config = builder;
+  }
+
+  /**
+   * Provides a dedicated builder instance, used by Log4j2 to create SystemdLog4jJournalAppender instances from the configuration.
+   *
+   * @param <B> the type of the builder
+   * @return a builder instance
+   */
+  @PluginBuilderFactory
+  public static <B extends Builder<B>> @NonNull B newBuilder() {
+    return new Builder<B>().asBuilder();
+  }
+
+  @Override
+  public void start() {
+    Path socket = Path.of(config.socket);
+    if (!Files.exists(socket)) {
+      LOGGER.warn("Journal socket {} does not exist, not logging to the journal", socket);
+    } else {
+      try {
+        journal = SystemdJournal.builder()
+            .socket(socket)
+            .capacity(config.capacity)
+            .batchSize(config.batchSize)
+            .overflowPolicy(config.overflowPolicy)
+            .largeEntryThreshold(config.largeEntryThreshold)
+            .rateLimit(config.rateLimitBurst, Duration.ofSeconds(config.rateLimitIntervalSeconds))
+            .syslogIdentifier(config.syslogIdentifier)
+            .errorHandler(e -> LOGGER.error("Could not write to the journal", e))
+            .build();
+      } catch (IOException | IllegalArgumentException e) {
+        LOGGER.error("Could not connect to the journal socket {}", socket, e);
+      }
+    }
+    super.start();
+  }
+
+  @Override
+  public boolean stop(long timeout, TimeUnit timeUnit) {
+    setStopping();
+    boolean stopped = super.stop(timeout, timeUnit, false);
+    SystemdJournal journal = this.journal;
+    if (journal != null) {
+      try {
+        journal.close();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        stopped = false;
+      }
+      this.journal = null;
+    }
+    setStopped();
+    return stopped;
+  }
+
+  @Override
+  public void append(LogEvent event) {
+    SystemdJournal journal = this.journal;
+    if (journal == null) {
+      return;
+    }
+    SystemdJournalEntry entry = new SystemdJournalEntry(priority(event))
+        .field("MESSAGE", message(event))
+        .field("SYSLOG_IDENTIFIER", config.syslogIdentifier)
+        .field("LOGGER_NAME", event.getLoggerName())
+        .field("THREAD_NAME", event.getThreadName());
+    StackTraceElement source = config.includeLocation ? event.getSource() : null;
+    if (source != null) {
+      entry.field("CODE_FILE", source.getFileName())
+          .field("CODE_LINE", Integer.toString(source.getLineNumber()))
+          .field("CODE_FUNC", source.getClassName() + "." + source.getMethodName());
+    }
+    event.getContextData().forEach((key, value) -> {
+      String name = SystemdJournalEntry.contextFieldName(config.contextPrefix + key);
+      if (name != null && value != null) {
+        entry.field(name, value.toString());
+      }
+    });
+    journal.send(entry);
+  }
+
+  private @NonNull String message(@NonNull LogEvent event) {
+    if (getLayout() != null) {
+      return getLayout().toSerializable(event).toString();
+    }
+    String message = event.getMessage().getFormattedMessage();
+    Throwable thrown = event.getThrown();
+    if (thrown == null) {
+      return message;
+    }
+    StringWriter writer = new StringWriter();
+    writer.write(message);
+    writer.write(System.lineSeparator());
+    thrown.printStackTrace(new PrintWriter(writer));
+    return writer.toString();
+  }
+
+  private static int priority(@NonNull LogEvent event) {
+    return switch (event.getLevel().getStandardLevel()) {
+      case OFF, FATAL -> SystemdJournalEntry.CRITICAL;
+      case ERROR -> SystemdJournalEntry.ERROR;
+      case WARN -> SystemdJournalEntry.WARNING;
+      case INFO -> SystemdJournalEntry.INFO;
+      default -> SystemdJournalEntry.DEBUG;
+    };
+  }
+
+  /**
+   * Specialized build class of {@link SystemdLog4jJournalAppender} objects, configured by Log4j2 from the attributes of the {@code SystemdJournal}
+   * element.
+   *
+   * @param <B> the type of the builder
+   */
+  public static class Builder<B extends Builder<B>> extends AbstractAppender.Builder<B>
+      implements org.apache.logging.log4j.core.util.Builder<SystemdLog4jJournalAppender> {
+
+    @PluginBuilderAttribute
+    private String socket = SystemdJournal.DEFAULT_SOCKET.toString();
+    @PluginBuilderAttribute
+    private String syslogIdentifier;
+    @PluginBuilderAttribute
+    private boolean includeLocation;
+    @PluginBuilderAttribute
+    private String contextPrefix = "";
+    @PluginBuilderAttribute
+    private int capacity = 8192;
+    @PluginBuilderAttribute
+    private int batchSize = 64;
+    @PluginBuilderAttribute
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    @PluginBuilderAttribute
+    private int largeEntryThreshold = 64 * 1024;
+    @PluginBuilderAttribute
+    private int rateLimitBurst = 10000;
+    @PluginBuilderAttribute
+    private long rateLimitIntervalSeconds = 30;
+
+    /**
+     * Creates a new builder, with the default settings.
+     */
+    public Builder() {
+    }
+
+    /**
+     * Sets the path of the journald socket. Defaults to {@code /run/systemd/journal/socket}.
+     *
+     * @param socket the path of the socket
+     * @return the same builder instance
+     */
+    public B setSocket(@NonNull String socket) {
+      this.socket = socket;
+      return asBuilder();
+    }
+
+    /**
+     * Sets the {@code SYSLOG_IDENTIFIER} of the entries. When not set, journald identifies entries by the name of the process.
+     *
+     * @param syslogIdentifier the syslog identifier
+     * @return the same builder instance
+     */
+    public B setSyslogIdentifier(@Nullable String syslogIdentifier) {
+      this.syslogIdentifier = syslogIdentifier;
+      return asBuilder();
+    }
+
+    /**
+     * Sets whether the {@code CODE_FILE}, {@code CODE_LINE} and {@code CODE_FUNC} fields are added. Defaults to <code>false</code>.
+     *
+     * @param includeLocation whether to include the location
+     * @return the same builder instance
+     */
+    public B setIncludeLocation(boolean includeLocation) {
+      this.includeLocation = includeLocation;
+      return asBuilder();
+    }
+
+    /**
+     * Sets the prefix added to context data keys before they are converted into field names. Defaults to none.
+     *
+     * @param contextPrefix the prefix of context data fields
+     * @return the same builder instance
+     */
+    public B setContextPrefix(@NonNull String contextPrefix) {
+      this.contextPrefix = contextPrefix;
+      return asBuilder();
+    }
+
+    /**
+     * Sets the number of entries the ring buffer holds. Defaults to 8192.
+     *
+     * @param capacity the number of entries
+     * @return the same builder instance
+     */
+    public B setCapacity(int capacity) {
+      this.capacity = capacity;
+      return asBuilder();
+    }
+
+    /**
+     * Sets the maximum number of entries sent with a single system call. Defaults to 64.
+     *
+     * @param batchSize the maximum number of entries per batch
+     * @return the same builder instance
+     */
+    public B setBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+      return asBuilder();
+    }
+
+    /**
+     * Sets what to do with new entries when the ring buffer is full. Defaults to {@link OverflowPolicy#DROP}.
+     *
+     * @param overflowPolicy the overflow policy
+     * @return the same builder instance
+     */
+    public B setOverflowPolicy(@NonNull OverflowPolicy overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+      return asBuilder();
+    }
+
+    /**
+     * Sets the maximum number of entries sent per rate limit interval, or 0 to disable rate limiting. Defaults to 10000, as journald.
+     *
+     * @param rateLimitBurst the maximum number of entries per interval
+     * @return the same builder instance
+     */
+    public B setRateLimitBurst(int rateLimitBurst) {
+      this.rateLimitBurst = rateLimitBurst;
+      return asBuilder();
+    }
+
+    /**
+     * Sets the size above which entries are passed through a sealed memfd. Defaults to 64 KiB.
+     *
+     * @param largeEntryThreshold the size, in bytes
+     * @return the same builder instance
+     */
+    public B setLargeEntryThreshold(int largeEntryThreshold) {
+      this.largeEntryThreshold = largeEntryThreshold;
+      return asBuilder();
+    }
+
+    /**
+     * Sets the rate limit interval. Defaults to 30 seconds, as journald.
+     *
+     * @param rateLimitIntervalSeconds the interval, in seconds
+     * @return the same builder instance
+     */
+    public B setRateLimitIntervalSeconds(long rateLimitIntervalSeconds) {
+      this.rateLimitIntervalSeconds = rateLimitIntervalSeconds;
+      return asBuilder();
+    }
+
+    @Override
+    public SystemdLog4jJournalAppender build() {
+      return new SystemdLog4jJournalAppender(this);
+    }
+  }
+}
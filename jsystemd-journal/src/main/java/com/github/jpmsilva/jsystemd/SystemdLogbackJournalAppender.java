@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import com.github.jpmsilva.jsystemd.SystemdJournal.OverflowPolicy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Logback appender that writes structured entries directly to the systemd journal.
+ *
+ * <p>Each event becomes an entry with the following fields:
+ * <ul>
+ *   <li>{@code MESSAGE}, the formatted message followed by the stack trace, if any</li>
+ *   <li>{@code PRIORITY}, mapped from the level: {@code ERROR} to 3, {@code WARN} to 4, {@code INFO} to 6, {@code DEBUG} and {@code TRACE} to 7</li>
+ *   <li>{@code SYSLOG_IDENTIFIER}, if configured</li>
+ *   <li>{@code LOGGER_NAME} and {@code THREAD_NAME}</li>
+ *   <li>{@code CODE_FILE}, {@code CODE_LINE} and {@code CODE_FUNC}, if caller data is included</li>
+ *   <li>one field per MDC entry, with the key converted by {@link SystemdJournalEntry#contextFieldName(String)} and an optional prefix</li>
+ * </ul>
+ *
+ * <p>Entries are sent asynchronously by a {@link SystemdJournal}, so this appender does not need to be wrapped in an {@code AsyncAppender}. When the journal
+ * socket does not exist, typically because the application is not running under systemd, the appender warns and does not start.
+ *
+ * <pre>{@code
+ * <appender name="JOURNAL" class="com.github.jpmsilva.jsystemd.SystemdLogbackJournalAppender">
+ *   <syslogIdentifier>my-service</syslogIdentifier>
+ *   <includeCallerData>true</includeCallerData>
+ * </appender>
+ * }</pre>
+ *
+ * @author Joao Silva
+ * @see SystemdJournal
+ */
+public class SystemdLogbackJournalAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+  @NonNull
+  private String socket = SystemdJournal.DEFAULT_SOCKET.toString();
+  @Nullable
+  private String syslogIdentifier;
+  private boolean includeCallerData;
+  @NonNull
+  private String mdcPrefix = "";
+  private int capacity = 8192;
+  private int batchSize = 64;
+  @NonNull
+  private String overflowPolicy = OverflowPolicy.DROP.name();
+  private int largeEntryThreshold = 64 * 1024;
+  private int rateLimitBurst = 10000;
+  private long rateLimitIntervalSeconds = 30;
+  @Nullable
+  private SystemdJournal journal;
+
+  @Override
+  public void start() {
+    if (!Files.exists(Path.of(socket))) {
+      addWarn("Journal socket " + socket + " does not exist, not logging to the journal");
+      return;
+    }
+    try {
+      journal = SystemdJournal.builder()
+          .socket(Path.of(socket))
+          .capacity(capacity)
+          .batchSize(batchSize)
+          .overflowPolicy(OverflowPolicy.valueOf(overflowPolicy))
+          .largeEntryThreshold(largeEntryThreshold)
+          .rateLimit(rateLimitBurst, Duration.ofSeconds(rateLimitIntervalSeconds))
+          .syslogIdentifier(syslogIdentifier)
+          .errorHandler(e -> addError("Could not write to the journal", e))
+          .build();
+    } catch (IOException | IllegalArgumentException e) {
+      addError("Could not connect to the journal socket " + socket, e);
+      return;
+    }
+    super.start();
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    SystemdJournal journal = this.journal;
+    if (journal != null) {
+      try {
+        journal.close();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      this.journal = null;
+    }
+  }
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    SystemdJournal journal = this.journal;
+    if (journal == null) {
+      return;
+    }
+    SystemdJournalEntry entry = new SystemdJournalEntry(priority(event.getLevel()))
+        .field("MESSAGE", message(event))
+        .field("SYSLOG_IDENTIFIER", syslogIdentifier)
+        .field("LOGGER_NAME", event.getLoggerName())
+        .field("THREAD_NAME", event.getThreadName());
+    if (includeCallerData) {
+      StackTraceElement[] callerData = event.getCallerData();
+      if (callerData != null && callerData.length > 0) {
+        StackTraceElement caller = callerData[0];
+        entry.field("CODE_FILE", caller.getFileName())
+            .field("CODE_LINE", Integer.toString(caller.getLineNumber()))
+            .field("CODE_FUNC", caller.getClassName() + "." + caller.getMethodName());
+      }
+    }
+    for (Map.Entry<String, String> mdc : event.getMDCPropertyMap().entrySet()) {
+      String name = SystemdJournalEntry.contextFieldName(mdcPrefix + mdc.getKey());
+      if (name != null) {
+        entry.field(name, mdc.getValue());
+      }
+    }
+    journal.send(entry);
+  }
+
+  private static @NonNull String message(@NonNull ILoggingEvent event) {
+    IThrowableProxy throwable = event.getThrowableProxy();
+    if (throwable == null) {
+      return event.getFormattedMessage();
+    }
+    return event.getFormattedMessage() + System.lineSeparator() + ThrowableProxyUtil.asString(throwable);
+  }
+
+  private static int priority(@NonNull Level level) {
+    return switch (level.toInt()) {
+      case Level.ERROR_INT -> SystemdJournalEntry.ERROR;
+      case Level.WARN_INT -> SystemdJournalEntry.WARNING;
+      case Level.INFO_INT -> SystemdJournalEntry.INFO;
+      default -> SystemdJournalEntry.DEBUG;
+    };
+  }
+
+  /**
+   * Sets the path of the journald socket. Defaults to {@code /run/systemd/journal/socket}.
+   *
+   * @param socket the path of the socket
+   */
+  public void setSocket(@NonNull String socket) {
+    this.socket = socket;
+  }
+
+  /**
+   * Sets the {@code SYSLOG_IDENTIFIER} of the entries. When not set, journald identifies entries by the name of the process.
+   *
+   * @param syslogIdentifier the syslog identifier
+   */
+  public void setSyslogIdentifier(@Nullable String syslogIdentifier) {
+    this.syslogIdentifier = syslogIdentifier;
+  }
+
+  /**
+   * Sets whether the {@code CODE_FILE}, {@code CODE_LINE} and {@code CODE_FUNC} fields are added. Defaults to <code>false</code>, as computing caller data
+   * is expensive.
+   *
+   * @param includeCallerData whether to include caller data
+   */
+  public void setIncludeCallerData(boolean includeCallerData) {
+    this.includeCallerData = includeCallerData;
+  }
+
+  /**
+   * Sets the prefix added to MDC keys before they are converted into field names. Defaults to none.
+   *
+   * @param mdcPrefix the prefix of MDC fields
+   */
+  public void setMdcPrefix(@NonNull String mdcPrefix) {
+    this.mdcPrefix = mdcPrefix;
+  }
+
+  /**
+   * Sets the number of entries the ring buffer holds. Defaults to 8192.
+   *
+   * @param capacity the number of entries
+   */
+  public void setCapacity(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Sets the maximum number of entries sent with a single system call. Defaults to 64.
+   *
+   * @param batchSize the maximum number of entries per batch
+   */
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Sets what to do with new entries when the ring buffer is full, either {@code DROP} or {@code BLOCK}. Defaults to {@code DROP}.
+   *
+   * @param overflowPolicy the overflow policy
+   * @see OverflowPolicy
+   */
+  public void setOverflowPolicy(@NonNull String overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Sets the size above which entries are passed through a sealed memfd. Defaults to 64 KiB.
+   *
+   * @param largeEntryThreshold the size, in bytes
+   */
+  public void setLargeEntryThreshold(int largeEntryThreshold) {
+    this.largeEntryThreshold = largeEntryThreshold;
+  }
+
+  /**
+   * Sets the maximum number of entries sent per rate limit interval, or 0 to disable rate limiting. Defaults to 10000, as journald.
+   *
+   * @param rateLimitBurst the maximum number of entries per interval
+   */
+  public void setRateLimitBurst(int rateLimitBurst) {
+    this.rateLimitBurst = rateLimitBurst;
+  }
+
+  /**
+   * Sets the rate limit interval. Defaults to 30 seconds, as journald.
+   *
+   * @param rateLimitIntervalSeconds the interval, in seconds
+   */
+  public void setRateLimitIntervalSeconds(long rateLimitIntervalSeconds) {
+    this.rateLimitIntervalSeconds = rateLimitIntervalSeconds;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Datagram socket bound to a path, receiving what journald would: plain datagrams, and memfds passed with {@code SCM_RIGHTS}. For 64 bit Linux only.
+ */
+final class JournalReceiver implements AutoCloseable {
+
+  private static final int AF_UNIX = 1;
+  private static final int SOCK_DGRAM = 2;
+  private static final int SOL_SOCKET = 1;
+  private static final int SO_RCVTIMEO = 20;
+  private static final int SCM_RIGHTS = 1;
+  private static final int EAGAIN = 11;
+  private static final int BUFFER_SIZE = 4 * 1024 * 1024;
+
+  private final int fd;
+  private final Memory buffer = new Memory(BUFFER_SIZE);
+  private final Memory iovec = new Memory(16);
+  private final Memory control = new Memory(64);
+  private final Memory message = new Memory(56);
+
+  JournalReceiver(Path path) {
+    fd = LibC.socket(AF_UNIX, SOCK_DGRAM, 0);
+    byte[] name = path.toString().getBytes(StandardCharsets.UTF_8);
+    ByteBuffer address = ByteBuffer.allocate(Short.BYTES + name.length + 1).order(ByteOrder.nativeOrder());
+    address.putShort((short) AF_UNIX).put(name).put((byte) 0);
+    LibC.bind(fd, address.array(), address.capacity());
+  }
+
+  static boolean isSupported() {
+    return Platform.isLinux() && Platform.is64Bit();
+  }
+
+  /**
+   * Receives the next entry, reading it from the memfd if one was passed.
+   *
+   * @param timeout how long to wait for an entry
+   * @return the entry, or <code>null</code> if none arrived in time
+   */
+  Received receive(Duration timeout) {
+    // struct timeval
+    LibC.setsockopt(fd, SOL_SOCKET, SO_RCVTIMEO, new long[]{timeout.toSeconds(), timeout.toMillisPart() * 1000L}, 16);
+    iovec.setPointer(0, buffer);
+    iovec.setLong(8, BUFFER_SIZE);
+    control.clear();
+    message.clear();
+    message.setPointer(16, iovec);
+    message.setLong(24, 1);
+    message.setPointer(32, control);
+    message.setLong(40, control.size());
+    long length;
+    try {
+      length = LibC.recvmsg(fd, message, 0);
+    } catch (LastErrorException e) {
+      if (e.getErrorCode() == EAGAIN) {
+        return null;
+      }
+      throw e;
+    }
+    if (message.getLong(40) >= 20 && control.getInt(8) == SOL_SOCKET && control.getInt(12) == SCM_RIGHTS) {
+      return new Received(readMemfd(control.getInt(16)), true);
+    }
+    return new Received(buffer.getByteArray(0, (int) length), false);
+  }
+
+  private static byte[] readMemfd(int memfd) {
+    try {
+      ByteArrayOutputStream data = new ByteArrayOutputStream();
+      byte[] chunk = new byte[64 * 1024];
+      long offset = 0;
+      long read;
+      // the offset of the file is shared with the sender, which left it at the end
+      while ((read = LibC.pread(memfd, chunk, chunk.length, offset)) > 0) {
+        data.write(chunk, 0, (int) read);
+        offset += read;
+      }
+      return data.toByteArray();
+    } finally {
+      LibC.close(memfd);
+    }
+  }
+
+  @Override
+  public void close() {
+    LibC.close(fd);
+  }
+
+  /**
+   * Entry received, with the way it was passed.
+   */
+  static final class Received {
+
+    final byte[] data;
+    final boolean memfd;
+
+    private Received(byte[] data, boolean memfd) {
+      this.data = data;
+      this.memfd = memfd;
+    }
+
+    String text() {
+      return new String(data, StandardCharsets.UTF_8);
+    }
+  }
+
+  @SuppressWarnings("checkstyle:MethodName")
+  private static class LibC {
+
+    static {
+      Native.register(Platform.C_LIBRARY_NAME);
+    }
+
+    static native int socket(int domain, int type, int protocol) throws LastErrorException;
+
+    static native int bind(int fd, byte[] address, int length) throws LastErrorException;
+
+    static native int setsockopt(int fd, int level, int name, long[] value, int length) throws LastErrorException;
+
+    static native long recvmsg(int fd, Pointer message, int flags) throws LastErrorException;
+
+    static native long pread(int fd, byte[] buffer, long count, long offset) throws LastErrorException;
+
+    static native int close(int fd) throws LastErrorException;
+  }
+}
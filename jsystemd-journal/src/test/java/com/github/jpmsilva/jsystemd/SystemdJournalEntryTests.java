@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class SystemdJournalEntryTests {
+
+  private static byte[] utf8(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void singleLineValuesAreEncodedAsAssignments() {
+    SystemdJournalEntry entry = new SystemdJournalEntry(SystemdJournalEntry.ERROR).field("MESSAGE", "café ok").field("REQUEST_ID", "");
+
+    assertArrayEquals(utf8("PRIORITY=3\nMESSAGE=café ok\nREQUEST_ID=\n"), entry.toByteArray());
+    assertEquals(entry.toByteArray().length, entry.size());
+    assertEquals(SystemdJournalEntry.ERROR, entry.getPriority());
+  }
+
+  @Test
+  void multiLineValuesAreEncodedWithTheirLength() {
+    String value = "line1\nlínea2";
+    byte[] bytes = utf8(value);
+    SystemdJournalEntry entry = new SystemdJournalEntry(SystemdJournalEntry.INFO).field("MESSAGE", value);
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.writeBytes(utf8("PRIORITY=6\nMESSAGE\n"));
+    // the length of the value in bytes, not characters, as a 64 bit little endian integer
+    expected.writeBytes(new byte[]{(byte) bytes.length, 0, 0, 0, 0, 0, 0, 0});
+    expected.writeBytes(bytes);
+    expected.write('\n');
+    assertArrayEquals(expected.toByteArray(), entry.toByteArray());
+  }
+
+  @Test
+  void nullValuesAreSkippedAndFieldsRepeated() {
+    SystemdJournalEntry entry = new SystemdJournalEntry(SystemdJournalEntry.DEBUG).field("TAG", "a").field("TAG", null).field("TAG", "b");
+
+    assertArrayEquals(utf8("PRIORITY=7\nTAG=a\nTAG=b\n"), entry.toByteArray());
+  }
+
+  @Test
+  void invalidFieldNamesAndPrioritiesAreRejected() {
+    SystemdJournalEntry entry = new SystemdJournalEntry(SystemdJournalEntry.INFO);
+
+    assertThrows(IllegalArgumentException.class, () -> entry.field("message", "x"));
+    assertThrows(IllegalArgumentException.class, () -> entry.field("_PID", "x"));
+    assertThrows(IllegalArgumentException.class, () -> entry.field("1FIELD", "x"));
+    assertThrows(IllegalArgumentException.class, () -> entry.field("A-B", "x"));
+    assertThrows(IllegalArgumentException.class, () -> entry.field("", "x"));
+    assertThrows(IllegalArgumentException.class, () -> entry.field("A".repeat(65), "x"));
+    assertThrows(IllegalArgumentException.class, () -> new SystemdJournalEntry(-1));
+    assertThrows(IllegalArgumentException.class, () -> new SystemdJournalEntry(8));
+  }
+
+  @Test
+  void arbitraryNamesAreConvertedToFieldNames() {
+    assertEquals("REQUEST_ID", SystemdJournalEntry.fieldName("request_id"));
+    assertEquals("TRACE_ID", SystemdJournalEntry.fieldName("trace-id"));
+    assertEquals("X_B3_SPANID", SystemdJournalEntry.fieldName("X-B3-SpanId"));
+    assertEquals("A1", SystemdJournalEntry.fieldName("_1a1"));
+    assertEquals("A".repeat(64), SystemdJournalEntry.fieldName("a".repeat(100)));
+    assertNull(SystemdJournalEntry.fieldName("_42"));
+    assertNull(SystemdJournalEntry.fieldName(""));
+  }
+
+  @Test
+  void contextKeysNeverDuplicateReservedFields() {
+    assertEquals("MDC_MESSAGE", SystemdJournalEntry.contextFieldName("message"));
+    assertEquals("MDC_PRIORITY", SystemdJournalEntry.contextFieldName("PRIORITY"));
+    assertEquals("MDC_MESSAGE_ID", SystemdJournalEntry.contextFieldName("message.id"));
+    assertEquals("MDC_THREAD_NAME", SystemdJournalEntry.contextFieldName("thread_name"));
+    assertEquals("APP_MESSAGE", SystemdJournalEntry.contextFieldName("app_message"));
+    assertEquals("REQUEST_ID", SystemdJournalEntry.contextFieldName("request-id"));
+    assertNull(SystemdJournalEntry.contextFieldName("__"));
+  }
+}
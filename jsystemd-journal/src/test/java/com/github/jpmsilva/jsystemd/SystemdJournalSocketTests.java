@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.jpmsilva.jsystemd.JournalReceiver.Received;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SystemdJournalSocketTests {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+  @TempDir
+  Path directory;
+
+  private Path path;
+  private JournalReceiver receiver;
+
+  @BeforeEach
+  void bind() {
+    assumeTrue(JournalReceiver.isSupported());
+    path = directory.resolve("socket");
+    receiver = new JournalReceiver(path);
+  }
+
+  @AfterEach
+  void close() {
+    if (receiver != null) {
+      receiver.close();
+    }
+  }
+
+  private static byte[] entry(int size, int seed) {
+    byte[] entry = new byte[size];
+    for (int i = 0; i < size; i++) {
+      entry[i] = (byte) (seed + i);
+    }
+    return entry;
+  }
+
+  private void assertReceived(List<byte[]> entries, boolean... memfd) {
+    for (int i = 0; i < entries.size(); i++) {
+      Received received = receiver.receive(TIMEOUT);
+      assertNotNull(received, "entry " + i + " not received");
+      assertArrayEquals(entries.get(i), received.data, "entry " + i);
+      assertTrue(memfd.length > i ? received.memfd == memfd[i] : !received.memfd, "entry " + i + " passed the wrong way");
+    }
+    assertNull(receiver.receive(Duration.ofMillis(50)));
+  }
+
+  @Test
+  void entriesAreDeliveredInOrderAcrossBatches() throws IOException {
+    List<byte[]> entries = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      entries.add(entry(40 + i, i));
+    }
+    // at most 4 entries and 128 bytes per batch, so that both limits split the entries
+    try (SystemdJournalSocket socket = new SystemdJournalSocket(path, 4, 128)) {
+      socket.connect();
+      socket.send(entries);
+    }
+    assertReceived(entries);
+  }
+
+  @Test
+  void entryLargerThanTheBatchBufferArrivesIntactThroughMemfd() throws IOException {
+    List<byte[]> entries = List.of(entry(10, 1), entry(500, 2), entry(20, 3));
+    try (SystemdJournalSocket socket = new SystemdJournalSocket(path, 4, 100)) {
+      socket.connect();
+      socket.send(entries);
+    }
+    assertReceived(entries, false, true, false);
+  }
+
+  @Test
+  void entryLargerThanTheSocketAllowsFallsBackToMemfd() throws IOException {
+    // datagrams are limited by the send buffer, at most twice net.core.wmem_max, read by line as procfs reports no file size
+    int size = 2 * Integer.parseInt(Files.readAllLines(Path.of("/proc/sys/net/core/wmem_max")).get(0).trim()) + 1024 * 1024;
+    assumeTrue(size <= 64 * 1024 * 1024);
+    List<byte[]> entries = List.of(entry(10, 1), entry(size, 2), entry(20, 3));
+    try (SystemdJournalSocket socket = new SystemdJournalSocket(path, 4, size + 1024)) {
+      socket.connect();
+      socket.send(entries);
+    }
+    assertReceived(entries, false, true, false);
+  }
+
+  @Test
+  void largeEntriesCanBeSentDirectly() throws IOException {
+    byte[] entry = entry(200_000, 7);
+    try (SystemdJournalSocket socket = new SystemdJournalSocket(path, 4, 1024)) {
+      socket.connect();
+      socket.sendLarge(entry);
+    }
+    Received received = receiver.receive(TIMEOUT);
+    assertNotNull(received);
+    assertTrue(received.memfd);
+    assertArrayEquals(entry, received.data);
+  }
+}
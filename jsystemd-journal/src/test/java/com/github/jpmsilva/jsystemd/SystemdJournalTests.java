@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.jpmsilva.jsystemd.JournalReceiver.Received;
+import com.github.jpmsilva.jsystemd.SystemdJournal.OverflowPolicy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SystemdJournalTests {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(2);
+  private static final Pattern DROPPED = Pattern.compile("MESSAGE=Dropped (\\d+) log entries");
+
+  @TempDir
+  Path directory;
+
+  private Path path;
+  private JournalReceiver receiver;
+  private SystemdJournal journal;
+
+  @BeforeEach
+  void bind() {
+    assumeTrue(JournalReceiver.isSupported());
+    path = directory.resolve("socket");
+    receiver = new JournalReceiver(path);
+  }
+
+  @AfterEach
+  void close() throws InterruptedException {
+    if (journal != null) {
+      journal.close();
+    }
+    if (receiver != null) {
+      receiver.close();
+    }
+  }
+
+  private static SystemdJournalEntry entry(int priority, String message) {
+    return new SystemdJournalEntry(priority).field("MESSAGE", message);
+  }
+
+  private List<String> receiveAll() {
+    List<String> received = new ArrayList<>();
+    Received next;
+    while ((next = receiver.receive(Duration.ofMillis(500))) != null) {
+      received.add(next.text());
+    }
+    return received;
+  }
+
+  @Test
+  void entriesAreSentInOrderAndLargeOnesThroughMemfd() throws IOException {
+    journal = SystemdJournal.builder().socket(path).largeEntryThreshold(1024).build();
+    for (int i = 0; i < 100; i++) {
+      journal.send(entry(SystemdJournalEntry.INFO, "entry " + i));
+    }
+    journal.send(entry(SystemdJournalEntry.INFO, "x".repeat(4096)));
+
+    for (int i = 0; i < 100; i++) {
+      Received received = receiver.receive(TIMEOUT);
+      assertNotNull(received, "entry " + i + " not received");
+      assertEquals("PRIORITY=6\nMESSAGE=entry " + i + "\n", received.text());
+    }
+    Received large = receiver.receive(TIMEOUT);
+    assertNotNull(large);
+    assertTrue(large.memfd);
+    assertEquals("PRIORITY=6\nMESSAGE=" + "x".repeat(4096) + "\n", large.text());
+  }
+
+  @Test
+  void entriesBeyondTheRateLimitAreSummarizedKeepingImportantOnes() throws IOException, InterruptedException {
+    journal = SystemdJournal.builder().socket(path).rateLimit(10, Duration.ofSeconds(1)).syslogIdentifier("test").build();
+    // 80% of the burst is left to entries of any priority, the rest to warnings and above
+    for (int i = 0; i < 30; i++) {
+      journal.send(entry(SystemdJournalEntry.INFO, "info " + i));
+    }
+    journal.send(entry(SystemdJournalEntry.ERROR, "error 1"));
+    journal.send(entry(SystemdJournalEntry.ERROR, "error 2"));
+    journal.send(entry(SystemdJournalEntry.ERROR, "error 3"));
+    Thread.sleep(1200);
+    journal.send(entry(SystemdJournalEntry.INFO, "next window"));
+
+    List<String> received = receiveAll();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      expected.add("PRIORITY=6\nMESSAGE=info " + i + "\n");
+    }
+    expected.add("PRIORITY=3\nMESSAGE=error 1\n");
+    expected.add("PRIORITY=3\nMESSAGE=error 2\n");
+    expected.add("PRIORITY=4\nMESSAGE=Suppressed 23 log entries to stay under the journald rate limit, 1 of them of priority warning or above\n"
+        + "SYSLOG_IDENTIFIER=test\n");
+    expected.add("PRIORITY=6\nMESSAGE=next window\n");
+    assertEquals(expected, received);
+  }
+
+  @Test
+  void entriesDroppedOnOverflowAreSummarized() throws IOException {
+    journal = SystemdJournal.builder().socket(path).capacity(4).overflowPolicy(OverflowPolicy.DROP).rateLimit(0, Duration.ofSeconds(1)).build();
+    // nothing is read yet, so the sender blocks once the receive queue of the socket is full, and the ring buffer fills up
+    int sent = 0;
+    for (int i = 0; i < 200; i++) {
+      if (journal.send(entry(SystemdJournalEntry.INFO, "entry " + i))) {
+        sent++;
+      }
+    }
+    assertTrue(sent < 200, "no entry dropped");
+
+    int delivered = 0;
+    long dropped = 0;
+    for (String received : receiveAll()) {
+      Matcher matcher = DROPPED.matcher(received);
+      if (matcher.find()) {
+        dropped += Long.parseLong(matcher.group(1));
+      } else {
+        delivered++;
+      }
+    }
+    assertEquals(sent, delivered);
+    assertEquals(200 - sent, dropped);
+  }
+}
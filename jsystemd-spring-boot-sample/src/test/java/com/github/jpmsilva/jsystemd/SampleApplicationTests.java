@@ -16,14 +16,46 @@
 
 package com.github.jpmsilva.jsystemd;
 
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
 class SampleApplicationTests {
 
+	private static SystemdNotifyReceiver receiver;
+
+	@BeforeAll
+	static void bindNotifySocket() throws IOException {
+		// must happen before the application starts, which is when the systemd integration checks for the socket
+		if (System.getenv("NOTIFY_SOCKET") != null) {
+			receiver = SystemdNotifyReceiver.builder().fromEnvironment().build();
+		}
+	}
+
+	@AfterAll
+	static void closeNotifySocket() {
+		if (receiver != null) {
+			receiver.close();
+		}
+	}
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void notifiesSystemd() throws InterruptedException {
+		assumeTrue(receiver != null && SystemdNotify.usable(), "No notify socket or libsystemd available");
+
+		receiver.awaitMessage("WATCHDOG=1", Duration.ofSeconds(10));
+		receiver.assertOrdered("EXTEND_TIMEOUT_USEC=", "STATUS=", "READY=1");
+		receiver.watchdogReport().assertNoMissed();
+	}
+
 }
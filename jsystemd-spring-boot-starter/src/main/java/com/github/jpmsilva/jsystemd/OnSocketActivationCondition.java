@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage.Builder;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * {@link Condition} that checks if the program was started by systemd socket activation.
+ *
+ * @author Joao Silva
+ * @see SystemdIdleMonitor#isSocketActivated()
+ * @see ConditionalOnSocketActivation
+ */
+class OnSocketActivationCondition extends SpringBootCondition {
+
+  @NonNull
+  private final Builder message = ConditionMessage.forCondition(ConditionalOnSocketActivation.class);
+
+  @Override
+  @NullMarked
+  public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    if (SystemdIdleMonitor.isSocketActivated()) {
+      return ConditionOutcome.match(message.foundExactly("listening socket as standard input"));
+    }
+    return ConditionOutcome.noMatch(message.notAvailable("listening socket as standard input"));
+  }
+}
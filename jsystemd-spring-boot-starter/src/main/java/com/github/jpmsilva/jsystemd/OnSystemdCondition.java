@@ -28,11 +28,16 @@ import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.aot.AbstractAotProcessor;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 
 /**
  * {@link Condition} that checks if the program is running under systemd.
  *
+ * <p>The condition always matches while the application context is processed ahead of time, when building native images, as the integration must be part of
+ * the image to be available when it runs under systemd. Outside systemd, {@link SystemdSpringApplicationRunListener} registers a {@link Systemd} instance with
+ * no periodic notifications for it, and the integration stays inert, as no notifications can be sent.
+ *
  * @author Joao Silva
  * @see SystemdUtilities#isUnderSystemd()
  * @see ConditionalOnSystemd
@@ -45,6 +50,9 @@ class OnSystemdCondition extends SpringBootCondition {
   @Override
   @NullMarked
   public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    if (Boolean.getBoolean(AbstractAotProcessor.AOT_PROCESSING)) {
+      return ConditionOutcome.match(message.because("processing ahead of time"));
+    }
     if (isUnderSystemd()) {
       return ConditionOutcome.match(message.foundExactly(
           "Operating system is " + osName() + " and NOTIFY_SOCKET points to \"" + notifySocketPath() + "\""));
@@ -22,6 +22,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.util.Map;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -30,6 +31,8 @@ import org.slf4j.Logger;
 /**
  * Implementation of {@link HealthProvider} that suppresses/delays the unhealthy state of a delegate for a configurable period.
  *
+ * <p>While the unhealthy state is delayed, the healthy state reported carries the {@link Health#UNHEALTHY_SINCE} detail.
+ *
  * @author Christian Lorenz
  */
 public class PendingHealthProvider implements HealthProvider {
@@ -69,8 +72,8 @@ public class PendingHealthProvider implements HealthProvider {
       Instant deadline = unhealthySince.plus(delay, delayUnit);
       logger.debug("Application unhealthy since {} (unhealthy status suppressed until {})", unhealthySince, deadline);
       if (deadline.isAfter(now)) {
-        // healthy until delay has expired
-        return HealthProvider.Health.healthy();
+        // healthy until delay has expired, but let watchdog listeners know
+        return new Health(true, Map.of(Health.UNHEALTHY_SINCE, unhealthySince));
       }
     } else {
       if (unhealthySince != null) {
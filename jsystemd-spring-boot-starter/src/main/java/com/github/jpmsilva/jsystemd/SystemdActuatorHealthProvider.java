@@ -20,12 +20,14 @@ package com.github.jpmsilva.jsystemd;
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.springframework.boot.health.contributor.HealthIndicator;
@@ -35,6 +37,9 @@ import org.springframework.core.annotation.Order;
 /**
  * Implementation of {@link HealthProvider} that provides application health based on Spring Boot Actuator Health Indicators.
  *
+ * <p>Each indicator is evaluated once per call, and the time it takes is accumulated in a {@link SystemdTimer}, so slow indicators delaying the watchdog can
+ * be told apart.
+ *
  * @author Christian Lorenz
  */
 @Order(2000)
@@ -43,7 +48,9 @@ public class SystemdActuatorHealthProvider implements SystemdStatusProvider, Hea
   private static final Logger logger = getLogger(lookup().lookupClass());
 
   @NonNull
-  private final List<HealthIndicator> healthIndicators;
+  private final Map<String, HealthIndicator> healthIndicators;
+  @NonNull
+  private final Map<String, SystemdTimer> timers;
   @NonNull
   private final Set<Status> unhealthyStatusCodes;
 
@@ -57,7 +64,22 @@ public class SystemdActuatorHealthProvider implements SystemdStatusProvider, Hea
    * @param unhealthyStatusCodes list of status codes considered as unhealthy
    */
   public SystemdActuatorHealthProvider(@NonNull List<HealthIndicator> healthIndicators, @NonNull Set<Status> unhealthyStatusCodes) {
-    this.healthIndicators = Objects.requireNonNull(healthIndicators, "Health indicators must not be null");
+    this(name(Objects.requireNonNull(healthIndicators, "Health indicators must not be null")), unhealthyStatusCodes);
+  }
+
+  /**
+   * Creates a new instance using the provided named {@link HealthIndicator} and {@link Status}.
+   *
+   * <p>The names of the indicators, usually their bean names, identify them in the {@link #getTimers() timers}.
+   *
+   * @param healthIndicators Spring Boot Actuator Health Indicators, by name
+   * @param unhealthyStatusCodes list of status codes considered as unhealthy
+   */
+  public SystemdActuatorHealthProvider(@NonNull Map<String, HealthIndicator> healthIndicators, @NonNull Set<Status> unhealthyStatusCodes) {
+    this.healthIndicators = new LinkedHashMap<>(Objects.requireNonNull(healthIndicators, "Health indicators must not be null"));
+    Map<String, SystemdTimer> timers = new LinkedHashMap<>();
+    this.healthIndicators.keySet().forEach(name -> timers.put(name, new SystemdTimer()));
+    this.timers = Collections.unmodifiableMap(timers);
     this.unhealthyStatusCodes = Objects.requireNonNull(unhealthyStatusCodes, "Unhealthy status codes must not be null");
     if (this.unhealthyStatusCodes.isEmpty()) {
       logger.warn("No status codes considered as unhealthy");
@@ -66,17 +88,39 @@ public class SystemdActuatorHealthProvider implements SystemdStatusProvider, Hea
     }
   }
 
+  private static @NonNull Map<String, HealthIndicator> name(@NonNull List<HealthIndicator> healthIndicators) {
+    Map<String, HealthIndicator> named = new LinkedHashMap<>();
+    for (HealthIndicator healthIndicator : healthIndicators) {
+      String name = healthIndicator.getClass().getSimpleName();
+      named.put(named.containsKey(name) ? name + "#" + named.size() : name, healthIndicator);
+    }
+    return named;
+  }
+
+  /**
+   * Returns the time spent evaluating each health indicator, by name.
+   *
+   * @return the timers of the health indicators
+   */
+  public @NonNull Map<String, SystemdTimer> getTimers() {
+    return timers;
+  }
+
   @Override
   public Health health() {
-    Collection<HealthIndicator> unhealthyIndicators = healthIndicators.stream()
-        .filter(it -> it.health() != null && unhealthyStatusCodes.contains(Objects.requireNonNull(it.health()).getStatus()))
-        .toList();
-    logger.debug("Application health state={}", unhealthyIndicators.stream().map(HealthIndicator::health).collect(Collectors.toList()));
-    boolean healthy = unhealthyIndicators.isEmpty();
-    return new Health(healthy, unhealthyIndicators.stream()
-        .map(it -> Objects.requireNonNull(it.health()).getDetails().entrySet())
-        .flatMap(Collection::stream)
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    List<org.springframework.boot.health.contributor.Health> unhealthy = new ArrayList<>(0);
+    Map<String, Object> details = new HashMap<>();
+    for (Map.Entry<String, HealthIndicator> entry : healthIndicators.entrySet()) {
+      long start = System.nanoTime();
+      org.springframework.boot.health.contributor.Health health = entry.getValue().health();
+      timers.get(entry.getKey()).record(System.nanoTime() - start);
+      if (health != null && unhealthyStatusCodes.contains(health.getStatus())) {
+        unhealthy.add(health);
+        details.putAll(health.getDetails());
+      }
+    }
+    logger.debug("Application health state={}", unhealthy);
+    return new Health(unhealthy.isEmpty(), details);
   }
 
   @Override
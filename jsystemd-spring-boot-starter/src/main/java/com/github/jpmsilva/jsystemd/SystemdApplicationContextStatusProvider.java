@@ -17,9 +17,10 @@
 package com.github.jpmsilva.jsystemd;
 
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NonNull;
@@ -32,22 +33,29 @@ import org.springframework.core.annotation.Order;
 /**
  * Implementation of {@link SystemdStatusProvider} that provides information regarding the bean creation progress of a bean factory.
  *
+ * <p>The singleton definitions are collected once, when the first bean is created, and the beans created afterwards are counted as they are post processed,
+ * so the cost per bean does not grow with the size of the context. The status is sent to systemd, and the startup timeout extended, at most once every
+ * {@value #UPDATE_INTERVAL_MS} milliseconds, rather than for every bean.
+ *
  * @author Joao Silva
  * @see BeanPostProcessor
  */
 @Order(-4000)
 public class SystemdApplicationContextStatusProvider implements SystemdStatusProvider, BeanPostProcessor {
 
+  private static final long UPDATE_INTERVAL_MS = 100;
+  private static final long UPDATE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(UPDATE_INTERVAL_MS);
+
   @NonNull
   private final Systemd systemd;
   private final int applicationId;
   private final String contextId;
   private final ConfigurableListableBeanFactory factory;
-  private boolean definitionsLoaded = false;
-  @NonNull
-  private Set<String> definitions = new HashSet<>();
   @NonNull
-  private String status = "";
+  private final AtomicInteger created = new AtomicInteger();
+  @Nullable
+  private volatile Set<String> definitions;
+  private volatile long lastUpdate = System.nanoTime() - UPDATE_INTERVAL_NANOS;
 
   /**
    * Creates a new instance using the provided {@link Systemd} as the integration point.
@@ -65,19 +73,17 @@ public class SystemdApplicationContextStatusProvider implements SystemdStatusPro
     this.systemd.addStatusProviders(this);
   }
 
-  private void ensureDefinitionsLoaded() {
-    if (!definitionsLoaded) {
+  private @NonNull Set<String> ensureDefinitionsLoaded() {
+    Set<String> definitions = this.definitions;
+    if (definitions == null) {
       definitions = Arrays.stream(factory.getBeanDefinitionNames())
           .filter(isSingleton(factory))
           .collect(Collectors.toSet());
-      definitionsLoaded = true;
+      // the only full scan, for the singletons created before this post processor was registered
+      created.set((int) definitions.stream().filter(factory::containsSingleton).count());
+      this.definitions = definitions;
     }
-  }
-
-  private long getSingletonCount() {
-    return definitions.stream()
-        .filter(factory::containsSingleton)
-        .count();
+    return definitions;
   }
 
   private Predicate<? super String> isSingleton(ConfigurableListableBeanFactory factory) {
@@ -86,16 +92,26 @@ public class SystemdApplicationContextStatusProvider implements SystemdStatusPro
 
   @Override
   public @NonNull String status() {
-    return systemd.isReady() ? "" : status;
+    Set<String> definitions = this.definitions;
+    if (systemd.isReady() || definitions == null) {
+      return "";
+    }
+    int total = definitions.size();
+    return String.format("Application %d (%s): creating bean %d of %d", applicationId, contextId, Math.min(created.get(), total), total);
   }
 
   @Override
   public @Nullable Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
     if (factory != null) {
-      ensureDefinitionsLoaded();
-      status = String.format("Application %d (%s): creating bean %d of %d", applicationId, contextId, getSingletonCount(), definitions.size());
-      systemd.extendTimeout();
-      systemd.updateStatus();
+      if (ensureDefinitionsLoaded().contains(beanName)) {
+        created.incrementAndGet();
+      }
+      long now = System.nanoTime();
+      if (now - lastUpdate >= UPDATE_INTERVAL_NANOS) {
+        lastUpdate = now;
+        systemd.extendTimeout();
+        systemd.updateStatus();
+      }
     }
     return bean;
   }
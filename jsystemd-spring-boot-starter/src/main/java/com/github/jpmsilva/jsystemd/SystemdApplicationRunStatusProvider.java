@@ -17,7 +17,11 @@
 package com.github.jpmsilva.jsystemd;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.boot.bootstrap.ConfigurableBootstrapContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.annotation.Order;
@@ -38,6 +42,11 @@ public class SystemdApplicationRunStatusProvider implements SystemdStatusProvide
   private final int applicationId;
   @NonNull
   private String status = "";
+  @Nullable
+  private volatile ApplicationState state;
+  private long stateStart;
+  @NonNull
+  private volatile Map<ApplicationState, Duration> phases = Collections.emptyMap();
 
   /**
    * Creates a new instance using the provided {@link Systemd} as the integration point.
@@ -63,6 +72,7 @@ public class SystemdApplicationRunStatusProvider implements SystemdStatusProvide
    * @param state the current application startup sequence state
    */
   void state(@NonNull ApplicationState state) {
+    enter(state);
     status = String.format("Application %d state: %s", applicationId, state.toString().toLowerCase().replace("_", " "));
     systemd.extendTimeout();
     systemd.updateStatus();
@@ -75,12 +85,46 @@ public class SystemdApplicationRunStatusProvider implements SystemdStatusProvide
    * @param timeTaken the time taken for the application to reach this state
    */
   public void state(@NonNull ApplicationState state, @NonNull Duration timeTaken) {
+    enter(state);
     status = String.format("Application %d state: %s, time taken: %s", applicationId, state.toString().toLowerCase().replace("_", " "),
         formatDuration(timeTaken));
     systemd.extendTimeout();
     systemd.updateStatus();
   }
 
+  private synchronized void enter(@NonNull ApplicationState state) {
+    long now = System.nanoTime();
+    ApplicationState previous = this.state;
+    if (previous != null) {
+      Map<ApplicationState, Duration> phases = new EnumMap<>(ApplicationState.class);
+      phases.putAll(this.phases);
+      phases.put(previous, Duration.ofNanos(now - stateStart));
+      this.phases = Collections.unmodifiableMap(phases);
+    }
+    this.state = state;
+    this.stateStart = now;
+  }
+
+  /**
+   * Returns the time the application spent in each of the startup sequence states it has already left. For instance, the duration of
+   * {@link ApplicationState#CONTEXT_LOADED} is the time between the context being loaded and the application being started, which includes the refresh of the
+   * context.
+   *
+   * @return the time spent in each state left so far
+   */
+  public @NonNull Map<ApplicationState, Duration> getPhaseDurations() {
+    return phases;
+  }
+
+  /**
+   * Returns the current application startup sequence state.
+   *
+   * @return the current state, or <code>null</code> if the application has not started yet
+   */
+  public @Nullable ApplicationState getState() {
+    return state;
+  }
+
   private String formatDuration(Duration duration) {
     long hours = duration.toHours();
     int minutes = duration.toMinutesPart();
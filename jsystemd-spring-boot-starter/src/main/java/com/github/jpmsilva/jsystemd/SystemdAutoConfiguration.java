@@ -17,32 +17,65 @@
 package com.github.jpmsilva.jsystemd;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 
+import com.github.jpmsilva.jsystemd.SystemdApplicationRunStatusProvider.ApplicationState;
+import com.github.jpmsilva.jsystemd.SystemdDataSourceStatusProvider.PoolResolver;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import javax.management.ObjectName;
+import javax.sql.DataSource;
+import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.eclipse.jetty.server.Server;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.availability.AvailabilityChangeEvent;
 import org.springframework.boot.availability.ReadinessState;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.health.contributor.HealthIndicator;
 import org.springframework.boot.health.contributor.Status;
+import org.springframework.boot.jetty.ConfigurableJettyWebServerFactory;
+import org.springframework.boot.reactor.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.tomcat.ConfigurableTomcatWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import reactor.netty.http.server.HttpServer;
 
 /**
  * Autoconfiguration class for systemd integration.
@@ -96,12 +129,53 @@ public class SystemdAutoConfiguration {
     return new SystemdNonHeapStatusProvider();
   }
 
+  @Bean
+  @NonNull
+  SystemdNativeMemoryStatusProvider systemdNotifyNativeMemoryStatus(@NonNull SystemdMetrics metrics) {
+    requireNonNull(metrics, "Metrics must not be null");
+
+    SystemdNativeMemoryStatusProvider provider = SystemdNativeMemoryStatusProvider.builder().build();
+    metrics.gauge("jvm.native.rss", "bytes", provider::getResidentSetSize);
+    metrics.gauge("jvm.native.unaccounted", "bytes", provider::getUnaccountedMemory);
+    metrics.gauge("jvm.buffers.direct", "bytes", provider::getDirectMemory);
+    metrics.gauge("jvm.buffers.mapped", "bytes", provider::getMappedMemory);
+    return provider;
+  }
+
   @Bean
   @NonNull
   SystemdStatusProvider systemdNotifyClassLoaderStatus() {
     return new SystemdClassLoaderStatusProvider();
   }
 
+  @Bean
+  @NonNull
+  SystemdMetrics systemdMetrics() {
+    SystemdMetrics metrics = new SystemdMetrics();
+    metrics.gauge("systemd.ready", "bool", () -> systemd.isReady() ? 1 : 0);
+    runStatusProvider(systemd).ifPresent(provider -> metrics.gauge("application.state", "state", () -> {
+      ApplicationState state = provider.getState();
+      return state == null ? 0 : state.ordinal() + 1;
+    }));
+    systemd.addWatchdogListeners(metrics);
+    return metrics;
+  }
+
+  private static @NonNull Optional<SystemdApplicationRunStatusProvider> runStatusProvider(@NonNull Systemd systemd) {
+    return systemd.getStatusProviders().stream()
+        .filter(SystemdApplicationRunStatusProvider.class::isInstance)
+        .map(SystemdApplicationRunStatusProvider.class::cast)
+        .findFirst();
+  }
+
+  @Bean
+  @NonNull
+  SystemdHeartbeatRegistry systemdHeartbeatRegistry() {
+    SystemdHeartbeatRegistry heartbeatRegistry = new SystemdHeartbeatRegistry();
+    systemd.addHealthProvider(heartbeatRegistry);
+    return heartbeatRegistry;
+  }
+
   @Configuration
   @ConditionalOnSystemd
   static class SystemdStatusProviderConfiguration {
@@ -136,8 +210,141 @@ public class SystemdAutoConfiguration {
 
     @Bean
     @NonNull
-    SystemdTomcatStatusProvider systemdTomcatStatusProvider() {
-      return new SystemdTomcatStatusProvider();
+    SystemdTomcatStatusProvider systemdTomcatStatusProvider(@NonNull SystemdMetrics metrics) {
+      requireNonNull(metrics, "Metrics must not be null");
+
+      SystemdTomcatStatusProvider provider = new SystemdTomcatStatusProvider();
+      metrics.gauge("tomcat.threads.busy", "count", provider::getCurrentThreadsBusy);
+      metrics.gauge("tomcat.threads.current", "count", provider::getCurrentThreadCount);
+      metrics.gauge("tomcat.requests.inflight", "count", provider::getRequestsInFlight);
+      return provider;
+    }
+
+    @Bean
+    @NonNull
+    WebServerFactoryCustomizer<ConfigurableTomcatWebServerFactory> systemdTomcatConnectorCustomizer(@NonNull SystemdTomcatStatusProvider provider,
+        @NonNull ObjectProvider<SystemdExecutorProbe> probeProvider) {
+      requireNonNull(provider, "Provider must not be null");
+      requireNonNull(probeProvider, "Probe provider must not be null");
+
+      return factory -> {
+        factory.addConnectorCustomizers(provider::addConnector);
+        factory.addEngineValves(provider.getValve());
+        probeProvider.ifAvailable(probe -> factory.addConnectorCustomizers(connector -> probe.addExecutor(name(connector), task -> execute(connector, task))));
+      };
+    }
+
+    @Bean
+    @NonNull
+    @ConditionalOnSocketActivation
+    WebServerFactoryCustomizer<ConfigurableTomcatWebServerFactory> systemdTomcatSocketActivationCustomizer() {
+      // the main connector accepts connections on the listening socket passed by systemd, rather than binding its own
+      return factory -> factory.addConnectorCustomizers(connector -> connector.setProperty("useInheritedChannel", "true"));
+    }
+
+    private static @NonNull String name(@NonNull Connector connector) {
+      ProtocolHandler handler = connector.getProtocolHandler();
+      return handler instanceof AbstractProtocol<?> protocol ? ObjectName.unquote(protocol.getName()) : "tomcat-" + connector.getPort();
+    }
+
+    private static void execute(@NonNull Connector connector, @NonNull Runnable task) {
+      // the executor is only created when the connector starts
+      Executor executor = connector.getProtocolHandler().getExecutor();
+      if (executor == null) {
+        throw new RejectedExecutionException("Connector not started");
+      }
+      executor.execute(task);
+    }
+  }
+
+  /**
+   * Autoconfiguration class for systemd integration when running on virtual threads.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public static class SystemdAutoVirtualThreadConfiguration {
+
+    SystemdAutoVirtualThreadConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdVirtualThreadStatusProvider systemdVirtualThreadStatusProvider(@NonNull SystemdMetrics metrics) {
+      requireNonNull(metrics, "Metrics must not be null");
+
+      SystemdVirtualThreadStatusProvider provider = SystemdVirtualThreadStatusProvider.builder()
+          .countPinned(Duration.ofMillis(20))
+          .build();
+      metrics.gauge("virtual.threads.mounted", "count", provider::getMountedThreads);
+      metrics.gauge("virtual.threads.queued", "count", provider::getQueuedThreads);
+      metrics.gauge("virtual.threads.pinned", "count", provider::getPinnedThreads);
+      return provider;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for systemd integration when running under Jetty.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnClass({Server.class, ConfigurableJettyWebServerFactory.class})
+  public static class SystemdAutoJettyConfiguration {
+
+    SystemdAutoJettyConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdJettyStatusProvider systemdJettyStatusProvider(@NonNull SystemdMetrics metrics) {
+      requireNonNull(metrics, "Metrics must not be null");
+
+      SystemdJettyStatusProvider provider = new SystemdJettyStatusProvider();
+      metrics.gauge("jetty.threads.busy", "count", provider::getBusyThreads);
+      metrics.gauge("jetty.threads.current", "count", provider::getThreads);
+      metrics.gauge("jetty.queue.size", "count", provider::getQueueSize);
+      return provider;
+    }
+
+    @Bean
+    @NonNull
+    WebServerFactoryCustomizer<ConfigurableJettyWebServerFactory> systemdJettyServerCustomizer(@NonNull SystemdJettyStatusProvider provider) {
+      requireNonNull(provider, "Provider must not be null");
+
+      return factory -> factory.addServerCustomizers(provider::addServer);
+    }
+  }
+
+  /**
+   * Autoconfiguration class for systemd integration when running under Reactor Netty.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnClass({HttpServer.class, NettyReactiveWebServerFactory.class})
+  public static class SystemdAutoReactorNettyConfiguration {
+
+    SystemdAutoReactorNettyConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdReactorNettyStatusProvider systemdReactorNettyStatusProvider(@NonNull SystemdMetrics metrics) {
+      requireNonNull(metrics, "Metrics must not be null");
+
+      SystemdReactorNettyStatusProvider provider = new SystemdReactorNettyStatusProvider();
+      metrics.gauge("netty.connections", "count", provider::getConnections);
+      metrics.gauge("netty.tasks.pending", "count", provider::getPendingTasks);
+      metrics.gauge("netty.client.acquired", "count", provider::getAcquiredConnections);
+      metrics.gauge("netty.client.pending", "count", provider::getPendingAcquires);
+      return provider;
+    }
+
+    @Bean
+    @NonNull
+    WebServerFactoryCustomizer<NettyReactiveWebServerFactory> systemdReactorNettyServerCustomizer(@NonNull SystemdReactorNettyStatusProvider provider) {
+      requireNonNull(provider, "Provider must not be null");
+
+      return factory -> factory.addServerCustomizers(provider::customize);
     }
   }
 
@@ -158,20 +365,514 @@ public class SystemdAutoConfiguration {
     @NonNull
     SystemdActuatorHealthProvider systemdActuatorHealthProvider(
         @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
-        @NonNull ObjectProvider<List<HealthIndicator>> healthIndicatorsProvider, @NonNull SystemdHealthProviderProperties properties) {
+        @NonNull ObjectProvider<Map<String, HealthIndicator>> healthIndicatorsProvider, @NonNull SystemdHealthProviderProperties properties) {
       requireNonNull(systemd, "Systemd must not be null");
       requireNonNull(healthIndicatorsProvider, "Health indicators provider must not be null");
       requireNonNull(properties, "Properties must not be null");
 
-      List<HealthIndicator> healthIndicators = Optional.ofNullable(healthIndicatorsProvider.getIfAvailable()).orElse(emptyList());
+      Map<String, HealthIndicator> healthIndicators = Optional.ofNullable(healthIndicatorsProvider.getIfAvailable()).orElse(emptyMap());
       Set<Status> unhealthyStatusCodes = properties.getUnhealthyStatusCodes().stream().map(Status::new).collect(Collectors.toSet());
       SystemdActuatorHealthProvider healthProvider = new SystemdActuatorHealthProvider(healthIndicators, unhealthyStatusCodes);
       if (properties.getUnhealthyPendingPeriodMs() != null) {
-        systemd.setHealthProvider(new PendingHealthProvider(healthProvider, properties.getUnhealthyPendingPeriodMs(), ChronoUnit.MILLIS));
+        systemd.addHealthProvider(new PendingHealthProvider(healthProvider, properties.getUnhealthyPendingPeriodMs(), ChronoUnit.MILLIS));
       } else {
-        systemd.setHealthProvider(healthProvider);
+        systemd.addHealthProvider(healthProvider);
       }
       return healthProvider;
     }
   }
+
+  /**
+   * Autoconfiguration class for the continuous JFR recording dumped when the systemd watchdog heartbeat is suppressed or late.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.flight-recorder")
+  @EnableConfigurationProperties(SystemdFlightRecorderProperties.class)
+  public static class SystemdAutoFlightRecorderConfiguration {
+
+    SystemdAutoFlightRecorderConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdFlightRecorder systemdFlightRecorder(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull SystemdFlightRecorderProperties properties) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(properties, "Properties must not be null");
+
+      SystemdDumpPolicy.Builder policy = SystemdDumpPolicy.builder();
+      if (properties.getDirectory() != null) {
+        policy.directory(Path.of(properties.getDirectory()));
+      }
+      SystemdFlightRecorder flightRecorder = SystemdFlightRecorder.builder()
+          .maxAge(Duration.ofMillis(properties.getMaxAgeMs()))
+          .maxSize(properties.getMaxSize())
+          .policy(policy.build())
+          .build();
+      systemd.addWatchdogListeners(flightRecorder);
+      return flightRecorder;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the thread dumps written when the systemd watchdog heartbeat is suppressed or late.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.thread-dump")
+  @EnableConfigurationProperties(SystemdThreadDumpProperties.class)
+  public static class SystemdAutoThreadDumpConfiguration {
+
+    SystemdAutoThreadDumpConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdThreadDumper systemdThreadDumper(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull SystemdThreadDumpProperties properties) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(properties, "Properties must not be null");
+
+      SystemdDumpPolicy.Builder policy = SystemdDumpPolicy.builder()
+          .maxFiles(properties.getMaxFiles())
+          .minInterval(Duration.ofMillis(properties.getMinIntervalMs()));
+      if (properties.getDirectory() != null) {
+        policy.directory(Path.of(properties.getDirectory()));
+      }
+      SystemdThreadDumper threadDumper = new SystemdThreadDumper(policy.build());
+      systemd.addWatchdogListeners(threadDumper);
+      return threadDumper;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the deadlock and thread starvation health integration with the systemd watchdog.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.thread-health")
+  @EnableConfigurationProperties(SystemdThreadHealthProperties.class)
+  public static class SystemdAutoThreadHealthConfiguration {
+
+    SystemdAutoThreadHealthConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdThreadHealthProvider systemdThreadHealthProvider(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull SystemdThreadHealthProperties properties, @NonNull ObjectProvider<Map<String, ThreadPoolTaskExecutor>> executorsProvider) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(properties, "Properties must not be null");
+      requireNonNull(executorsProvider, "Executors provider must not be null");
+
+      SystemdThreadHealthProvider.Builder builder = SystemdThreadHealthProvider.builder()
+          .minInterval(Duration.ofMillis(properties.getMinIntervalMs()))
+          .blockedRatio(properties.getBlockedRatio())
+          .stallPeriod(Duration.ofMillis(properties.getStallPeriodMs()));
+      properties.getThreads().forEach((name, threadNames) -> builder.threads(name, Pattern.compile(threadNames)));
+      executorsProvider.ifAvailable(executors -> executors.forEach((name, executor) -> builder.executor(name, executor.getThreadPoolExecutor())));
+      SystemdThreadHealthProvider healthProvider = builder.build();
+      systemd.addHealthProvider(healthProvider);
+      return healthProvider;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the request latency objective integration with the systemd watchdog.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.latency-health")
+  @EnableConfigurationProperties(SystemdLatencyHealthProperties.class)
+  public static class SystemdAutoLatencyHealthConfiguration {
+
+    SystemdAutoLatencyHealthConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdLatencyHealthProvider systemdLatencyHealthProvider(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull SystemdLatencyHealthProperties properties, @NonNull SystemdMetrics metrics) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(properties, "Properties must not be null");
+      requireNonNull(metrics, "Metrics must not be null");
+
+      SystemdLatencyHealthProvider.Builder builder = SystemdLatencyHealthProvider.builder()
+          .window(Duration.ofMillis(properties.getWindowMs()))
+          .minRequests(properties.getMinRequests());
+      if (properties.getP99Ms() != null) {
+        builder.p99Limit(Duration.ofMillis(properties.getP99Ms()));
+      }
+      if (properties.getErrorRate() != null) {
+        builder.errorRateLimit(properties.getErrorRate());
+      }
+      SystemdLatencyHealthProvider healthProvider = builder.build();
+      if (properties.getUnhealthyPendingPeriodMs() != null) {
+        systemd.addHealthProvider(new PendingHealthProvider(healthProvider, properties.getUnhealthyPendingPeriodMs(), ChronoUnit.MILLIS));
+      } else {
+        systemd.addHealthProvider(healthProvider);
+      }
+      metrics.gauge("requests.count", "count", healthProvider::getRequests);
+      metrics.gauge("requests.errors", "count", healthProvider::getErrors);
+      metrics.gauge("requests.latency.p99", "us", healthProvider::getP99Micros);
+      return healthProvider;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for recording the latency of servlet requests.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.latency-health")
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  public static class SystemdAutoServletLatencyConfiguration {
+
+    SystemdAutoServletLatencyConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdLatencyFilter systemdLatencyFilter(@NonNull SystemdLatencyHealthProvider provider) {
+      return new SystemdLatencyFilter(provider);
+    }
+  }
+
+  /**
+   * Autoconfiguration class for recording the latency of reactive requests.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.latency-health")
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+  public static class SystemdAutoReactiveLatencyConfiguration {
+
+    SystemdAutoReactiveLatencyConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdLatencyWebFilter systemdLatencyWebFilter(@NonNull SystemdLatencyHealthProvider provider) {
+      return new SystemdLatencyWebFilter(provider);
+    }
+  }
+
+  /**
+   * Autoconfiguration class for systemd integration with Spring task executors and schedulers.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  public static class SystemdAutoTaskExecutorConfiguration {
+
+    SystemdAutoTaskExecutorConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdTaskExecutorStatusProvider systemdTaskExecutorStatusProvider(@NonNull SystemdMetrics metrics,
+        @NonNull ObjectProvider<Map<String, ThreadPoolTaskExecutor>> executorsProvider,
+        @NonNull ObjectProvider<Map<String, ThreadPoolTaskScheduler>> schedulersProvider) {
+      requireNonNull(metrics, "Metrics must not be null");
+      requireNonNull(executorsProvider, "Executors provider must not be null");
+      requireNonNull(schedulersProvider, "Schedulers provider must not be null");
+
+      SystemdTaskExecutorStatusProvider provider = new SystemdTaskExecutorStatusProvider();
+      executorsProvider.ifAvailable(executors -> executors.forEach(provider::addExecutor));
+      schedulersProvider.ifAvailable(schedulers -> schedulers.forEach(provider::addScheduler));
+      metrics.gauge("tasks.active", "count", provider::getActiveCount);
+      metrics.gauge("tasks.queued", "count", provider::getQueueSize);
+      metrics.gauge("tasks.rejected", "count", provider::getRejectedCount);
+      metrics.gauge("tasks.overdue", "count", provider::getOverdueCount);
+      return provider;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the executor queueing delay probes.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.executor-probe")
+  @EnableConfigurationProperties(SystemdExecutorProbeProperties.class)
+  public static class SystemdAutoExecutorProbeConfiguration {
+
+    SystemdAutoExecutorProbeConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdExecutorProbe systemdExecutorProbe(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull SystemdExecutorProbeProperties properties, @NonNull ObjectProvider<Map<String, ThreadPoolTaskExecutor>> executorsProvider) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(properties, "Properties must not be null");
+      requireNonNull(executorsProvider, "Executors provider must not be null");
+
+      SystemdExecutorProbe.Builder builder = SystemdExecutorProbe.builder()
+          .interval(Duration.ofMillis(properties.getIntervalMs()))
+          .window(Duration.ofMillis(properties.getWindowMs()));
+      if (properties.getUnhealthyAboveMs() != null) {
+        builder.unhealthyAbove(Duration.ofMillis(properties.getUnhealthyAboveMs()));
+      }
+      SystemdExecutorProbe probe = builder.build();
+      probe.addExecutor("common", ForkJoinPool.commonPool());
+      // probing the pool itself, rather than through task decorators, allows detecting probes dropped by its rejection policy
+      executorsProvider.ifAvailable(executors -> executors.forEach((name, executor) -> probe.addExecutor(name, executor.getThreadPoolExecutor())));
+      if (properties.getUnhealthyAboveMs() != null) {
+        systemd.addHealthProvider(probe);
+      }
+      return probe;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the file descriptor status provider.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @EnableConfigurationProperties(SystemdFileDescriptorProperties.class)
+  public static class SystemdAutoFileDescriptorConfiguration {
+
+    SystemdAutoFileDescriptorConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdFileDescriptorStatusProvider systemdFileDescriptorStatusProvider(
+        @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd, @NonNull SystemdFileDescriptorProperties properties,
+        @NonNull SystemdMetrics metrics) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(properties, "Properties must not be null");
+      requireNonNull(metrics, "Metrics must not be null");
+
+      SystemdFileDescriptorStatusProvider provider = SystemdFileDescriptorStatusProvider.builder()
+          .socketStates(properties.isSocketStates())
+          .socketInterval(Duration.ofMillis(properties.getSocketIntervalMs()))
+          .unhealthyRatio(properties.getUnhealthyRatio())
+          .build();
+      metrics.gauge("process.fd.open", "count", provider::getOpenFileDescriptors);
+      metrics.gauge("process.fd.max", "count", provider::getMaxFileDescriptors);
+      if (properties.getUnhealthyRatio() != null) {
+        systemd.addHealthProvider(provider);
+      }
+      return provider;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for stopping idle socket-activated services.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnSocketActivation
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.idle-stop")
+  @EnableConfigurationProperties(SystemdIdleStopProperties.class)
+  public static class SystemdAutoIdleStopConfiguration {
+
+    SystemdAutoIdleStopConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdIdleMonitor systemdIdleMonitor(@NonNull ConfigurableApplicationContext applicationContext, @NonNull SystemdIdleStopProperties properties,
+        @NonNull SystemdMetrics metrics, @NonNull ObjectProvider<SystemdIdleMonitor.Source> sources) {
+      requireNonNull(applicationContext, "Application context must not be null");
+      requireNonNull(properties, "Properties must not be null");
+      requireNonNull(metrics, "Metrics must not be null");
+      requireNonNull(sources, "Sources must not be null");
+
+      // closing the context notifies systemd that the service is stopping, and systemd keeps the listening socket to start it again
+      SystemdIdleMonitor monitor = SystemdIdleMonitor.builder()
+          .timeout(Duration.ofMillis(properties.getTimeoutMs()))
+          .action(() -> System.exit(SpringApplication.exit(applicationContext)))
+          .build();
+      sources.orderedStream().forEach(monitor::addSource);
+      metrics.gauge("systemd.idle.time", "ms", () -> monitor.getIdleTime().toMillis());
+      return monitor;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for systemd integration with connection pools.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @EnableConfigurationProperties(SystemdDataSourceProperties.class)
+  public static class SystemdAutoDataSourceConfiguration {
+
+    SystemdAutoDataSourceConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdDataSourceStatusProvider systemdDataSourceStatusProvider(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull SystemdDataSourceProperties properties, @NonNull SystemdMetrics metrics, @NonNull ObjectProvider<Map<String, DataSource>> dataSourcesProvider,
+        @NonNull ObjectProvider<PoolResolver> resolvers) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(properties, "Properties must not be null");
+      requireNonNull(metrics, "Metrics must not be null");
+      requireNonNull(dataSourcesProvider, "Data sources provider must not be null");
+      requireNonNull(resolvers, "Resolvers must not be null");
+
+      Long unhealthyWaitingMs = properties.getUnhealthyWaitingMs();
+      SystemdDataSourceStatusProvider provider = new SystemdDataSourceStatusProvider(unhealthyWaitingMs == null ? null : Duration.ofMillis(unhealthyWaitingMs));
+      dataSourcesProvider.ifAvailable(dataSources -> dataSources.forEach((name, dataSource) -> resolvers.orderedStream()
+          .map(resolver -> resolver.resolve(dataSource))
+          .filter(Objects::nonNull)
+          .findFirst()
+          .ifPresent(pool -> {
+            provider.addPool(name, pool);
+            // bean names are free form, and the longest gauge name ends with ".pending"
+            String prefix = "datasource." + SystemdMetrics.segment(name, SystemdMetrics.MAX_NAME_LENGTH - "datasource..pending".length()) + '.';
+            metrics.gauge(prefix + "active", "count", pool::getActive);
+            metrics.gauge(prefix + "idle", "count", pool::getIdle);
+            metrics.gauge(prefix + "pending", "count", pool::getPending);
+            metrics.gauge(prefix + "total", "count", pool::getTotal);
+          })));
+      if (unhealthyWaitingMs != null) {
+        systemd.addHealthProvider(provider);
+      }
+      return provider;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for systemd integration with HikariCP connection pools.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnClass(HikariDataSource.class)
+  public static class SystemdAutoHikariConfiguration {
+
+    SystemdAutoHikariConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    PoolResolver systemdHikariPoolResolver() {
+      return SystemdHikariPool::resolve;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the memory-mapped statistics file.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.stats")
+  @EnableConfigurationProperties(SystemdStatsProperties.class)
+  public static class SystemdAutoStatsConfiguration {
+
+    SystemdAutoStatsConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdStats systemdStats(@NonNull SystemdMetrics metrics, @NonNull SystemdStatsProperties properties) throws IOException {
+      requireNonNull(metrics, "Metrics must not be null");
+      requireNonNull(properties, "Properties must not be null");
+
+      SystemdStats.Builder builder = SystemdStats.builder()
+          .metrics(metrics)
+          .period(Duration.ofMillis(properties.getPeriodMs()))
+          .capacity(properties.getCapacity());
+      if (properties.getPath() != null) {
+        builder.path(Path.of(properties.getPath()));
+      }
+      return builder.build();
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the export of metrics to the textfile collector of the Prometheus node exporter.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnProperty(name = "enabled", prefix = "systemd.prometheus")
+  @EnableConfigurationProperties(SystemdPrometheusProperties.class)
+  public static class SystemdAutoPrometheusConfiguration {
+
+    SystemdAutoPrometheusConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdPrometheusExporter systemdPrometheusExporter(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull SystemdMetrics metrics, @NonNull SystemdPrometheusProperties properties) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(metrics, "Metrics must not be null");
+      requireNonNull(properties, "Properties must not be null");
+
+      SystemdPrometheusExporter.Builder builder = SystemdPrometheusExporter.builder()
+          .metrics(metrics)
+          .directory(Path.of(properties.getDirectory()))
+          .fileName(properties.getFileName())
+          .prefix(properties.getPrefix());
+      properties.getLabels().forEach(builder::label);
+      SystemdPrometheusExporter exporter = builder.build();
+      systemd.addStatusListeners(exporter);
+      return exporter;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the Micrometer meters of the systemd integration.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnClass(MeterBinder.class)
+  public static class SystemdAutoMicrometerConfiguration {
+
+    SystemdAutoMicrometerConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdMeterBinder systemdMeterBinder(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull ObjectProvider<SystemdActuatorHealthProvider> healthProvider) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(healthProvider, "Health provider must not be null");
+
+      SystemdMeterBinder binder = new SystemdMeterBinder(systemd, healthProvider.getIfAvailable(), runStatusProvider(systemd).orElse(null));
+      systemd.addWatchdogListeners(binder);
+      systemd.addStatusListeners(binder);
+      return binder;
+    }
+  }
+
+  /**
+   * Autoconfiguration class for the Spring Boot Actuator endpoint of the systemd integration.
+   */
+  @Configuration
+  @ConditionalOnSystemd
+  @ConditionalOnClass(Endpoint.class)
+  @ConditionalOnAvailableEndpoint(SystemdEndpoint.class)
+  public static class SystemdAutoEndpointConfiguration {
+
+    private static final int HISTORY_CAPACITY = 64;
+
+    SystemdAutoEndpointConfiguration() {
+    }
+
+    @Bean
+    @NonNull
+    SystemdHistory systemdHistory(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd) {
+      requireNonNull(systemd, "Systemd must not be null");
+
+      SystemdHistory history = new SystemdHistory(HISTORY_CAPACITY);
+      systemd.addStatusListeners(history);
+      systemd.addWatchdogListeners(history);
+      return history;
+    }
+
+    @Bean
+    @NonNull
+    SystemdEndpoint systemdEndpoint(@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection") @NonNull Systemd systemd,
+        @NonNull SystemdHistory history) {
+      requireNonNull(systemd, "Systemd must not be null");
+      requireNonNull(history, "History must not be null");
+
+      return new SystemdEndpoint(systemd, history);
+    }
+  }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the connection pool integration with the systemd watchdog.
+ *
+ * @author Joao Silva
+ * @see SystemdDataSourceStatusProvider
+ */
+@ConfigurationProperties(prefix = "systemd.datasource")
+public class SystemdDataSourceProperties {
+
+  SystemdDataSourceProperties() {
+  }
+
+  /**
+   * Period after which threads waiting for connections of a pool make the application unhealthy. This parameter is provided in milliseconds, and may be
+   * <code>null</code> to not feed the watchdog.
+   */
+  @Nullable
+  private Long unhealthyWaitingMs;
+
+  /**
+   * Check the period after which threads waiting for connections of a pool make the application unhealthy, in milliseconds.
+   *
+   * @return the period, or <code>null</code> if the watchdog is not fed
+   */
+  public @Nullable Long getUnhealthyWaitingMs() {
+    return unhealthyWaitingMs;
+  }
+
+  /**
+   * Set the period after which threads waiting for connections of a pool make the application unhealthy, in milliseconds.
+   *
+   * @param unhealthyWaitingMs the period, or <code>null</code> to not feed the watchdog
+   */
+  public void setUnhealthyWaitingMs(@Nullable Long unhealthyWaitingMs) {
+    this.unhealthyWaitingMs = unhealthyWaitingMs;
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} and {@link HealthProvider} that provides information regarding the saturation of connection pools.
+ *
+ * <p>Each pool is reported in the form {@code dataSource: 8/10, 3 waiting}, meaning that 8 of the 10 connections in the pool are in use, and 3 threads are
+ * waiting for a connection. The waiting part is omitted while no thread waits.
+ *
+ * <p>Pools are read through the {@link Pool} interface, which the Spring Boot starter implements for HikariCP with {@link SystemdHikariPool}. Other pools can
+ * be supported by registering a {@link PoolResolver} bean.
+ *
+ * <p>As a {@link HealthProvider}, the application is reported as unhealthy when threads have been waiting for connections of a pool, at every health check,
+ * for longer than the configured period. Without a period, the application is always reported as healthy.
+ *
+ * @author Joao Silva
+ * @see SystemdHikariPool
+ */
+@Order(1200)
+public class SystemdDataSourceStatusProvider implements SystemdStatusProvider, HealthProvider {
+
+  @NonNull
+  private final List<PoolStatus> pools = new CopyOnWriteArrayList<>();
+  @Nullable
+  private final Duration unhealthyWaiting;
+
+  /**
+   * Create a new SystemdDataSourceStatusProvider, that always reports the application as healthy.
+   */
+  public SystemdDataSourceStatusProvider() {
+    this(null);
+  }
+
+  /**
+   * Create a new SystemdDataSourceStatusProvider.
+   *
+   * @param unhealthyWaiting the period after which threads waiting for connections make the application unhealthy, or <code>null</code> to always report
+   *     the application as healthy
+   */
+  public SystemdDataSourceStatusProvider(@Nullable Duration unhealthyWaiting) {
+    this.unhealthyWaiting = unhealthyWaiting;
+  }
+
+  /**
+   * Registers a connection pool to report the status of.
+   *
+   * @param name the name of the pool, such as the name of the data source bean
+   * @param pool the pool to report the status of
+   */
+  public void addPool(@NonNull String name, @NonNull Pool pool) {
+    pools.add(new PoolStatus(requireNonNull(name, "Name must not be null"), requireNonNull(pool, "Pool must not be null")));
+  }
+
+  @Override
+  public @NonNull String status() {
+    StringJoiner joiner = new StringJoiner(", ");
+    for (PoolStatus status : pools) {
+      Pool pool = status.pool;
+      int pending = pool.getPending();
+      if (pending > 0) {
+        joiner.add(String.format("%s: %d/%d, %d waiting", status.name, pool.getActive(), pool.getTotal(), pending));
+      } else {
+        joiner.add(String.format("%s: %d/%d", status.name, pool.getActive(), pool.getTotal()));
+      }
+    }
+    return joiner.toString();
+  }
+
+  @Override
+  public synchronized Health health() {
+    if (unhealthyWaiting == null) {
+      return Health.healthy();
+    }
+    long now = System.nanoTime();
+    Map<String, Object> details = new HashMap<>();
+    for (PoolStatus status : pools) {
+      int pending = status.pool.getPending();
+      if (pending <= 0) {
+        status.waiting = false;
+        continue;
+      }
+      if (!status.waiting) {
+        status.waiting = true;
+        status.waitingSince = now;
+      }
+      Duration waiting = Duration.ofNanos(now - status.waitingSince);
+      if (waiting.compareTo(unhealthyWaiting) > 0) {
+        details.put("datasource." + status.name + ".waiting", String.format("%d threads waiting for %s", pending, waiting));
+      }
+    }
+    return new Health(details.isEmpty(), details);
+  }
+
+  /**
+   * Connection pool that can be reported by {@link SystemdDataSourceStatusProvider}.
+   */
+  public interface Pool {
+
+    /**
+     * Returns the number of connections in use.
+     *
+     * @return the number of connections in use
+     */
+    int getActive();
+
+    /**
+     * Returns the number of idle connections.
+     *
+     * @return the number of idle connections
+     */
+    int getIdle();
+
+    /**
+     * Returns the number of threads waiting for a connection.
+     *
+     * @return the number of threads waiting
+     */
+    int getPending();
+
+    /**
+     * Returns the number of connections in the pool, both in use and idle.
+     *
+     * @return the number of connections
+     */
+    int getTotal();
+  }
+
+  /**
+   * Strategy that adapts data sources to {@link Pool} instances. Under Spring Boot, beans of this type are used to find the pools behind the data source
+   * beans, in order.
+   */
+  @FunctionalInterface
+  public interface PoolResolver {
+
+    /**
+     * Adapts a data source to a pool.
+     *
+     * @param dataSource the data source to adapt
+     * @return the pool behind the data source, or <code>null</code> if the data source is not supported
+     */
+    @Nullable Pool resolve(@NonNull DataSource dataSource);
+  }
+
+  private static final class PoolStatus {
+
+    @NonNull
+    private final String name;
+    @NonNull
+    private final Pool pool;
+    private boolean waiting;
+    private long waitingSince;
+
+    private PoolStatus(@NonNull String name, @NonNull Pool pool) {
+      this.name = name;
+      this.pool = pool;
+    }
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.jpmsilva.jsystemd.SystemdHistory.HeartbeatEntry;
+import com.github.jpmsilva.jsystemd.SystemdHistory.StatusEntry;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * Spring Boot Actuator endpoint that exposes the state of the systemd integration.
+ *
+ * <p>Reading the endpoint returns the options of the integration, the notify socket, the ready flag, the status providers with the time spent computing
+ * their status, and the recent status updates and watchdog heartbeats kept by a {@link SystemdHistory}.
+ *
+ * <p>Writing to the endpoint forces a status update and, when {@code statusUpdatePeriodMs} is provided, replaces the period of the status updates first, which
+ * is handy to follow a slow startup or shutdown more closely.
+ *
+ * @author Joao Silva
+ * @see SystemdHistory
+ */
+@Endpoint(id = "systemd")
+public class SystemdEndpoint {
+
+  @NonNull
+  private final Systemd systemd;
+  @NonNull
+  private final SystemdHistory history;
+
+  /**
+   * Creates a new endpoint exposing the state of the provided {@link Systemd}.
+   *
+   * @param systemd the systemd integration to expose
+   * @param history the history of status updates and heartbeats registered in the systemd integration
+   */
+  public SystemdEndpoint(@NonNull Systemd systemd, @NonNull SystemdHistory history) {
+    this.systemd = requireNonNull(systemd, "Systemd must not be null");
+    this.history = requireNonNull(history, "History must not be null");
+  }
+
+  /**
+   * Returns the state of the systemd integration.
+   *
+   * @return the state of the systemd integration
+   */
+  @ReadOperation
+  public @NonNull SystemdDescriptor systemd() {
+    Map<SystemdStatusProvider, SystemdTimer> timers = systemd.getStatusTimers();
+    List<StatusProviderDescriptor> providers = new ArrayList<>();
+    for (SystemdStatusProvider provider : systemd.getStatusProviders()) {
+      SystemdTimer timer = timers.get(provider);
+      providers.add(new StatusProviderDescriptor(provider.getClass().getSimpleName(), timer == null ? new SystemdTimer() : timer));
+    }
+    return new SystemdDescriptor(systemd, providers, history.getStatuses(), history.getHeartbeats());
+  }
+
+  /**
+   * Forces a status update, optionally changing the period of the status updates first.
+   *
+   * @param statusUpdatePeriodMs the new period of the status updates in milliseconds, 0 to disable them, or <code>null</code> to keep the current period
+   * @return the state of the systemd integration after the update
+   */
+  @WriteOperation
+  public @NonNull SystemdDescriptor update(@Nullable Long statusUpdatePeriodMs) {
+    if (statusUpdatePeriodMs != null) {
+      systemd.setStatusUpdatePeriod(statusUpdatePeriodMs, TimeUnit.MILLISECONDS);
+    }
+    systemd.updateStatus();
+    return systemd();
+  }
+
+  /**
+   * Description of the state of the systemd integration.
+   */
+  public static final class SystemdDescriptor {
+
+    private final boolean underSystemd;
+    @Nullable
+    private final String notifySocket;
+    @NonNull
+    private final String options;
+    private final boolean ready;
+    private final long statusUpdatePeriodMs;
+    private final long watchdogUsec;
+    @NonNull
+    private final List<StatusProviderDescriptor> providers;
+    @NonNull
+    private final List<StatusEntry> statuses;
+    @NonNull
+    private final List<HeartbeatEntry> heartbeats;
+
+    private SystemdDescriptor(@NonNull Systemd systemd, @NonNull List<StatusProviderDescriptor> providers, @NonNull List<StatusEntry> statuses,
+        @NonNull List<HeartbeatEntry> heartbeats) {
+      Path socket = SystemdUtilities.notifySocketPath();
+      this.underSystemd = SystemdUtilities.isUnderSystemd();
+      this.notifySocket = socket == null ? null : socket.toString();
+      this.options = systemd.getOptions();
+      this.ready = systemd.isReady();
+      this.statusUpdatePeriodMs = systemd.getStatusUpdatePeriod().toMillis();
+      this.watchdogUsec = SystemdUtilities.watchdogUsec();
+      this.providers = providers;
+      this.statuses = statuses;
+      this.heartbeats = heartbeats;
+    }
+
+    /**
+     * Check if the application is running under systemd.
+     *
+     * @return {@code true} if the application is running under systemd
+     */
+    public boolean isUnderSystemd() {
+      return underSystemd;
+    }
+
+    /**
+     * Returns the path of the socket notifications are sent to.
+     *
+     * @return the path of the notify socket, or <code>null</code> if there is none
+     */
+    public @Nullable String getNotifySocket() {
+      return notifySocket;
+    }
+
+    /**
+     * Returns the options the systemd integration was built with.
+     *
+     * @return the options of the integration
+     */
+    public @NonNull String getOptions() {
+      return options;
+    }
+
+    /**
+     * Check if systemd has been notified that the application is ready.
+     *
+     * @return {@code true} if the application is ready
+     */
+    public boolean isReady() {
+      return ready;
+    }
+
+    /**
+     * Returns the current period of the status updates.
+     *
+     * @return the period of the status updates in milliseconds, or 0 if they are disabled
+     */
+    public long getStatusUpdatePeriodMs() {
+      return statusUpdatePeriodMs;
+    }
+
+    /**
+     * Returns the watchdog timeout configured in systemd.
+     *
+     * @return the watchdog timeout in microseconds, or 0 if the watchdog is disabled
+     */
+    public long getWatchdogUsec() {
+      return watchdogUsec;
+    }
+
+    /**
+     * Returns the status providers, in the order their status is reported.
+     *
+     * @return the status providers
+     */
+    public @NonNull List<StatusProviderDescriptor> getProviders() {
+      return providers;
+    }
+
+    /**
+     * Returns the recent status updates, oldest first.
+     *
+     * @return the recent status updates
+     */
+    public @NonNull List<StatusEntry> getStatuses() {
+      return statuses;
+    }
+
+    /**
+     * Returns the recent heartbeats, sent or suppressed, oldest first.
+     *
+     * @return the recent heartbeats
+     */
+    public @NonNull List<HeartbeatEntry> getHeartbeats() {
+      return heartbeats;
+    }
+  }
+
+  /**
+   * Description of a status provider and of the time spent computing its status.
+   */
+  public static final class StatusProviderDescriptor {
+
+    @NonNull
+    private final String name;
+    private final long calls;
+    private final long totalNanos;
+
+    private StatusProviderDescriptor(@NonNull String name, @NonNull SystemdTimer timer) {
+      this.name = name;
+      this.calls = timer.getCount();
+      this.totalNanos = timer.getNanos();
+    }
+
+    /**
+     * Returns the name of the status provider.
+     *
+     * @return the name of the status provider
+     */
+    public @NonNull String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the number of times the status was computed.
+     *
+     * @return the number of calls
+     */
+    public long getCalls() {
+      return calls;
+    }
+
+    /**
+     * Returns the total time spent computing the status, in milliseconds.
+     *
+     * @return the total time spent
+     */
+    public double getTotalMs() {
+      return totalNanos / 1e6;
+    }
+
+    /**
+     * Returns the average time spent computing the status, in microseconds.
+     *
+     * @return the average time spent, or 0 if the status was never computed
+     */
+    public double getAverageUs() {
+      return calls == 0 ? 0 : totalNanos / 1e3 / calls;
+    }
+  }
+}
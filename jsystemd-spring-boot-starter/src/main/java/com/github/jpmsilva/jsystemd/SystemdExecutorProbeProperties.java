@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the executor queueing delay probes.
+ *
+ * @author Joao Silva
+ * @see SystemdExecutorProbe
+ */
+@ConfigurationProperties(prefix = "systemd.executor-probe")
+public class SystemdExecutorProbeProperties {
+
+  SystemdExecutorProbeProperties() {
+  }
+
+  /**
+   * Enable the executor queueing delay probes.
+   */
+  private boolean enabled;
+
+  /**
+   * Interval between two probes of each executor. This parameter is provided in milliseconds.
+   */
+  private long intervalMs = 1000;
+
+  /**
+   * Duration of the rolling windows over which probes are aggregated. This parameter is provided in milliseconds.
+   */
+  private long windowMs = 60_000;
+
+  /**
+   * Queueing delay above which the application is reported to systemd watchdog as unhealthy. This parameter is provided in milliseconds, and may be
+   * <code>null</code> to not feed the watchdog.
+   */
+  @Nullable
+  private Long unhealthyAboveMs;
+
+  /**
+   * Check if the executor queueing delay probes are enabled.
+   *
+   * @return <code>true</code> if the probes are enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable the executor queueing delay probes.
+   *
+   * @param enabled <code>true</code> to enable the probes
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Check the interval between two probes of each executor, in milliseconds.
+   *
+   * @return the interval between probes
+   */
+  public long getIntervalMs() {
+    return intervalMs;
+  }
+
+  /**
+   * Set the interval between two probes of each executor, in milliseconds.
+   *
+   * @param intervalMs the interval between probes
+   */
+  public void setIntervalMs(long intervalMs) {
+    this.intervalMs = intervalMs;
+  }
+
+  /**
+   * Check the duration of the rolling windows over which probes are aggregated, in milliseconds.
+   *
+   * @return the duration of the windows
+   */
+  public long getWindowMs() {
+    return windowMs;
+  }
+
+  /**
+   * Set the duration of the rolling windows over which probes are aggregated, in milliseconds.
+   *
+   * @param windowMs the duration of the windows
+   */
+  public void setWindowMs(long windowMs) {
+    this.windowMs = windowMs;
+  }
+
+  /**
+   * Check the queueing delay above which the application is reported as unhealthy, in milliseconds.
+   *
+   * @return the maximum queueing delay, or <code>null</code> if the watchdog is not fed
+   */
+  public @Nullable Long getUnhealthyAboveMs() {
+    return unhealthyAboveMs;
+  }
+
+  /**
+   * Set the queueing delay above which the application is reported as unhealthy, in milliseconds.
+   *
+   * @param unhealthyAboveMs the maximum queueing delay, or <code>null</code> to not feed the watchdog
+   */
+  public void setUnhealthyAboveMs(@Nullable Long unhealthyAboveMs) {
+    this.unhealthyAboveMs = unhealthyAboveMs;
+  }
+}
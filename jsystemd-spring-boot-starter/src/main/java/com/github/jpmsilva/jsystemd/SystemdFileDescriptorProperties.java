@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the file descriptor status provider.
+ *
+ * @author Joao Silva
+ * @see SystemdFileDescriptorStatusProvider
+ */
+@ConfigurationProperties(prefix = "systemd.file-descriptors")
+public class SystemdFileDescriptorProperties {
+
+  SystemdFileDescriptorProperties() {
+  }
+
+  /**
+   * Whether the breakdown of TCP socket states is reported in the status. Only available on Linux.
+   */
+  private boolean socketStates = true;
+
+  /**
+   * Minimum interval between two scans of the socket states. This parameter is provided in milliseconds.
+   */
+  private long socketIntervalMs = 10_000;
+
+  /**
+   * Fraction of the file descriptor limit at which the application is considered unhealthy. May be <code>null</code> to not feed the watchdog.
+   */
+  @Nullable
+  private Double unhealthyRatio;
+
+  /**
+   * Check whether the breakdown of TCP socket states is reported in the status.
+   *
+   * @return whether the breakdown of socket states is reported
+   */
+  public boolean isSocketStates() {
+    return socketStates;
+  }
+
+  /**
+   * Set whether the breakdown of TCP socket states is reported in the status.
+   *
+   * @param socketStates whether the breakdown of socket states is reported
+   */
+  public void setSocketStates(boolean socketStates) {
+    this.socketStates = socketStates;
+  }
+
+  /**
+   * Check the minimum interval between two scans of the socket states, in milliseconds.
+   *
+   * @return the minimum interval between scans
+   */
+  public long getSocketIntervalMs() {
+    return socketIntervalMs;
+  }
+
+  /**
+   * Set the minimum interval between two scans of the socket states, in milliseconds.
+   *
+   * @param socketIntervalMs the minimum interval between scans
+   */
+  public void setSocketIntervalMs(long socketIntervalMs) {
+    this.socketIntervalMs = socketIntervalMs;
+  }
+
+  /**
+   * Check the fraction of the file descriptor limit at which the application is considered unhealthy.
+   *
+   * @return the fraction of the limit, or <code>null</code> if the watchdog is not fed
+   */
+  public @Nullable Double getUnhealthyRatio() {
+    return unhealthyRatio;
+  }
+
+  /**
+   * Set the fraction of the file descriptor limit at which the application is considered unhealthy.
+   *
+   * @param unhealthyRatio the fraction of the limit, or <code>null</code> to not feed the watchdog
+   */
+  public void setUnhealthyRatio(@Nullable Double unhealthyRatio) {
+    this.unhealthyRatio = unhealthyRatio;
+  }
+}
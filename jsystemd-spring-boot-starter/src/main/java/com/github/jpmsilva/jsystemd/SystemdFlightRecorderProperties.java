@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the continuous JFR recording dumped when the systemd watchdog heartbeat is suppressed or late.
+ *
+ * @author Joao Silva
+ * @see SystemdFlightRecorder
+ */
+@ConfigurationProperties(prefix = "systemd.flight-recorder")
+public class SystemdFlightRecorderProperties {
+
+  SystemdFlightRecorderProperties() {
+  }
+
+  /**
+   * Enable the continuous JFR recording.
+   */
+  private boolean enabled;
+
+  /**
+   * Maximum age of the data kept in the recording. This parameter is provided in milliseconds.
+   */
+  private long maxAgeMs = 600_000;
+
+  /**
+   * Maximum size of the data kept in the recording. This parameter is provided in bytes.
+   */
+  private long maxSize = 64L * 1024 * 1024;
+
+  /**
+   * Directory where recordings are dumped. If omitted {@code $LOGS_DIRECTORY} is used, or the temporary directory if not set.
+   */
+  @Nullable
+  private String directory;
+
+  /**
+   * Check if the continuous JFR recording is enabled.
+   *
+   * @return <code>true</code> if the continuous JFR recording is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable the continuous JFR recording.
+   *
+   * @param enabled <code>true</code> to enable the continuous JFR recording
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Check the maximum age of the data kept in the recording, in milliseconds.
+   *
+   * @return the maximum age of the data kept in the recording
+   */
+  public long getMaxAgeMs() {
+    return maxAgeMs;
+  }
+
+  /**
+   * Set the maximum age of the data kept in the recording, in milliseconds.
+   *
+   * @param maxAgeMs the maximum age of the data kept in the recording
+   */
+  public void setMaxAgeMs(long maxAgeMs) {
+    this.maxAgeMs = maxAgeMs;
+  }
+
+  /**
+   * Check the maximum size of the data kept in the recording, in bytes.
+   *
+   * @return the maximum size of the data kept in the recording
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum size of the data kept in the recording, in bytes.
+   *
+   * @param maxSize the maximum size of the data kept in the recording
+   */
+  public void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Check the directory where recordings are dumped.
+   *
+   * @return the directory where recordings are dumped, or <code>null</code> to use the default
+   */
+  public @Nullable String getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Set the directory where recordings are dumped. If omitted {@code $LOGS_DIRECTORY} is used, or the temporary directory if not set.
+   *
+   * @param directory the directory where recordings are dumped
+   */
+  public void setDirectory(@Nullable String directory) {
+    this.directory = directory;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import java.util.function.ToIntFunction;
+import javax.sql.DataSource;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Implementation of {@link SystemdDataSourceStatusProvider.Pool} for HikariCP.
+ *
+ * <p>Counts are read straight from the {@link HikariPoolMXBean} of the data source, without going through JMX. Hikari starts its pool lazily, so every count
+ * is 0 until the first connection is requested.
+ *
+ * @author Joao Silva
+ * @see HikariDataSource#getHikariPoolMXBean()
+ */
+public final class SystemdHikariPool implements SystemdDataSourceStatusProvider.Pool {
+
+  private static final Logger logger = getLogger(lookup().lookupClass());
+
+  @NonNull
+  private final HikariDataSource dataSource;
+
+  /**
+   * Creates a new instance that reports the pool of the data source.
+   *
+   * @param dataSource the data source to report the pool of
+   */
+  public SystemdHikariPool(@NonNull HikariDataSource dataSource) {
+    this.dataSource = requireNonNull(dataSource, "Data source must not be null");
+  }
+
+  /**
+   * Adapts a data source to a pool, when it is or wraps a {@link HikariDataSource}. Meant to be used as a {@link SystemdDataSourceStatusProvider.PoolResolver}.
+   *
+   * @param dataSource the data source to adapt
+   * @return the pool of the data source, or <code>null</code> if it is not backed by HikariCP
+   */
+  public static @Nullable SystemdHikariPool resolve(@NonNull DataSource dataSource) {
+    if (dataSource instanceof HikariDataSource hikari) {
+      return new SystemdHikariPool(hikari);
+    }
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        return new SystemdHikariPool(dataSource.unwrap(HikariDataSource.class));
+      }
+    } catch (SQLException e) {
+      logger.debug("Could not unwrap data source {}", dataSource, e);
+    }
+    return null;
+  }
+
+  @Override
+  public int getActive() {
+    return read(HikariPoolMXBean::getActiveConnections);
+  }
+
+  @Override
+  public int getIdle() {
+    return read(HikariPoolMXBean::getIdleConnections);
+  }
+
+  @Override
+  public int getPending() {
+    return read(HikariPoolMXBean::getThreadsAwaitingConnection);
+  }
+
+  @Override
+  public int getTotal() {
+    return read(HikariPoolMXBean::getTotalConnections);
+  }
+
+  private int read(@NonNull ToIntFunction<HikariPoolMXBean> value) {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    return pool == null ? 0 : value.applyAsInt(pool);
+  }
+}
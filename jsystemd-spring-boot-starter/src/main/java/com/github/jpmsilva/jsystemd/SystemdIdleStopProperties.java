@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for stopping idle socket-activated services.
+ *
+ * @author Joao Silva
+ * @see SystemdIdleMonitor
+ */
+@ConfigurationProperties(prefix = "systemd.idle-stop")
+public class SystemdIdleStopProperties {
+
+  SystemdIdleStopProperties() {
+  }
+
+  /**
+   * Whether a socket-activated service is stopped when idle.
+   */
+  private boolean enabled;
+
+  /**
+   * Time without requests nor open connections after which the service is stopped. This parameter is provided in milliseconds.
+   */
+  private long timeoutMs = 600_000;
+
+  /**
+   * Check whether a socket-activated service is stopped when idle.
+   *
+   * @return whether the service is stopped when idle
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Set whether a socket-activated service is stopped when idle.
+   *
+   * @param enabled whether the service is stopped when idle
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Check the time without requests nor open connections after which the service is stopped, in milliseconds.
+   *
+   * @return the time without activity
+   */
+  public long getTimeoutMs() {
+    return timeoutMs;
+  }
+
+  /**
+   * Set the time without requests nor open connections after which the service is stopped, in milliseconds.
+   *
+   * @param timeoutMs the time without activity
+   */
+  public void setTimeoutMs(long timeoutMs) {
+    this.timeoutMs = timeoutMs;
+  }
+}
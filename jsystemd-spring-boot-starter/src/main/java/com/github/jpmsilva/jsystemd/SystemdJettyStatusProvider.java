@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToIntFunction;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} that provides information regarding Jetty thread pools.
+ *
+ * <p>Servers are registered with {@link #addServer(Server)}, which the Spring Boot starter does as the web server is created. The usage of their
+ * {@link QueuedThreadPool} is read straight from the pool, in the form {@code jetty: 5/10, 2 queued}, meaning that 5 of the 10 threads of the pool are busy,
+ * and 2 jobs are waiting for a thread.
+ *
+ * @author Joao Silva
+ * @see QueuedThreadPool
+ */
+@Order(1000)
+public class SystemdJettyStatusProvider implements SystemdStatusProvider {
+
+  @NonNull
+  private final List<Server> servers = new CopyOnWriteArrayList<>();
+
+  /**
+   * Create a new SystemdJettyStatusProvider.
+   */
+  public SystemdJettyStatusProvider() {
+  }
+
+  /**
+   * Registers a server to report the status of. Servers that are not started, or no longer started, are not reported.
+   *
+   * @param server the server to report the status of
+   */
+  public void addServer(@NonNull Server server) {
+    servers.add(requireNonNull(server, "Server must not be null"));
+  }
+
+  @Override
+  public @NonNull String status() {
+    StringJoiner joiner = new StringJoiner(", ");
+    for (Server server : servers) {
+      if (server.isStarted() && server.getThreadPool() instanceof QueuedThreadPool pool) {
+        joiner.add(String.format("jetty: %d/%d, %d queued", pool.getBusyThreads(), pool.getThreads(), pool.getQueueSize()));
+      }
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Returns the number of busy threads, across all Jetty thread pools.
+   *
+   * @return the number of busy threads
+   */
+  public int getBusyThreads() {
+    return sum(QueuedThreadPool::getBusyThreads);
+  }
+
+  /**
+   * Returns the number of threads, across all Jetty thread pools.
+   *
+   * @return the number of threads
+   */
+  public int getThreads() {
+    return sum(QueuedThreadPool::getThreads);
+  }
+
+  /**
+   * Returns the number of jobs waiting for a thread, across all Jetty thread pools.
+   *
+   * @return the number of queued jobs
+   */
+  public int getQueueSize() {
+    return sum(QueuedThreadPool::getQueueSize);
+  }
+
+  private int sum(@NonNull ToIntFunction<QueuedThreadPool> value) {
+    int sum = 0;
+    for (Server server : servers) {
+      if (server.isStarted() && server.getThreadPool() instanceof QueuedThreadPool pool) {
+        sum += value.applyAsInt(pool);
+      }
+    }
+    return sum;
+  }
+}
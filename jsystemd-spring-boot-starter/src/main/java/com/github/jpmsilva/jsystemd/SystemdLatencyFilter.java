@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Servlet {@link Filter} that records the latency and outcome of every request in a {@link SystemdLatencyHealthProvider}.
+ *
+ * <p>Requests are considered failed when they end with an exception or a 5xx status. The latency of asynchronous requests is recorded when they complete.
+ *
+ * @author Joao Silva
+ * @see SystemdLatencyWebFilter
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SystemdLatencyFilter implements Filter {
+
+  @NonNull
+  private final SystemdLatencyHealthProvider provider;
+
+  /**
+   * Creates a new filter that records requests in the provider.
+   *
+   * @param provider the provider to record requests in
+   */
+  public SystemdLatencyFilter(@NonNull SystemdLatencyHealthProvider provider) {
+    this.provider = requireNonNull(provider, "Provider must not be null");
+  }
+
+  @Override
+  public void doFilter(@NonNull ServletRequest request, @NonNull ServletResponse response, @NonNull FilterChain chain) throws IOException, ServletException {
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      chain.doFilter(request, response);
+      failed = false;
+    } finally {
+      if (!failed && request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new AsyncCompletion(start));
+      } else {
+        provider.record(System.nanoTime() - start, failed || isError(response));
+      }
+    }
+  }
+
+  private static boolean isError(@NonNull ServletResponse response) {
+    return response instanceof HttpServletResponse http && http.getStatus() >= 500;
+  }
+
+  private final class AsyncCompletion implements AsyncListener {
+
+    private final long start;
+
+    private AsyncCompletion(long start) {
+      this.start = start;
+    }
+
+    @Override
+    public void onComplete(@NonNull AsyncEvent event) {
+      provider.record(System.nanoTime() - start, event.getThrowable() != null || isError(event.getSuppliedResponse()));
+    }
+
+    @Override
+    public void onTimeout(@NonNull AsyncEvent event) {
+      // recorded on completion
+    }
+
+    @Override
+    public void onError(@NonNull AsyncEvent event) {
+      // recorded on completion
+    }
+
+    @Override
+    public void onStartAsync(@NonNull AsyncEvent event) {
+      // the listener is not registered again on further dispatches
+    }
+  }
+}
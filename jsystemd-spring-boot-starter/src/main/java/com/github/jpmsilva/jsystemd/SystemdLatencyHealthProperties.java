@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the request latency objective integration with the systemd watchdog.
+ *
+ * @author Joao Silva
+ * @see SystemdLatencyHealthProvider
+ */
+@ConfigurationProperties(prefix = "systemd.latency-health")
+public class SystemdLatencyHealthProperties {
+
+  SystemdLatencyHealthProperties() {
+  }
+
+  /**
+   * Enable integration between the request latency objective and systemd watchdog.
+   */
+  private boolean enabled;
+
+  /**
+   * Duration of the rolling windows over which requests are aggregated. This parameter is provided in milliseconds.
+   */
+  private long windowMs = 60_000;
+
+  /**
+   * Maximum acceptable 99th percentile of the request latency. This parameter is provided in milliseconds, and may be <code>null</code> to not limit it.
+   */
+  @Nullable
+  private Long p99Ms;
+
+  /**
+   * Maximum acceptable fraction of failed requests, between 0 and 1. May be <code>null</code> to not limit it.
+   */
+  @Nullable
+  private Double errorRate;
+
+  /**
+   * Minimum number of requests in a window for the objective to be evaluated.
+   */
+  private long minRequests = 100;
+
+  /**
+   * Delay reporting unhealthy status to systemd watchdog. This parameter is provided in milliseconds, and may be <code>null</code> to disable the delay.
+   */
+  @Nullable
+  private Long unhealthyPendingPeriodMs;
+
+  /**
+   * Check if the integration between the request latency objective and systemd watchdog is enabled.
+   *
+   * @return <code>true</code> if the integration is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable integration between the request latency objective and systemd watchdog.
+   *
+   * @param enabled <code>true</code> to enable the integration
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Check the duration of the rolling windows over which requests are aggregated, in milliseconds.
+   *
+   * @return the duration of the windows
+   */
+  public long getWindowMs() {
+    return windowMs;
+  }
+
+  /**
+   * Set the duration of the rolling windows over which requests are aggregated, in milliseconds.
+   *
+   * @param windowMs the duration of the windows
+   */
+  public void setWindowMs(long windowMs) {
+    this.windowMs = windowMs;
+  }
+
+  /**
+   * Check the maximum acceptable 99th percentile of the request latency, in milliseconds.
+   *
+   * @return the maximum 99th percentile, or <code>null</code> if not limited
+   */
+  public @Nullable Long getP99Ms() {
+    return p99Ms;
+  }
+
+  /**
+   * Set the maximum acceptable 99th percentile of the request latency, in milliseconds.
+   *
+   * @param p99Ms the maximum 99th percentile, or <code>null</code> to not limit it
+   */
+  public void setP99Ms(@Nullable Long p99Ms) {
+    this.p99Ms = p99Ms;
+  }
+
+  /**
+   * Check the maximum acceptable fraction of failed requests.
+   *
+   * @return the maximum fraction of failed requests, or <code>null</code> if not limited
+   */
+  public @Nullable Double getErrorRate() {
+    return errorRate;
+  }
+
+  /**
+   * Set the maximum acceptable fraction of failed requests.
+   *
+   * @param errorRate the maximum fraction of failed requests, or <code>null</code> to not limit it
+   */
+  public void setErrorRate(@Nullable Double errorRate) {
+    this.errorRate = errorRate;
+  }
+
+  /**
+   * Check the minimum number of requests in a window for the objective to be evaluated.
+   *
+   * @return the minimum number of requests
+   */
+  public long getMinRequests() {
+    return minRequests;
+  }
+
+  /**
+   * Set the minimum number of requests in a window for the objective to be evaluated.
+   *
+   * @param minRequests the minimum number of requests
+   */
+  public void setMinRequests(long minRequests) {
+    this.minRequests = minRequests;
+  }
+
+  /**
+   * Check the delay of the unhealthy status reported to systemd watchdog, in milliseconds.
+   *
+   * @return the delay, or <code>null</code> if disabled
+   */
+  public @Nullable Long getUnhealthyPendingPeriodMs() {
+    return unhealthyPendingPeriodMs;
+  }
+
+  /**
+   * Set the delay of the unhealthy status reported to systemd watchdog, in milliseconds.
+   *
+   * @param unhealthyPendingPeriodMs the delay, or <code>null</code> to disable it
+   */
+  public void setUnhealthyPendingPeriodMs(@Nullable Long unhealthyPendingPeriodMs) {
+    this.unhealthyPendingPeriodMs = unhealthyPendingPeriodMs;
+  }
+}
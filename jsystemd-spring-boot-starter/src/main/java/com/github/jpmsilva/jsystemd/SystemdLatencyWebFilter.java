@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Reactive {@link WebFilter} that records the latency and outcome of every request in a {@link SystemdLatencyHealthProvider}.
+ *
+ * <p>Requests are considered failed when they end with an error signal or a 5xx status.
+ *
+ * @author Joao Silva
+ * @see SystemdLatencyFilter
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SystemdLatencyWebFilter implements WebFilter {
+
+  @NonNull
+  private final SystemdLatencyHealthProvider provider;
+
+  /**
+   * Creates a new filter that records requests in the provider.
+   *
+   * @param provider the provider to record requests in
+   */
+  public SystemdLatencyWebFilter(@NonNull SystemdLatencyHealthProvider provider) {
+    this.provider = requireNonNull(provider, "Provider must not be null");
+  }
+
+  @Override
+  public @NonNull Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+    long start = System.nanoTime();
+    return chain.filter(exchange).doFinally(signal -> {
+      HttpStatusCode status = exchange.getResponse().getStatusCode();
+      provider.record(System.nanoTime() - start, signal == SignalType.ON_ERROR || status != null && status.is5xxServerError());
+    });
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import com.github.jpmsilva.jsystemd.SystemdApplicationRunStatusProvider.ApplicationState;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Micrometer {@link MeterBinder} that exposes the overhead of the systemd integration and the margin left to the watchdog.
+ *
+ * <p>The following meters are registered:
+ * <ul>
+ *   <li>{@code jsystemd.notify}: timer of the notifications sent to systemd, tagged by {@code type}, such as {@code STATUS} or {@code WATCHDOG}</li>
+ *   <li>{@code jsystemd.notify.failures}: counter of the notifications {@code sd_notify} failed to send, tagged by {@code type}</li>
+ *   <li>{@code jsystemd.watchdog.interval}: time between the last two heartbeats sent to the watchdog</li>
+ *   <li>{@code jsystemd.watchdog.jitter}: difference between the last two heartbeat intervals</li>
+ *   <li>{@code jsystemd.watchdog.lateness}: time since the last heartbeat, as a fraction of {@code WATCHDOG_USEC}, as of the last heartbeat sent or
+ *   suppressed; systemd stops the service when it reaches 1</li>
+ *   <li>{@code jsystemd.status.provider}: timer of the calls to each {@link SystemdStatusProvider}, tagged by {@code provider}, the simple name
+ *   of its class, suffixed with {@code -2}, {@code -3} and so on for further providers of the same name, in registration order</li>
+ *   <li>{@code jsystemd.health.indicator}: timer of the evaluations of each health indicator, tagged by {@code indicator}</li>
+ *   <li>{@code jsystemd.startup.phase}: time spent in each phase of the application startup sequence, tagged by {@code phase}</li>
+ * </ul>
+ *
+ * <p>Meters are backed by counters kept by jsystemd itself, so binding adds no cost to the measured paths. Status providers added after binding are
+ * registered on the next status update. Lambdas and anonymous classes are named after the class that declares them, and proxies after the class they
+ * extend, so that tags are stable across runs.
+ *
+ * @author Joao Silva
+ * @see SystemdNotify#counters()
+ * @see Systemd#getStatusTimers()
+ */
+public class SystemdMeterBinder implements MeterBinder, SystemdWatchdogListener, SystemdStatusListener {
+
+  @NonNull
+  private final Systemd systemd;
+  @Nullable
+  private final SystemdActuatorHealthProvider healthProvider;
+  @Nullable
+  private final SystemdApplicationRunStatusProvider runStatusProvider;
+  @NonNull
+  private final List<MeterRegistry> registries = new CopyOnWriteArrayList<>();
+  // guarded by this, the tags given to the status providers bound so far, and how many providers share each name
+  @NonNull
+  private final Map<SystemdStatusProvider, String> providerTags = new HashMap<>();
+  @NonNull
+  private final Map<String, Integer> providerNames = new HashMap<>();
+  private volatile long interval;
+  private volatile long jitter;
+  private volatile double lateness;
+
+  /**
+   * Creates a new instance exposing the meters of the provided {@link Systemd}.
+   *
+   * @param systemd the systemd integration to expose
+   * @param healthProvider the actuator health provider whose indicators are timed, or <code>null</code> if there is none
+   * @param runStatusProvider the provider of the startup sequence state, or <code>null</code> if there is none
+   */
+  public SystemdMeterBinder(@NonNull Systemd systemd, @Nullable SystemdActuatorHealthProvider healthProvider,
+      @Nullable SystemdApplicationRunStatusProvider runStatusProvider) {
+    this.systemd = requireNonNull(systemd, "Systemd must not be null");
+    this.healthProvider = healthProvider;
+    this.runStatusProvider = runStatusProvider;
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    registries.add(registry);
+    for (Map.Entry<String, SystemdNotify.Counter> entry : SystemdNotify.counters().entrySet()) {
+      SystemdNotify.Counter counter = entry.getValue();
+      FunctionTimer.builder("jsystemd.notify", counter, SystemdNotify.Counter::getSent, SystemdNotify.Counter::getNanos, TimeUnit.NANOSECONDS)
+          .description("Notifications sent to systemd")
+          .tag("type", entry.getKey())
+          .register(registry);
+      FunctionCounter.builder("jsystemd.notify.failures", counter, SystemdNotify.Counter::getFailed)
+          .description("Notifications sd_notify failed to send")
+          .tag("type", entry.getKey())
+          .register(registry);
+    }
+
+    TimeGauge.builder("jsystemd.watchdog.interval", this, TimeUnit.NANOSECONDS, binder -> binder.interval)
+        .description("Time between the last two heartbeats sent to the watchdog")
+        .register(registry);
+    TimeGauge.builder("jsystemd.watchdog.jitter", this, TimeUnit.NANOSECONDS, binder -> binder.jitter)
+        .description("Difference between the last two watchdog heartbeat intervals")
+        .register(registry);
+    Gauge.builder("jsystemd.watchdog.lateness", this, binder -> binder.lateness)
+        .description("Time since the last heartbeat as a fraction of the watchdog timeout")
+        .register(registry);
+
+    bindStatusTimers(registry);
+    if (healthProvider != null) {
+      for (Map.Entry<String, SystemdTimer> entry : healthProvider.getTimers().entrySet()) {
+        timer("jsystemd.health.indicator", entry.getValue())
+            .description("Evaluations of the health indicator by the systemd watchdog")
+            .tag("indicator", entry.getKey())
+            .register(registry);
+      }
+    }
+    if (runStatusProvider != null) {
+      SystemdApplicationRunStatusProvider provider = runStatusProvider;
+      for (ApplicationState state : ApplicationState.values()) {
+        TimeGauge.builder("jsystemd.startup.phase", provider, TimeUnit.NANOSECONDS, p -> phaseDuration(p, state))
+            .description("Time spent in the phase of the application startup sequence")
+            .tag("phase", state.name().toLowerCase(Locale.ROOT))
+            .register(registry);
+      }
+    }
+  }
+
+  private static FunctionTimer.@NonNull Builder<SystemdTimer> timer(@NonNull String name, @NonNull SystemdTimer timer) {
+    return FunctionTimer.builder(name, timer, SystemdTimer::getCount, SystemdTimer::getNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Binds the timers of the status providers not bound yet to every registry, and those of the providers already bound to the registry provided, if any.
+   *
+   * <p>Providers are visited in registration order, so that the tags given to providers sharing a name do not depend on the order of the timers.
+   *
+   * @param registry the registry being bound, or <code>null</code> if only new providers are to be bound
+   */
+  private synchronized void bindStatusTimers(@Nullable MeterRegistry registry) {
+    Map<SystemdStatusProvider, SystemdTimer> timers = systemd.getStatusTimers();
+    for (SystemdStatusProvider provider : systemd.getStatusProviders()) {
+      SystemdTimer timer = timers.get(provider);
+      if (timer == null) {
+        continue;
+      }
+      String tag = providerTags.get(provider);
+      if (tag == null) {
+        tag = providerTag(provider);
+        providerTags.put(provider, tag);
+        for (MeterRegistry target : registries) {
+          bindStatusTimer(target, tag, timer);
+        }
+      } else if (registry != null) {
+        bindStatusTimer(registry, tag, timer);
+      }
+    }
+  }
+
+  private @NonNull String providerTag(@NonNull SystemdStatusProvider provider) {
+    String name = providerName(provider.getClass());
+    int count = providerNames.merge(name, 1, Integer::sum);
+    return count == 1 ? name : name + "-" + count;
+  }
+
+  /**
+   * Returns the name of the class of a status provider, as used in tags.
+   *
+   * <p>This is the simple name of the class, except for lambdas and proxies, named after the class before the {@code $$} in their generated name, and
+   * anonymous classes, named after their enclosing class.
+   *
+   * @param type the class of the provider
+   * @return the name of the class
+   */
+  static @NonNull String providerName(@NonNull Class<?> type) {
+    String name = type.getName();
+    int generated = name.indexOf("$$");
+    if (generated > 0) {
+      name = name.substring(0, generated);
+    }
+    name = name.replaceAll("(\\$\\d+)+$", "");
+    return name.substring(Math.max(name.lastIndexOf('.'), name.lastIndexOf('$')) + 1);
+  }
+
+  private static void bindStatusTimer(@NonNull MeterRegistry registry, @NonNull String tag, @NonNull SystemdTimer timer) {
+    timer("jsystemd.status.provider", timer)
+        .description("Calls to the status provider")
+        .tag("provider", tag)
+        .register(registry);
+  }
+
+  private static double phaseDuration(@NonNull SystemdApplicationRunStatusProvider provider, @NonNull ApplicationState state) {
+    Duration duration = provider.getPhaseDurations().get(state);
+    return duration == null ? 0 : duration.toNanos();
+  }
+
+  @Override
+  public void statusUpdated(@NonNull String status) {
+    bindStatusTimers(null);
+  }
+
+  @Override
+  public void heartbeat(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    long interval = sinceLast.toNanos();
+    if (this.interval != 0) {
+      jitter = Math.abs(interval - this.interval);
+    }
+    this.interval = interval;
+    record(sinceLast, timeout);
+  }
+
+  @Override
+  public void suppressed(@NonNull Health health, @NonNull Duration sinceLast, @NonNull Duration timeout) {
+    record(sinceLast, timeout);
+  }
+
+  private void record(@NonNull Duration sinceLast, @NonNull Duration timeout) {
+    lateness = timeout.isZero() ? 0 : (double) sinceLast.toNanos() / timeout.toNanos();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the export of metrics to the textfile collector of the Prometheus node exporter.
+ *
+ * @author Joao Silva
+ * @see SystemdPrometheusExporter
+ */
+@ConfigurationProperties(prefix = "systemd.prometheus")
+public class SystemdPrometheusProperties {
+
+  SystemdPrometheusProperties() {
+  }
+
+  /**
+   * Enable the export of metrics on every status update.
+   */
+  private boolean enabled;
+
+  /**
+   * Directory read by the textfile collector.
+   */
+  @NonNull
+  private String directory = "/var/lib/prometheus/node-exporter";
+
+  /**
+   * Name of the file, which must be unique among the services of the host, and end in {@code .prom}.
+   */
+  @NonNull
+  private String fileName = "jsystemd.prom";
+
+  /**
+   * Prefix of the names of the metrics.
+   */
+  @NonNull
+  private String prefix = "jsystemd";
+
+  /**
+   * Labels added to every metric, indexed by label name.
+   */
+  @NonNull
+  private Map<String, String> labels = new LinkedHashMap<>();
+
+  /**
+   * Check if the export of metrics is enabled.
+   *
+   * @return <code>true</code> if the export of metrics is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable the export of metrics on every status update.
+   *
+   * @param enabled <code>true</code> to enable the export of metrics
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Check the directory read by the textfile collector.
+   *
+   * @return the directory read by the textfile collector
+   */
+  public @NonNull String getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Set the directory read by the textfile collector.
+   *
+   * @param directory the directory read by the textfile collector
+   */
+  public void setDirectory(@NonNull String directory) {
+    this.directory = Objects.requireNonNull(directory, "Directory must not be null");
+  }
+
+  /**
+   * Check the name of the file.
+   *
+   * @return the name of the file
+   */
+  public @NonNull String getFileName() {
+    return fileName;
+  }
+
+  /**
+   * Set the name of the file, which must be unique among the services of the host, and end in {@code .prom}.
+   *
+   * @param fileName the name of the file
+   */
+  public void setFileName(@NonNull String fileName) {
+    this.fileName = Objects.requireNonNull(fileName, "File name must not be null");
+  }
+
+  /**
+   * Check the prefix of the names of the metrics.
+   *
+   * @return the prefix of the names of the metrics
+   */
+  public @NonNull String getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * Set the prefix of the names of the metrics.
+   *
+   * @param prefix the prefix of the names of the metrics
+   */
+  public void setPrefix(@NonNull String prefix) {
+    this.prefix = Objects.requireNonNull(prefix, "Prefix must not be null");
+  }
+
+  /**
+   * Check the labels added to every metric.
+   *
+   * @return the label values, indexed by label name
+   */
+  public @NonNull Map<String, String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * Set the labels added to every metric, such as {@code service: orders}.
+   *
+   * @param labels the label values, indexed by label name
+   */
+  public void setLabels(@NonNull Map<String, String> labels) {
+    this.labels = Objects.requireNonNull(labels, "Labels must not be null");
+  }
+}
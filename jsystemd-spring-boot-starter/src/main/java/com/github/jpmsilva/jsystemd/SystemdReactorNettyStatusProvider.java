@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.Order;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} that provides information regarding Reactor Netty servers and connection pools.
+ *
+ * <p>Servers are instrumented with {@link #customize(HttpServer)}, which the Spring Boot starter does as the web server is created. The status reports the
+ * open server connections, and the tasks pending in the event loops serving them, in the form {@code netty: 12 connections, 0 pending tasks}. Pending
+ * tasks that keep growing are the sign of event loops being blocked.
+ *
+ * <p>Connection pools of Reactor Netty clients are reported when this provider is set as their {@link ConnectionProvider.MeterRegistrar}, in the form
+ * {@code netty client: 5/8, 0 waiting}, meaning that 5 of the 8 connections allocated across the pools are acquired, and no acquisition is waiting for a
+ * connection:
+ *
+ * <pre>
+ * ConnectionProvider.builder("http").metrics(true, () -&gt; provider).build();
+ * </pre>
+ *
+ * <p>All values are read from counters kept by the connections and the pools themselves.
+ *
+ * @author Joao Silva
+ * @see HttpServer
+ */
+@Order(1000)
+public class SystemdReactorNettyStatusProvider implements SystemdStatusProvider, ConnectionProvider.MeterRegistrar {
+
+  @NonNull
+  private final LongAdder connections = new LongAdder();
+  @NonNull
+  private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+  @Nullable
+  private volatile EventExecutorGroup eventLoops;
+
+  /**
+   * Create a new SystemdReactorNettyStatusProvider.
+   */
+  public SystemdReactorNettyStatusProvider() {
+  }
+
+  /**
+   * Instruments a server, so that its connections and event loops are reported.
+   *
+   * @param server the server to instrument
+   * @return the instrumented server
+   */
+  public @NonNull HttpServer customize(@NonNull HttpServer server) {
+    return requireNonNull(server, "Server must not be null").doOnChannelInit(this::channelInitialized);
+  }
+
+  @SuppressWarnings({"PMD.UnusedFormalParameter", "unused"})
+  private void channelInitialized(@NonNull ConnectionObserver observer, @NonNull Channel channel, @Nullable SocketAddress remoteAddress) {
+    connections.increment();
+    channel.closeFuture().addListener(future -> connections.decrement());
+    if (eventLoops == null) {
+      eventLoops = channel.eventLoop().parent();
+    }
+  }
+
+  @Override
+  public void registerMetrics(@NonNull String poolName, @NonNull String id, @NonNull SocketAddress remoteAddress, @NonNull ConnectionPoolMetrics metrics) {
+    pools.put(id, metrics);
+  }
+
+  @Override
+  public void deRegisterMetrics(@NonNull String poolName, @NonNull String id, @NonNull SocketAddress remoteAddress) {
+    pools.remove(id);
+  }
+
+  @Override
+  public @NonNull String status() {
+    StringJoiner joiner = new StringJoiner(", ");
+    if (eventLoops != null) {
+      joiner.add(String.format("netty: %d connections, %d pending tasks", getConnections(), getPendingTasks()));
+    }
+    if (!pools.isEmpty()) {
+      joiner.add(String.format("netty client: %d/%d, %d waiting", getAcquiredConnections(), sum(ConnectionPoolMetrics::allocatedSize),
+          getPendingAcquires()));
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Returns the number of open server connections.
+   *
+   * @return the number of open server connections
+   */
+  public long getConnections() {
+    return connections.sum();
+  }
+
+  /**
+   * Returns the number of tasks pending in the event loops of the servers.
+   *
+   * @return the number of pending tasks
+   */
+  public long getPendingTasks() {
+    EventExecutorGroup group = eventLoops;
+    if (group == null) {
+      return 0;
+    }
+    long pending = 0;
+    for (EventExecutor executor : group) {
+      if (executor instanceof SingleThreadEventExecutor eventLoop) {
+        pending += eventLoop.pendingTasks();
+      }
+    }
+    return pending;
+  }
+
+  /**
+   * Returns the number of connections acquired, across all client connection pools.
+   *
+   * @return the number of connections acquired
+   */
+  public int getAcquiredConnections() {
+    return sum(ConnectionPoolMetrics::acquiredSize);
+  }
+
+  /**
+   * Returns the number of acquisitions waiting for a connection, across all client connection pools.
+   *
+   * @return the number of acquisitions waiting
+   */
+  public int getPendingAcquires() {
+    return sum(ConnectionPoolMetrics::pendingAcquireSize);
+  }
+
+  private int sum(@NonNull ToIntFunction<ConnectionPoolMetrics> value) {
+    int sum = 0;
+    for (ConnectionPoolMetrics pool : pools.values()) {
+      sum += value.applyAsInt(pool);
+    }
+    return sum;
+  }
+}
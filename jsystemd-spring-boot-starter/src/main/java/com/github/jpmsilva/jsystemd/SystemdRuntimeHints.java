@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * {@link RuntimeHintsRegistrar} that registers the reflection the starter relies on outside of the application context, so that it also works in GraalVM
+ * native images.
+ *
+ * <p>The reflection used by the core module, and the notification path to systemd, are covered by the reachability metadata that the core module ships.
+ *
+ * @author Joao Silva
+ * @see SystemdSpringApplicationRunListener
+ */
+class SystemdRuntimeHints implements RuntimeHintsRegistrar {
+
+  @Override
+  public void registerHints(@NonNull RuntimeHints hints, @Nullable ClassLoader classLoader) {
+    // instantiated by SpringApplication from spring.factories
+    hints.reflection().registerType(SystemdSpringApplicationRunListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    // Connector.setProperty("useInheritedChannel") goes through IntrospectionUtils, from the protocol handler down to its endpoint
+    hints.reflection().registerTypeIfPresent(classLoader, "org.apache.coyote.AbstractProtocol",
+        type -> type.withMethod("setProperty", TypeReference.listOf(String.class, String.class), ExecutableMode.INVOKE));
+    hints.reflection().registerTypeIfPresent(classLoader, "org.apache.tomcat.util.net.NioEndpoint",
+        type -> type.withMethod("setUseInheritedChannel", TypeReference.listOf(boolean.class), ExecutableMode.INVOKE));
+    // SystemdTomcatStatusProvider reads the open connections from the endpoint of the protocol handler
+    hints.reflection().registerTypeIfPresent(classLoader, "org.apache.coyote.AbstractProtocol",
+        type -> type.withMethod("getEndpoint", TypeReference.listOf(), ExecutableMode.INVOKE));
+  }
+}
@@ -25,6 +25,7 @@ import com.github.jpmsilva.jsystemd.SystemdApplicationRunStatusProvider.Applicat
 import java.time.Duration;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.aot.AotDetector;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.SpringApplicationRunListener;
@@ -36,6 +37,9 @@ import org.springframework.core.env.ConfigurableEnvironment;
  * A Spring Application Run Listener that sets up a {@link SystemdApplicationRunStatusProvider} to provide status updates of the current phase of the
  * application life cycle.
  *
+ * <p>Outside systemd, when running an application context processed ahead of time, such as in a native image, registers a {@link Systemd} instance with no
+ * periodic notifications, for the integration that such contexts always contain.
+ *
  * @author Joao Silva
  * @see SpringApplicationRunListener
  */
@@ -96,6 +100,12 @@ public class SystemdSpringApplicationRunListener implements SpringApplicationRun
       }
       beanFactory.registerSingleton("systemdApplicationContextStatusProvider",
           new SystemdApplicationContextStatusProvider(requireNonNull(systemd), applicationId, context.getId(), beanFactory));
+    } else if (AotDetector.useGeneratedArtifacts()) {
+      // contexts processed ahead of time always contain the integration, see OnSystemdCondition, which stays inert as no notifications can be sent
+      ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+      if (!beanFactory.containsSingleton(SYSTEMD_BEAN_NAME)) {
+        beanFactory.registerSingleton(SYSTEMD_BEAN_NAME, Systemd.builder().build());
+      }
     }
   }
 
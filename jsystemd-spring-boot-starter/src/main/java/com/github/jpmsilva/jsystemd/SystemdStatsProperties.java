@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the memory-mapped statistics file.
+ *
+ * @author Joao Silva
+ * @see SystemdStats
+ */
+@ConfigurationProperties(prefix = "systemd.stats")
+public class SystemdStatsProperties {
+
+  SystemdStatsProperties() {
+  }
+
+  /**
+   * Enable the memory-mapped statistics file.
+   */
+  private boolean enabled;
+
+  /**
+   * Path of the statistics file. If omitted {@code $RUNTIME_DIRECTORY/jsystemd.stats} is used.
+   */
+  @Nullable
+  private String path;
+
+  /**
+   * Period of the updates of the statistics file. This parameter is provided in milliseconds.
+   */
+  private long periodMs = 1000;
+
+  /**
+   * Maximum number of gauges in the statistics file.
+   */
+  private int capacity = 64;
+
+  /**
+   * Check if the memory-mapped statistics file is enabled.
+   *
+   * @return <code>true</code> if the statistics file is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable the memory-mapped statistics file.
+   *
+   * @param enabled <code>true</code> to enable the statistics file
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Check the path of the statistics file.
+   *
+   * @return the path of the statistics file, or <code>null</code> to use the default
+   */
+  public @Nullable String getPath() {
+    return path;
+  }
+
+  /**
+   * Set the path of the statistics file. If omitted {@code $RUNTIME_DIRECTORY/jsystemd.stats} is used.
+   *
+   * @param path the path of the statistics file
+   */
+  public void setPath(@Nullable String path) {
+    this.path = path;
+  }
+
+  /**
+   * Check the period of the updates of the statistics file, in milliseconds.
+   *
+   * @return the period of the updates
+   */
+  public long getPeriodMs() {
+    return periodMs;
+  }
+
+  /**
+   * Set the period of the updates of the statistics file, in milliseconds.
+   *
+   * @param periodMs the period of the updates
+   */
+  public void setPeriodMs(long periodMs) {
+    this.periodMs = periodMs;
+  }
+
+  /**
+   * Check the maximum number of gauges in the statistics file.
+   *
+   * @return the maximum number of gauges
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Set the maximum number of gauges in the statistics file.
+   *
+   * @param capacity the maximum number of gauges
+   */
+  public void setCapacity(int capacity) {
+    this.capacity = capacity;
+  }
+}
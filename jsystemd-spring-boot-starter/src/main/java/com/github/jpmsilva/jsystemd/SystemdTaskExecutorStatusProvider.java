@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Implementation of {@link SystemdStatusProvider} that provides information regarding the saturation of Spring task executors and schedulers.
+ *
+ * <p>Executors are reported in the form {@code applicationTaskExecutor: 8/8, 120 queued, 2.5 rejected/s}, meaning that 8 of the 8 threads of the pool are
+ * running tasks, 120 tasks are queued waiting for a thread, and 2.5 tasks per second were rejected since the previous status update. Schedulers are reported
+ * in the form {@code taskScheduler: 1/1, 2 overdue}, where overdue tasks are periodic tasks whose next run is already late, because a previous run overran
+ * its period or no thread was free to run them. The queued, rejected and overdue parts are omitted while zero.
+ *
+ * <p>Overdue tasks are found by peeking at the head of the scheduler queue, the task due first, so that a scheduler keeping up costs no more than that. Only
+ * when the head is late is the queue iterated to count the late tasks, which locks it and copies its contents.
+ *
+ * <p>Counts are read from the underlying {@link ThreadPoolExecutor}. Rejected tasks are counted by wrapping its {@link RejectedExecutionHandler}, which
+ * still decides what happens to the rejected tasks.
+ *
+ * @author Joao Silva
+ * @see ThreadPoolTaskExecutor
+ * @see ThreadPoolTaskScheduler
+ */
+@Order(1050)
+public class SystemdTaskExecutorStatusProvider implements SystemdStatusProvider {
+
+  @NonNull
+  private final List<ExecutorStatus> executors = new CopyOnWriteArrayList<>();
+
+  /**
+   * Create a new SystemdTaskExecutorStatusProvider.
+   */
+  public SystemdTaskExecutorStatusProvider() {
+  }
+
+  /**
+   * Registers a task executor to report the status of. The executor must be initialized.
+   *
+   * @param name the name of the executor, such as the name of its bean
+   * @param executor the executor to report the status of
+   */
+  public void addExecutor(@NonNull String name, @NonNull ThreadPoolTaskExecutor executor) {
+    requireNonNull(executor, "Executor must not be null");
+    executors.add(new ExecutorStatus(requireNonNull(name, "Name must not be null"), executor.getThreadPoolExecutor(), false));
+  }
+
+  /**
+   * Registers a task scheduler to report the status of. The scheduler must be initialized.
+   *
+   * @param name the name of the scheduler, such as the name of its bean
+   * @param scheduler the scheduler to report the status of
+   */
+  public void addScheduler(@NonNull String name, @NonNull ThreadPoolTaskScheduler scheduler) {
+    requireNonNull(scheduler, "Scheduler must not be null");
+    executors.add(new ExecutorStatus(requireNonNull(name, "Name must not be null"), scheduler.getScheduledThreadPoolExecutor(), true));
+  }
+
+  @Override
+  public synchronized @NonNull String status() {
+    long now = System.nanoTime();
+    StringJoiner joiner = new StringJoiner(", ");
+    for (ExecutorStatus status : executors) {
+      if (!status.executor.isShutdown()) {
+        joiner.add(status.describe(now));
+      }
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Returns the number of threads running tasks, across all executors and schedulers.
+   *
+   * @return the number of active threads
+   */
+  public int getActiveCount() {
+    int active = 0;
+    for (ExecutorStatus status : executors) {
+      active += status.executor.getActiveCount();
+    }
+    return active;
+  }
+
+  /**
+   * Returns the number of tasks queued waiting for a thread, across all executors.
+   *
+   * @return the number of queued tasks
+   */
+  public int getQueueSize() {
+    int queued = 0;
+    for (ExecutorStatus status : executors) {
+      if (!status.scheduler) {
+        queued += status.executor.getQueue().size();
+      }
+    }
+    return queued;
+  }
+
+  /**
+   * Returns the number of tasks rejected since the executors and schedulers were registered.
+   *
+   * @return the number of rejected tasks
+   */
+  public long getRejectedCount() {
+    long rejected = 0;
+    for (ExecutorStatus status : executors) {
+      rejected += status.rejected.sum();
+    }
+    return rejected;
+  }
+
+  /**
+   * Returns the number of periodic tasks whose next run is late, across all schedulers.
+   *
+   * @return the number of overdue tasks
+   */
+  public int getOverdueCount() {
+    int overdue = 0;
+    for (ExecutorStatus status : executors) {
+      if (status.scheduler) {
+        overdue += status.overdue();
+      }
+    }
+    return overdue;
+  }
+
+  private static final class ExecutorStatus {
+
+    @NonNull
+    private final String name;
+    @NonNull
+    private final ThreadPoolExecutor executor;
+    private final boolean scheduler;
+    @NonNull
+    private final LongAdder rejected = new LongAdder();
+    private long sampledRejected;
+    private long sampleTime = System.nanoTime();
+
+    private ExecutorStatus(@NonNull String name, @NonNull ThreadPoolExecutor executor, boolean scheduler) {
+      this.name = name;
+      this.executor = executor;
+      this.scheduler = scheduler;
+      RejectedExecutionHandler handler = executor.getRejectedExecutionHandler();
+      executor.setRejectedExecutionHandler((task, pool) -> {
+        rejected.increment();
+        handler.rejectedExecution(task, pool);
+      });
+    }
+
+    private int overdue() {
+      // the queue is ordered by delay, so peeking at its head avoids iterating, which locks the queue and copies it, unless a task is already late
+      if (!(executor.getQueue().peek() instanceof RunnableScheduledFuture<?> head) || head.getDelay(TimeUnit.NANOSECONDS) >= 0) {
+        return 0;
+      }
+      int overdue = 0;
+      for (Runnable task : executor.getQueue()) {
+        if (task instanceof RunnableScheduledFuture<?> future && future.isPeriodic() && future.getDelay(TimeUnit.NANOSECONDS) < 0) {
+          overdue++;
+        }
+      }
+      return overdue;
+    }
+
+    private @NonNull String describe(long now) {
+      StringBuilder builder = new StringBuilder(name).append(String.format(": %d/%d", executor.getActiveCount(), executor.getPoolSize()));
+      if (scheduler) {
+        int overdue = overdue();
+        if (overdue > 0) {
+          builder.append(String.format(", %d overdue", overdue));
+        }
+      } else {
+        int queued = executor.getQueue().size();
+        if (queued > 0) {
+          builder.append(String.format(", %d queued", queued));
+        }
+      }
+      long total = rejected.sum();
+      long elapsed = now - sampleTime;
+      if (total > sampledRejected && elapsed > 0) {
+        builder.append(String.format(", %.1f rejected/s", (total - sampledRejected) * 1e9 / elapsed));
+      }
+      sampledRejected = total;
+      sampleTime = now;
+      return builder.toString();
+    }
+  }
+}
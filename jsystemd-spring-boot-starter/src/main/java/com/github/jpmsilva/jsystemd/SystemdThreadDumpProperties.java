@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the thread dumps written when the systemd watchdog heartbeat is suppressed or late.
+ *
+ * @author Joao Silva
+ * @see SystemdThreadDumper
+ */
+@ConfigurationProperties(prefix = "systemd.thread-dump")
+public class SystemdThreadDumpProperties {
+
+  SystemdThreadDumpProperties() {
+  }
+
+  /**
+   * Enable thread dumps on suppressed or late watchdog heartbeats.
+   */
+  private boolean enabled;
+
+  /**
+   * Maximum number of thread dumps kept in the directory.
+   */
+  private int maxFiles = 10;
+
+  /**
+   * Minimum interval between two thread dumps taken on late heartbeats. This parameter is provided in milliseconds.
+   */
+  private long minIntervalMs = 300_000;
+
+  /**
+   * Directory where thread dumps are written. If omitted {@code $LOGS_DIRECTORY} is used, or the temporary directory if not set.
+   */
+  @Nullable
+  private String directory;
+
+  /**
+   * Check if thread dumps on suppressed or late watchdog heartbeats are enabled.
+   *
+   * @return <code>true</code> if thread dumps are enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable thread dumps on suppressed or late watchdog heartbeats.
+   *
+   * @param enabled <code>true</code> to enable thread dumps
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Check the maximum number of thread dumps kept in the directory.
+   *
+   * @return the maximum number of thread dumps kept
+   */
+  public int getMaxFiles() {
+    return maxFiles;
+  }
+
+  /**
+   * Set the maximum number of thread dumps kept in the directory.
+   *
+   * @param maxFiles the maximum number of thread dumps kept
+   */
+  public void setMaxFiles(int maxFiles) {
+    this.maxFiles = maxFiles;
+  }
+
+  /**
+   * Check the minimum interval between two thread dumps taken on late heartbeats, in milliseconds.
+   *
+   * @return the minimum interval between two thread dumps
+   */
+  public long getMinIntervalMs() {
+    return minIntervalMs;
+  }
+
+  /**
+   * Set the minimum interval between two thread dumps taken on late heartbeats, in milliseconds.
+   *
+   * @param minIntervalMs the minimum interval between two thread dumps
+   */
+  public void setMinIntervalMs(long minIntervalMs) {
+    this.minIntervalMs = minIntervalMs;
+  }
+
+  /**
+   * Check the directory where thread dumps are written.
+   *
+   * @return the directory where thread dumps are written, or <code>null</code> to use the default
+   */
+  public @Nullable String getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Set the directory where thread dumps are written. If omitted {@code $LOGS_DIRECTORY} is used, or the temporary directory if not set.
+   *
+   * @param directory the directory where thread dumps are written
+   */
+  public void setDirectory(@Nullable String directory) {
+    this.directory = directory;
+  }
+}
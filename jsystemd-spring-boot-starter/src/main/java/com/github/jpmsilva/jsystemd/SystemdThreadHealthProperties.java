@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties class for the deadlock and thread starvation health integration with the systemd watchdog.
+ *
+ * @author Joao Silva
+ * @see SystemdThreadHealthProvider
+ */
+@ConfigurationProperties(prefix = "systemd.thread-health")
+public class SystemdThreadHealthProperties {
+
+  SystemdThreadHealthProperties() {
+  }
+
+  /**
+   * Enable integration between deadlock and thread starvation detection and systemd watchdog.
+   */
+  private boolean enabled;
+
+  /**
+   * Minimum interval between two deadlock and thread state scans. This parameter is provided in milliseconds.
+   */
+  private long minIntervalMs = 10_000;
+
+  /**
+   * Fraction of blocked threads in a group at which the application is considered unhealthy.
+   */
+  private double blockedRatio = 0.9;
+
+  /**
+   * Minimum period during which a saturated executor must complete no task to be considered starved. This parameter is provided in milliseconds.
+   */
+  private long stallPeriodMs = 30_000;
+
+  /**
+   * Groups of threads to inspect, as regular expressions matching thread names indexed by group name.
+   */
+  @NonNull
+  private Map<String, String> threads = new LinkedHashMap<>();
+
+  /**
+   * Check if the integration between deadlock and thread starvation detection and systemd watchdog is enabled.
+   *
+   * @return <code>true</code> if the integration is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable integration between deadlock and thread starvation detection and systemd watchdog.
+   *
+   * @param enabled <code>true</code> to enable the integration
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Check the minimum interval between two deadlock and thread state scans, in milliseconds.
+   *
+   * @return the minimum interval between two scans
+   */
+  public long getMinIntervalMs() {
+    return minIntervalMs;
+  }
+
+  /**
+   * Set the minimum interval between two deadlock and thread state scans, in milliseconds.
+   *
+   * @param minIntervalMs the minimum interval between two scans
+   */
+  public void setMinIntervalMs(long minIntervalMs) {
+    this.minIntervalMs = minIntervalMs;
+  }
+
+  /**
+   * Check the fraction of blocked threads in a group at which the application is considered unhealthy.
+   *
+   * @return the fraction of blocked threads
+   */
+  public double getBlockedRatio() {
+    return blockedRatio;
+  }
+
+  /**
+   * Set the fraction of blocked threads in a group at which the application is considered unhealthy.
+   *
+   * @param blockedRatio the fraction of blocked threads
+   */
+  public void setBlockedRatio(double blockedRatio) {
+    this.blockedRatio = blockedRatio;
+  }
+
+  /**
+   * Check the minimum period during which a saturated executor must complete no task to be considered starved, in milliseconds.
+   *
+   * @return the minimum period without progress
+   */
+  public long getStallPeriodMs() {
+    return stallPeriodMs;
+  }
+
+  /**
+   * Set the minimum period during which a saturated executor must complete no task to be considered starved, in milliseconds.
+   *
+   * @param stallPeriodMs the minimum period without progress
+   */
+  public void setStallPeriodMs(long stallPeriodMs) {
+    this.stallPeriodMs = stallPeriodMs;
+  }
+
+  /**
+   * Check the groups of threads to inspect.
+   *
+   * @return the regular expressions matching thread names, indexed by group name
+   */
+  public @NonNull Map<String, String> getThreads() {
+    return threads;
+  }
+
+  /**
+   * Set the groups of threads to inspect, such as {@code tomcat: http-nio-\d+-exec-\d+}.
+   *
+   * @param threads the regular expressions matching thread names, indexed by group name
+   */
+  public void setThreads(@NonNull Map<String, String> threads) {
+    this.threads = Objects.requireNonNull(threads, "Threads must not be null");
+  }
+}
@@ -17,86 +17,411 @@
 package com.github.jpmsilva.jsystemd;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import java.util.LinkedList;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
-import javax.management.MBeanAttributeInfo;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.Attribute;
+import javax.management.JMException;
 import javax.management.MBeanServer;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
 import javax.management.ObjectName;
-import org.apache.tomcat.util.modeler.Registry;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Valve;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.net.AbstractEndpoint;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.springframework.core.annotation.Order;
 
 /**
- * Implementation of {@link SystemdStatusProvider} that provides information regarding Tomcat thread pools.
+ * Implementation of {@link SystemdStatusProvider} that provides information regarding Tomcat connectors: the usage of their thread pools, and the request
+ * throughput, error rate and mean processing time since the previous status update.
+ *
+ * <p>Connectors are registered with {@link #addConnector(Connector)}, which the Spring Boot starter does as the web server is created. The usage of the
+ * thread pools is read straight from their executors.
+ *
+ * <p>When no connector is registered, as when this provider is created outside of the starter, the usage of the thread pools is read from the Tomcat
+ * {@code ThreadPool} MBeans instead, in the form {@code http-nio-8080: 8/10}, as it was before connectors could be registered. Those MBeans are only
+ * available when the Tomcat MBean registry is enabled, and do not provide request statistics nor requests in flight.
+ *
+ * <p>Connectors running requests on virtual threads, with {@code spring.threads.virtual.enabled=true}, have no thread pool. Their usage is reported instead
+ * as the number of requests in flight, in the form {@code http-nio-8080: 1250 in flight}, counted by the {@link Valve} returned by {@link #getValve()},
+ * which must be added to the Tomcat engine. Requests are counted while the valve is started, along with the engine.
+ *
+ * <p>Request statistics are read from the {@code GlobalRequestProcessor} MBeans, so they are only
+ * available when the Tomcat MBean registry is enabled, with {@code server.tomcat.mbeanregistry.enabled=true}. The names of those MBeans are resolved once,
+ * and resolved again only when Tomcat MBeans are registered or unregistered; each status update then reads their attributes in a single call.
+ *
+ * <p>As a {@link SystemdIdleMonitor.Source}, Tomcat is busy while any registered connector has open connections or requests in flight, and its last activity
+ * is the start or end of the last request seen by the {@link #getValve() valve}. Open connections are read from the endpoints of the connectors, as the
+ * connection count that Tomcat exposes also counts the connection its acceptor waits for, and is not maintained without a connection limit. If they cannot be
+ * read, Tomcat is always considered busy.
+ *
+ * <p>MBeans are looked up in the platform MBean server, rather than through the Tomcat registry, so that creating this provider does not prevent Spring Boot
+ * from disabling the registry.
  *
  * @author Joao Silva
- * @see Registry
+ * @see Connector
  */
 @Order(1000)
-public class SystemdTomcatStatusProvider implements SystemdStatusProvider {
+public class SystemdTomcatStatusProvider implements SystemdStatusProvider, SystemdIdleMonitor.Source, AutoCloseable {
 
   private static final Logger logger = getLogger(lookup().lookupClass());
 
+  private static final String DOMAIN = "Tomcat";
+  private static final String[] REQUEST_PROCESSOR_ATTRIBUTES = {"requestCount", "errorCount", "processingTime"};
+  private static final String[] THREAD_POOL_ATTRIBUTES = {"name", "currentThreadsBusy", "currentThreadCount"};
+  @Nullable
+  private static final Method getEndpoint = findGetEndpoint();
+
   @NonNull
   private final MBeanServer mbeanServer;
+  @NonNull
+  private final NotificationListener registrationListener = this::registrationChanged;
+  @NonNull
+  private final List<ConnectorStatus> connectors = new CopyOnWriteArrayList<>();
+  @NonNull
+  private final Map<Connector, ConnectorStatus> byConnector = new ConcurrentHashMap<>();
+  @NonNull
+  private final InFlightValve valve = new InFlightValve();
+  // the thread pool MBeans, resolved only while no connector is registered
+  @NonNull
+  private volatile List<ObjectName> threadPools = List.of();
+  private final boolean listening;
+  private volatile boolean stale = true;
 
   /**
    * Create a new SystemdTomcatStatusProvider.
    */
   public SystemdTomcatStatusProvider() {
-    mbeanServer = Objects.requireNonNull(Registry.getRegistry(null, null).getMBeanServer(), "No usable MBeanServer instance");
+    mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    boolean listening = true;
+    try {
+      mbeanServer.addNotificationListener(MBeanServerDelegate.DELEGATE_NAME, registrationListener, null, null);
+    } catch (JMException e) {
+      logger.warn("Could not listen to MBean registrations, request processors will be resolved on every status update", e);
+      listening = false;
+    }
+    this.listening = listening;
   }
 
-  @Override
-  public @NonNull String status() {
-    List<ConnectorStatus> statuses = new LinkedList<>();
-    Set<ObjectName> objectNames;
+  private static @Nullable Method findGetEndpoint() {
     try {
-      objectNames = mbeanServer.queryNames(new ObjectName("Tomcat:type=ThreadPool,*"), null);
-    } catch (Exception e) {
-      logger.warn("Could not get request processors from mBean server", e);
-      return "";
+      Method method = AbstractProtocol.class.getDeclaredMethod("getEndpoint");
+      method.setAccessible(true);
+      return method;
+    } catch (NoSuchMethodException | RuntimeException e) {
+      logger.debug("Could not access Tomcat endpoints, open connections will not be counted", e);
+      return null;
     }
+  }
+
+  @SuppressWarnings({"PMD.UnusedFormalParameter", "unused"})
+  private void registrationChanged(@NonNull Notification notification, @Nullable Object handback) {
+    if (notification instanceof MBeanServerNotification registration && DOMAIN.equals(registration.getMBeanName().getDomain())) {
+      stale = true;
+    }
+  }
 
-    for (ObjectName objectName : objectNames) {
+  /**
+   * Registers a connector to report the status of. Connectors that are not started, or no longer started, are not reported.
+   *
+   * @param connector the connector to report the status of
+   */
+  public void addConnector(@NonNull Connector connector) {
+    ConnectorStatus status = new ConnectorStatus(requireNonNull(connector, "Connector must not be null"));
+    connectors.add(status);
+    byConnector.put(connector, status);
+    stale = true;
+  }
+
+  /**
+   * Returns the valve that counts the requests in flight of each registered connector. The valve must be added to the Tomcat engine for the requests in
+   * flight to be reported, which happens once it is started along with the engine.
+   *
+   * @return the valve that counts the requests in flight
+   */
+  public @NonNull Valve getValve() {
+    return valve;
+  }
+
+  @Override
+  public synchronized @NonNull String status() {
+    resolve();
+    if (connectors.isEmpty()) {
+      StringJoiner joiner = new StringJoiner(", ");
+      for (ThreadPoolStatus pool : readThreadPools()) {
+        joiner.add(pool.toString());
+      }
+      return joiner.toString();
+    }
+    long now = System.nanoTime();
+    StringJoiner joiner = new StringJoiner(", ");
+    for (ConnectorStatus connector : connectors) {
+      if (connector.isStarted()) {
+        connector.readThreadPool(valve.counting);
+        readRequestProcessor(connector, now);
+        joiner.add(connector.toString());
+      }
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Returns the number of busy threads, across all Tomcat thread pools.
+   *
+   * @return the number of busy threads
+   */
+  public int getCurrentThreadsBusy() {
+    int busy = 0;
+    if (connectors.isEmpty()) {
+      for (ThreadPoolStatus pool : readThreadPools()) {
+        busy += pool.currentThreadsBusy;
+      }
+      return busy;
+    }
+    for (ConnectorStatus connector : connectors) {
+      Executor executor = connector.executor();
+      if (connector.isStarted() && executor instanceof ThreadPoolExecutor pool) {
+        busy += pool.getActiveCount();
+      }
+    }
+    return busy;
+  }
+
+  /**
+   * Returns the number of threads, across all Tomcat thread pools.
+   *
+   * @return the number of threads
+   */
+  public int getCurrentThreadCount() {
+    int count = 0;
+    if (connectors.isEmpty()) {
+      for (ThreadPoolStatus pool : readThreadPools()) {
+        count += pool.currentThreadCount;
+      }
+      return count;
+    }
+    for (ConnectorStatus connector : connectors) {
+      Executor executor = connector.executor();
+      if (connector.isStarted() && executor instanceof ThreadPoolExecutor pool) {
+        count += pool.getPoolSize();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of requests in flight, across all Tomcat connectors. Only counted when the {@link #getValve() valve} is added to the Tomcat engine.
+   *
+   * @return the number of requests in flight
+   */
+  public long getRequestsInFlight() {
+    long inFlight = 0;
+    for (ConnectorStatus connector : connectors) {
+      inFlight += connector.inFlight.sum();
+    }
+    return inFlight;
+  }
+
+  /**
+   * Returns the number of open connections, across all Tomcat connectors.
+   *
+   * @return the number of open connections, or -1 if the open connections of any connector cannot be read
+   */
+  public long getConnectionCount() {
+    long count = 0;
+    for (ConnectorStatus connector : connectors) {
+      if (connector.isStarted()) {
+        long connections = connector.connections();
+        if (connections < 0) {
+          return -1;
+        }
+        count += connections;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public boolean isBusy() {
+    // unknown connections are not idle
+    return getConnectionCount() != 0 || getRequestsInFlight() > 0;
+  }
+
+  @Override
+  public long getLastActivity() {
+    return valve.lastRequest;
+  }
+
+  private void resolve() {
+    if (!stale && listening) {
+      return;
+    }
+    // cleared before resolving, so that registrations happening meanwhile trigger another resolution
+    stale = false;
+    for (ConnectorStatus connector : connectors) {
+      connector.name = connector.name();
+      connector.requestProcessor = null;
       try {
-        ConnectorStatus status = new ConnectorStatus();
+        ObjectName requestProcessor = new ObjectName(DOMAIN + ":type=GlobalRequestProcessor,name=" + ObjectName.quote(connector.name));
+        if (mbeanServer.isRegistered(requestProcessor)) {
+          connector.requestProcessor = requestProcessor;
+        }
+      } catch (JMException e) {
+        logger.debug("Could not resolve request processor of {}", connector.name, e);
+      }
+    }
+    threadPools = connectors.isEmpty() ? queryThreadPools() : List.of();
+    logger.debug("Resolved Tomcat connectors {}", connectors);
+  }
 
-        for (MBeanAttributeInfo attr : mbeanServer.getMBeanInfo(objectName).getAttributes()) {
-          if (!attr.isReadable()) {
-            continue;
-          }
+  private @NonNull List<ObjectName> queryThreadPools() {
+    try {
+      return List.copyOf(mbeanServer.queryNames(new ObjectName(DOMAIN + ":type=ThreadPool,*"), null));
+    } catch (JMException e) {
+      logger.debug("Could not resolve Tomcat thread pools", e);
+      return List.of();
+    }
+  }
 
-          String name = attr.getName();
-          try {
-            switch (name) {
-              case "name" -> status.name = (String) mbeanServer.getAttribute(objectName, name);
-              case "currentThreadsBusy" -> status.currentThreadsBusy = (int) mbeanServer.getAttribute(objectName, name);
-              case "currentThreadCount" -> status.currentThreadCount = (int) mbeanServer.getAttribute(objectName, name);
-              default -> {
-              }
+  private synchronized @NonNull List<ThreadPoolStatus> readThreadPools() {
+    resolve();
+    List<ThreadPoolStatus> statuses = new ArrayList<>();
+    for (ObjectName threadPool : threadPools) {
+      ThreadPoolStatus status = new ThreadPoolStatus();
+      try {
+        for (Attribute attribute : mbeanServer.getAttributes(threadPool, THREAD_POOL_ATTRIBUTES).asList()) {
+          switch (attribute.getName()) {
+            case "name" -> status.name = unquote(String.valueOf(attribute.getValue()));
+            case "currentThreadsBusy" -> status.currentThreadsBusy = ((Number) attribute.getValue()).intValue();
+            case "currentThreadCount" -> status.currentThreadCount = ((Number) attribute.getValue()).intValue();
+            default -> {
             }
-          } catch (Throwable t) {
-            logger.warn("Could not read attribute {}", name, t);
           }
         }
-        statuses.add(status);
-      } catch (Exception e) {
-        logger.warn("Could not read object {}", objectName, e);
+      } catch (JMException | RuntimeException e) {
+        logger.debug("Could not read thread pool {}", threadPool, e);
+        stale = true;
+        continue;
       }
+      statuses.add(status);
     }
-    return statuses.stream().map(ConnectorStatus::toString).collect(Collectors.joining(", "));
+    return statuses;
   }
 
-  private static class ConnectorStatus {
+  private void readRequestProcessor(@NonNull ConnectorStatus connector, long now) {
+    ObjectName requestProcessor = connector.requestProcessor;
+    if (requestProcessor == null) {
+      return;
+    }
+    long requestCount = connector.requestCount;
+    long errorCount = connector.errorCount;
+    long processingTime = connector.processingTime;
+    try {
+      for (Attribute attribute : mbeanServer.getAttributes(requestProcessor, REQUEST_PROCESSOR_ATTRIBUTES).asList()) {
+        switch (attribute.getName()) {
+          case "requestCount" -> requestCount = ((Number) attribute.getValue()).longValue();
+          case "errorCount" -> errorCount = ((Number) attribute.getValue()).longValue();
+          case "processingTime" -> processingTime = ((Number) attribute.getValue()).longValue();
+          default -> {
+          }
+        }
+      }
+    } catch (JMException e) {
+      logger.debug("Could not read request processor {}", requestProcessor, e);
+      stale = true;
+      return;
+    }
+    connector.sample(now, requestCount, errorCount, processingTime);
+  }
 
-    private String name;
+  /**
+   * Stops listening to MBean registrations.
+   */
+  @Override
+  public void close() {
+    if (!listening) {
+      return;
+    }
+    try {
+      mbeanServer.removeNotificationListener(MBeanServerDelegate.DELEGATE_NAME, registrationListener);
+    } catch (JMException e) {
+      logger.debug("Could not stop listening to MBean registrations", e);
+    }
+  }
+
+  private final class InFlightValve extends ValveBase {
+
+    private volatile boolean counting;
+    private volatile long lastRequest = Long.MIN_VALUE;
+
+    private InFlightValve() {
+      super(true);
+    }
+
+    @Override
+    protected synchronized void startInternal() throws LifecycleException {
+      super.startInternal();
+      counting = true;
+    }
+
+    @Override
+    protected synchronized void stopInternal() throws LifecycleException {
+      counting = false;
+      super.stopInternal();
+    }
+
+    @Override
+    public void invoke(@NonNull Request request, @NonNull Response response) throws IOException, ServletException {
+      lastRequest = System.nanoTime();
+      ConnectorStatus connector = byConnector.get(request.getConnector());
+      if (connector == null) {
+        getNext().invoke(request, response);
+        return;
+      }
+      LongAdder inFlight = connector.inFlight;
+      inFlight.increment();
+      try {
+        getNext().invoke(request, response);
+      } finally {
+        inFlight.decrement();
+        lastRequest = System.nanoTime();
+      }
+    }
+  }
+
+  private static @NonNull String unquote(@NonNull String name) {
+    return name.length() > 1 && name.startsWith("\"") ? ObjectName.unquote(name) : name;
+  }
+
+  private static class ThreadPoolStatus {
+
+    @NonNull
+    private String name = "";
     private int currentThreadsBusy;
     private int currentThreadCount;
 
@@ -105,4 +430,102 @@ public class SystemdTomcatStatusProvider implements SystemdStatusProvider {
       return String.format("%s: %d/%d", name, currentThreadsBusy, currentThreadCount);
     }
   }
+
+  private static class ConnectorStatus {
+
+    @NonNull
+    private final Connector connector;
+    @NonNull
+    private String name = "";
+    @NonNull
+    private final LongAdder inFlight = new LongAdder();
+    @Nullable
+    private ObjectName requestProcessor;
+    private boolean pooled;
+    private boolean counted;
+    private int currentThreadsBusy;
+    private int currentThreadCount;
+    private long requestCount;
+    private long errorCount;
+    private long processingTime;
+    private long sampleTime;
+    private boolean sampled;
+    private double throughput = Double.NaN;
+    private double errorRate = Double.NaN;
+    private double meanTime = Double.NaN;
+
+    private ConnectorStatus(@NonNull Connector connector) {
+      this.connector = connector;
+    }
+
+    private @NonNull String name() {
+      ProtocolHandler handler = connector.getProtocolHandler();
+      // same name as the one of the thread pool and request processor MBeans, such as http-nio-8080
+      return handler instanceof AbstractProtocol<?> protocol ? ObjectName.unquote(protocol.getName()) : connector.toString();
+    }
+
+    private boolean isStarted() {
+      return connector.getState().isAvailable();
+    }
+
+    private @Nullable Executor executor() {
+      return connector.getProtocolHandler().getExecutor();
+    }
+
+    private long connections() {
+      Method method = getEndpoint;
+      if (method == null || !(connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol)) {
+        return -1;
+      }
+      try {
+        return ((AbstractEndpoint<?, ?>) method.invoke(protocol)).getConnections().size();
+      } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+        logger.debug("Could not read the open connections of {}", name, e);
+        return -1;
+      }
+    }
+
+    private void readThreadPool(boolean counting) {
+      Executor executor = executor();
+      pooled = executor instanceof ThreadPoolExecutor;
+      counted = !pooled && counting;
+      if (executor instanceof ThreadPoolExecutor pool) {
+        currentThreadsBusy = pool.getActiveCount();
+        currentThreadCount = pool.getPoolSize();
+      }
+    }
+
+    private void sample(long now, long requestCount, long errorCount, long processingTime) {
+      long requests = requestCount - this.requestCount;
+      long elapsed = now - sampleTime;
+      // counters go back when reset through JMX, in which case this sample is a new baseline
+      if (sampled && elapsed > 0 && requests >= 0) {
+        throughput = requests * 1e9 / elapsed;
+        errorRate = requests == 0 ? Double.NaN : 100.0 * (errorCount - this.errorCount) / requests;
+        meanTime = requests == 0 ? Double.NaN : (double) (processingTime - this.processingTime) / requests;
+      }
+      this.requestCount = requestCount;
+      this.errorCount = errorCount;
+      this.processingTime = processingTime;
+      this.sampleTime = now;
+      this.sampled = true;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder(name);
+      if (pooled) {
+        builder.append(String.format(": %d/%d", currentThreadsBusy, currentThreadCount));
+      } else if (counted) {
+        builder.append(String.format(": %d in flight", inFlight.sum()));
+      }
+      if (!Double.isNaN(throughput)) {
+        builder.append(String.format(", %.1f req/s", throughput));
+      }
+      if (!Double.isNaN(errorRate)) {
+        builder.append(String.format(", %.1f%% errors, %.1f ms", errorRate, meanTime));
+      }
+      return builder.toString();
+    }
+  }
 }
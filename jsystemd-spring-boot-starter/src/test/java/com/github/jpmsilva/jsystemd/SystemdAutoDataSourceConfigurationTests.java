@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.jpmsilva.jsystemd.SystemdDataSourceStatusProvider.Pool;
+import com.github.jpmsilva.jsystemd.SystemdDataSourceStatusProvider.PoolResolver;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class SystemdAutoDataSourceConfigurationTests {
+
+  private static final Pool pool = new Pool() {
+    @Override
+    public int getActive() {
+      return 8;
+    }
+
+    @Override
+    public int getIdle() {
+      return 2;
+    }
+
+    @Override
+    public int getPending() {
+      return 0;
+    }
+
+    @Override
+    public int getTotal() {
+      return 10;
+    }
+  };
+
+  @Test
+  void registersGaugesForBeanNamesThatAreNotValidGaugeNames() {
+    SystemdMetrics metrics = new SystemdMetrics();
+    provider(metrics, Map.of("my-dataSource", dataSource(), "com.example.persistence.configuration.primaryDataSource", dataSource()));
+
+    List<String> names = metrics.getGauges().stream().map(SystemdMetrics.Gauge::getName).filter(name -> name.startsWith("datasource.")).sorted().toList();
+    assertEquals(List.of(
+        "datasource.com.example.persistence.conf.active",
+        "datasource.com.example.persistence.conf.idle",
+        "datasource.com.example.persistence.conf.pending",
+        "datasource.com.example.persistence.conf.total",
+        "datasource.my_dataSource.active",
+        "datasource.my_dataSource.idle",
+        "datasource.my_dataSource.pending",
+        "datasource.my_dataSource.total"), names);
+  }
+
+  @Test
+  void reportsPoolsUnderTheirBeanNames() {
+    SystemdDataSourceStatusProvider provider = provider(new SystemdMetrics(), Map.of("my-dataSource", dataSource()));
+
+    assertEquals("my-dataSource: 8/10", provider.status());
+  }
+
+  private static SystemdDataSourceStatusProvider provider(SystemdMetrics metrics, Map<String, DataSource> dataSources) {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton("poolResolver", (PoolResolver) dataSource -> pool);
+    ObjectProvider<Map<String, DataSource>> dataSourcesProvider = new ObjectProvider<>() {
+      @Override
+      public Map<String, DataSource> getObject() {
+        return dataSources;
+      }
+    };
+    return new SystemdAutoConfiguration.SystemdAutoDataSourceConfiguration().systemdDataSourceStatusProvider(Systemd.builder().build(),
+        new SystemdDataSourceProperties(), metrics, dataSourcesProvider, beanFactory.getBeanProvider(PoolResolver.class));
+  }
+
+  private static DataSource dataSource() {
+    return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+      throw new UnsupportedOperationException(method.getName());
+    });
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class SystemdLatencyFilterTests {
+
+  private static final Duration WINDOW = Duration.ofMillis(100);
+
+  private final SystemdLatencyHealthProvider provider = SystemdLatencyHealthProvider.builder()
+      .window(WINDOW)
+      .p99Limit(Duration.ofMillis(10))
+      .minRequests(1)
+      .build();
+  private final SystemdLatencyFilter filter = new SystemdLatencyFilter(provider);
+
+  @Test
+  void requestsAreRecordedWithTheirLatencyAndOutcome() throws Exception {
+    filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+    filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) -> sleep(Duration.ofMillis(30)));
+    MockHttpServletResponse failed = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest(), failed, (request, response) -> failed.setStatus(503));
+    assertThrows(ServletException.class, () -> filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) -> {
+      throw new ServletException("test");
+    }));
+
+    assertFalse(nextWindow().healthy);
+    assertEquals(4, provider.getRequests());
+    assertEquals(2, provider.getErrors());
+    assertTrue(provider.getP99Micros() >= 25_000, "p99 " + provider.getP99Micros());
+  }
+
+  @Test
+  void asyncRequestsAreRecordedOnCompletion() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAsyncSupported(true);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, (req, res) -> req.startAsync(req, res));
+    AsyncContext context = request.getAsyncContext();
+
+    assertTrue(nextWindow().healthy);
+    assertEquals(0, provider.getRequests());
+
+    response.setStatus(500);
+    ((MockAsyncContext) context).complete();
+    assertFalse(nextWindow().healthy);
+    assertEquals(1, provider.getRequests());
+    assertEquals(1, provider.getErrors());
+  }
+
+  private static void sleep(Duration duration) throws IOException {
+    try {
+      TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+  }
+
+  private Health nextWindow() throws InterruptedException {
+    TimeUnit.MILLISECONDS.sleep(WINDOW.toMillis() + 20);
+    return provider.health();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jpmsilva.jsystemd.HealthProvider.Health;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class SystemdLatencyWebFilterTests {
+
+  private static final Duration WINDOW = Duration.ofMillis(100);
+
+  private final SystemdLatencyHealthProvider provider = SystemdLatencyHealthProvider.builder()
+      .window(WINDOW)
+      .p99Limit(Duration.ofMillis(10))
+      .minRequests(1)
+      .build();
+  private final SystemdLatencyWebFilter filter = new SystemdLatencyWebFilter(provider);
+
+  @Test
+  void requestsAreRecordedWithTheirLatencyAndOutcome() throws InterruptedException {
+    filter.filter(exchange(), exchange -> Mono.empty()).block();
+    filter.filter(exchange(), exchange -> Mono.delay(Duration.ofMillis(30)).then()).block();
+    filter.filter(exchange(), exchange -> Mono.fromRunnable(() -> exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE))).block();
+    assertThrows(IllegalStateException.class, () -> filter.filter(exchange(), exchange -> Mono.error(new IllegalStateException("test"))).block());
+
+    assertFalse(nextWindow().healthy);
+    assertEquals(4, provider.getRequests());
+    assertEquals(2, provider.getErrors());
+    assertTrue(provider.getP99Micros() >= 25_000, "p99 " + provider.getP99Micros());
+  }
+
+  @Test
+  void requestsAreRecordedOnlyOnceSubscribed() throws InterruptedException {
+    Mono<Void> pending = filter.filter(exchange(), exchange -> Mono.empty());
+    assertTrue(nextWindow().healthy);
+    assertEquals(0, provider.getRequests());
+
+    pending.block();
+    nextWindow();
+    assertEquals(1, provider.getRequests());
+    assertEquals(0, provider.getErrors());
+  }
+
+  private static ServerWebExchange exchange() {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+  }
+
+  private Health nextWindow() throws InterruptedException {
+    TimeUnit.MILLISECONDS.sleep(WINDOW.toMillis() + 20);
+    return provider.health();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class SystemdMeterBinderTests {
+
+  @Test
+  void providersOfTheSameClassGetUniqueTags() throws Exception {
+    try (Systemd systemd = Systemd.builder().build()) {
+      systemd.addStatusProviders(new FixedStatusProvider("a"), new FixedStatusProvider("b"), anonymous("c"), anonymous("d"));
+      systemd.updateStatus();
+
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      new SystemdMeterBinder(systemd, null, null).bindTo(registry);
+
+      assertEquals(Set.of("FixedStatusProvider", "FixedStatusProvider-2", "SystemdMeterBinderTests", "SystemdMeterBinderTests-2"), providerTags(registry));
+      for (FunctionTimer timer : registry.find("jsystemd.status.provider").functionTimers()) {
+        assertEquals(1, timer.count());
+      }
+    }
+  }
+
+  @Test
+  void providersAddedAfterBindingKeepTheTagsAlreadyGiven() throws Exception {
+    try (Systemd systemd = Systemd.builder().build()) {
+      SystemdMeterBinder binder = new SystemdMeterBinder(systemd, null, null);
+      systemd.addStatusListeners(binder);
+      systemd.addStatusProviders(new FixedStatusProvider("a"));
+      systemd.updateStatus();
+
+      SimpleMeterRegistry first = new SimpleMeterRegistry();
+      binder.bindTo(first);
+      systemd.addStatusProviders(0, new FixedStatusProvider("b"));
+      systemd.updateStatus();
+      SimpleMeterRegistry second = new SimpleMeterRegistry();
+      binder.bindTo(second);
+
+      assertEquals(Set.of("FixedStatusProvider", "FixedStatusProvider-2"), providerTags(first));
+      assertEquals(providerTags(first), providerTags(second));
+      assertEquals(2, first.get("jsystemd.status.provider").tag("provider", "FixedStatusProvider").functionTimer().count());
+      assertEquals(1, second.get("jsystemd.status.provider").tag("provider", "FixedStatusProvider-2").functionTimer().count());
+    }
+  }
+
+  @Test
+  void generatedClassesAreNamedAfterTheirDeclaringClass() {
+    Supplier<String> lambda = () -> "";
+
+    assertEquals("SystemdMeterBinderTests", SystemdMeterBinder.providerName(lambda.getClass()));
+    assertEquals("SystemdMeterBinderTests", SystemdMeterBinder.providerName(anonymous("").getClass()));
+    assertEquals("FixedStatusProvider", SystemdMeterBinder.providerName(FixedStatusProvider.class));
+  }
+
+  private static SystemdStatusProvider anonymous(String status) {
+    return new SystemdStatusProvider() {
+      @Override
+      public String status() {
+        return status;
+      }
+    };
+  }
+
+  private static Set<String> providerTags(SimpleMeterRegistry registry) {
+    return registry.find("jsystemd.status.provider").functionTimers().stream()
+        .map(timer -> timer.getId().getTag("provider"))
+        .collect(Collectors.toSet());
+  }
+
+  private static final class FixedStatusProvider implements SystemdStatusProvider {
+
+    private final String status;
+
+    private FixedStatusProvider(String status) {
+      this.status = status;
+    }
+
+    @Override
+    public String status() {
+      return status;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static com.github.jpmsilva.jsystemd.SystemdUtilities.isUnderSystemd;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.support.GenericApplicationContext;
+
+class SystemdSpringApplicationRunListenerTests {
+
+  @AfterEach
+  void clearAotEnabled() {
+    System.clearProperty(AotDetector.AOT_ENABLED);
+  }
+
+  @Test
+  void registersNoSystemdOutsideSystemd() {
+    assumeFalse(isUnderSystemd(), "Running under systemd");
+
+    GenericApplicationContext context = new GenericApplicationContext();
+    new SystemdSpringApplicationRunListener(new SpringApplication(), new String[0]).contextPrepared(context);
+
+    assertFalse(context.getBeanFactory().containsSingleton("systemd"));
+  }
+
+  @Test
+  void registersInertSystemdOutsideSystemdWhenProcessedAheadOfTime() {
+    assumeFalse(isUnderSystemd(), "Running under systemd");
+    System.setProperty(AotDetector.AOT_ENABLED, "true");
+
+    GenericApplicationContext context = new GenericApplicationContext();
+    new SystemdSpringApplicationRunListener(new SpringApplication(), new String[0]).contextPrepared(context);
+
+    assertTrue(context.getBeanFactory().containsSingleton("systemd"));
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SystemdTomcatStatusProviderTests {
+
+  private final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+  private ObjectName name;
+
+  @BeforeEach
+  void registerThreadPool() throws JMException {
+    name = new ObjectName("Tomcat:type=ThreadPool,name=" + ObjectName.quote("http-nio-8080"));
+    mbeanServer.registerMBean(new ThreadPool(), name);
+  }
+
+  @AfterEach
+  void unregisterThreadPool() throws JMException {
+    mbeanServer.unregisterMBean(name);
+  }
+
+  @Test
+  void threadPoolMBeansAreReportedWithoutRegisteredConnectors() {
+    try (SystemdTomcatStatusProvider provider = new SystemdTomcatStatusProvider()) {
+      assertEquals("http-nio-8080: 3/10", provider.status());
+      assertEquals(3, provider.getCurrentThreadsBusy());
+      assertEquals(10, provider.getCurrentThreadCount());
+    }
+  }
+
+  // attributes named as Tomcat names them, which a standard MBean would capitalize
+  private static final class ThreadPool implements DynamicMBean {
+
+    private final Map<String, Object> attributes = Map.of("name", ObjectName.quote("http-nio-8080"), "currentThreadsBusy", 3, "currentThreadCount", 10);
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+      Object value = attributes.get(attribute);
+      if (value == null) {
+        throw new AttributeNotFoundException(attribute);
+      }
+      return value;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] names) {
+      AttributeList list = new AttributeList();
+      for (String attribute : names) {
+        if (attributes.containsKey(attribute)) {
+          list.add(new Attribute(attribute, attributes.get(attribute)));
+        }
+      }
+      return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList list) {
+      return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String action, Object[] params, String[] signature) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+      return new MBeanInfo(ThreadPool.class.getName(), "Tomcat thread pool", null, null, null, null);
+    }
+  }
+}
@@ -0,0 +1,514 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import static java.util.Objects.requireNonNull;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * In-process fake of the systemd notify socket, meant for tests and soak runs of services integrated with systemd.
+ *
+ * <p>Binds an {@code AF_UNIX} datagram socket, and records every notification received along with its receive timestamp. Tests can then wait for
+ * notifications, assert the order in which they were sent, and check the watchdog margins of the service through {@link #watchdogReport()}. Notifications
+ * are received whole whatever their size; any notification still truncated is rejected rather than recorded, see {@link #getRejected()}.
+ *
+ * <p>The systemd integration reads {@code NOTIFY_SOCKET} and {@code WATCHDOG_USEC} from the environment, which a running JVM cannot change. So the receiver
+ * either:
+ * <ul>
+ *   <li>binds a temporary socket, whose {@link #environment()} is passed to a service started as a child process, for instance with
+ *   {@link ProcessBuilder#environment()}</li>
+ *   <li>binds the socket that the environment of the current JVM already points at, see {@link Builder#fromEnvironment()}, for services running in-process,
+ *   such as Spring Boot tests. The test runner must then set the environment variables, and the receiver must be built before the systemd integration is
+ *   first used.</li>
+ * </ul>
+ *
+ * <p>Java 17 cannot bind datagram sockets in the unix domain, so the socket is created through libc, with a JNA direct mapping.
+ *
+ * @author Joao Silva
+ * @see SystemdWatchdogReport
+ */
+public class SystemdNotifyReceiver implements AutoCloseable {
+
+  private static final int AF_UNIX = 1;
+  private static final int SOCK_DGRAM = 2;
+  private static final int SHUT_RDWR = 2;
+  private static final int MSG_PEEK = 0x2;
+  private static final int MSG_TRUNC = 0x20;
+  private static final int SUN_PATH_LENGTH = 108;
+
+  @NonNull
+  private final Path socket;
+  @Nullable
+  private final Path temporaryDirectory;
+  @Nullable
+  private final Duration watchdog;
+  private final double lateRatio;
+  private final int capacity;
+  private final long started = System.nanoTime();
+  @NonNull
+  private final Deque<Message> messages = new ArrayDeque<>();
+  private long received;
+  private long rejected;
+  private final int fd;
+  @NonNull
+  private final Thread receiver;
+
+  private SystemdNotifyReceiver(@NonNull Builder builder) throws IOException {
+    this.temporaryDirectory = builder.socket == null ? Files.createTempDirectory("jsystemd") : null;
+    this.socket = builder.socket == null ? requireNonNull(temporaryDirectory).resolve("notify.sock") : builder.socket;
+    this.watchdog = builder.watchdog;
+    this.lateRatio = builder.lateRatio;
+    this.capacity = builder.capacity;
+
+    byte[] address = address(socket);
+    Files.deleteIfExists(socket);
+    fd = LibC.socket(AF_UNIX, SOCK_DGRAM, 0);
+    try {
+      LibC.bind(fd, address, address.length);
+    } catch (LastErrorException e) {
+      LibC.close(fd);
+      throw new IOException("Could not bind " + socket, e);
+    }
+    receiver = new Thread(this::receive, "jsystemd-notify-receiver");
+    receiver.setDaemon(true);
+    receiver.start();
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdNotifyReceiver instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the path of the socket the receiver is bound to.
+   *
+   * @return the path of the socket
+   */
+  public @NonNull Path getSocket() {
+    return socket;
+  }
+
+  /**
+   * Returns the environment variables that point a service at this receiver: {@code NOTIFY_SOCKET}, and {@code WATCHDOG_USEC} if a watchdog timeout is
+   * configured.
+   *
+   * @return the environment variables to set on the service
+   */
+  public @NonNull Map<String, String> environment() {
+    Map<String, String> environment = new LinkedHashMap<>();
+    environment.put("NOTIFY_SOCKET", socket.toString());
+    if (watchdog != null) {
+      environment.put("WATCHDOG_USEC", Long.toString(watchdog.toNanos() / 1000));
+    }
+    return environment;
+  }
+
+  /**
+   * Returns the total number of notifications received, including the ones no longer retained.
+   *
+   * @return the number of notifications received
+   */
+  public synchronized long getReceived() {
+    return received;
+  }
+
+  /**
+   * Returns the number of notifications rejected because they were truncated when received. Those are not retained, nor counted as received.
+   *
+   * @return the number of notifications rejected
+   */
+  public synchronized long getRejected() {
+    return rejected;
+  }
+
+  /**
+   * Returns the notifications retained, in the order they were received.
+   *
+   * @return a copy of the notifications retained
+   */
+  public synchronized @NonNull List<Message> getMessages() {
+    return new ArrayList<>(messages);
+  }
+
+  /**
+   * Waits for a notification with a line starting with the provided prefix, such as {@code READY=1} or {@code STATUS=}. Notifications received before the
+   * call are considered.
+   *
+   * @param prefix the prefix of the line to wait for
+   * @param timeout the maximum time to wait
+   * @return the first notification that matches
+   * @throws AssertionError if no notification matches within the timeout
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public @NonNull Message awaitMessage(@NonNull String prefix, @NonNull Duration timeout) throws InterruptedException {
+    requireNonNull(prefix, "Prefix must not be null");
+    return awaitMessage(message -> message.has(prefix), timeout);
+  }
+
+  /**
+   * Waits for a notification that matches the provided predicate. Notifications received before the call are considered.
+   *
+   * @param predicate the predicate to match
+   * @param timeout the maximum time to wait
+   * @return the first notification that matches
+   * @throws AssertionError if no notification matches within the timeout
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public synchronized @NonNull Message awaitMessage(@NonNull Predicate<Message> predicate, @NonNull Duration timeout) throws InterruptedException {
+    requireNonNull(predicate, "Predicate must not be null");
+    long deadline = System.nanoTime() + requireNonNull(timeout, "Timeout must not be null").toNanos();
+    while (true) {
+      for (Message message : messages) {
+        if (predicate.test(message)) {
+          return message;
+        }
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        throw new AssertionError("No matching notification received within " + timeout + ", received " + messages);
+      }
+      wait(Math.max(1, remaining / 1_000_000));
+    }
+  }
+
+  /**
+   * Asserts that notifications with lines starting with the provided prefixes were received in that order, not necessarily consecutively.
+   *
+   * @param prefixes the prefixes of the lines, in the expected order
+   * @throws AssertionError if the notifications were not received in that order
+   */
+  public synchronized void assertOrdered(@NonNull String... prefixes) {
+    int next = 0;
+    for (Message message : messages) {
+      if (next < prefixes.length && message.has(prefixes[next])) {
+        next++;
+      }
+    }
+    if (next < prefixes.length) {
+      throw new AssertionError(String.format("Expected notifications %s in order, but %s was not received after %s, received %s", List.of(prefixes),
+          prefixes[next], List.of(prefixes).subList(0, next), messages));
+    }
+  }
+
+  /**
+   * Replays the notifications received against a model of the systemd watchdog, to report missed and late heartbeats.
+   *
+   * <p>The watchdog is armed when the receiver starts, as systemd arms it when it starts the service. Each {@code WATCHDOG=1} resets it, and so does
+   * {@code WATCHDOG_USEC=}, which also changes its timeout. A heartbeat is missed when it arrives after the timeout, meaning systemd would have killed the
+   * service, and late when it arrives after the configured fraction of the timeout.
+   *
+   * @return the report of the watchdog heartbeats received so far
+   * @throws IllegalStateException if no watchdog timeout is configured, or if notifications were dropped for lack of capacity
+   */
+  public synchronized @NonNull SystemdWatchdogReport watchdogReport() {
+    if (watchdog == null) {
+      throw new IllegalStateException("No watchdog timeout configured");
+    }
+    if (received > messages.size()) {
+      throw new IllegalStateException("Notifications were dropped, increase the capacity of the receiver");
+    }
+    return new SystemdWatchdogReport(watchdog, lateRatio, started, messages, System.nanoTime());
+  }
+
+  private void receive() {
+    byte[] buffer = new byte[4096];
+    try {
+      long length;
+      // peeked with MSG_TRUNC for the real length of the next datagram, so that the buffer can grow to fit it
+      while ((length = LibC.recv(fd, buffer, 0, MSG_PEEK | MSG_TRUNC)) > 0) {
+        if (length > buffer.length) {
+          buffer = new byte[(int) Math.min(length, Integer.MAX_VALUE - 8)];
+        }
+        length = LibC.recv(fd, buffer, buffer.length, MSG_TRUNC);
+        long nanos = System.nanoTime();
+        synchronized (this) {
+          if (length > buffer.length) {
+            rejected++;
+            continue;
+          }
+          received++;
+          if (capacity > 0) {
+            if (messages.size() == capacity) {
+              messages.removeFirst();
+            }
+            messages.addLast(new Message(nanos, Instant.now(), new String(buffer, 0, (int) length, StandardCharsets.UTF_8)));
+            notifyAll();
+          }
+        }
+      }
+    } catch (LastErrorException ignored) {
+      // the socket was closed
+    }
+  }
+
+  private static byte @NonNull [] address(@NonNull Path socket) {
+    byte[] name = socket.toString().getBytes(StandardCharsets.UTF_8);
+    if (name.length >= SUN_PATH_LENGTH) {
+      throw new IllegalArgumentException("Illegal value for socket, path too long: " + socket);
+    }
+    // struct sockaddr_un: the address family as a native short, followed by the null terminated path
+    ByteBuffer address = ByteBuffer.allocate(Short.BYTES + name.length + 1).order(ByteOrder.nativeOrder());
+    address.putShort((short) AF_UNIX).put(name).put((byte) 0);
+    return address.array();
+  }
+
+  /**
+   * Closes the socket, and removes it along with any temporary directory created for it.
+   */
+  @Override
+  public void close() {
+    LibC.shutdown(fd, SHUT_RDWR);
+    try {
+      receiver.join(1000);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    LibC.close(fd);
+    try {
+      Files.deleteIfExists(socket);
+      if (temporaryDirectory != null) {
+        Files.deleteIfExists(temporaryDirectory);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Notification received from the service.
+   */
+  public static final class Message {
+
+    private final long nanos;
+    @NonNull
+    private final Instant time;
+    @NonNull
+    private final List<String> lines;
+
+    Message(long nanos, @NonNull Instant time, @NonNull String content) {
+      this.nanos = nanos;
+      this.time = time;
+      this.lines = List.of(content.split("\n"));
+    }
+
+    /**
+     * Returns the value of {@link System#nanoTime()} when the notification was received, to measure intervals.
+     *
+     * @return the receive timestamp, in nanoseconds
+     */
+    public long getNanos() {
+      return nanos;
+    }
+
+    /**
+     * Returns the wall clock time when the notification was received.
+     *
+     * @return the receive time
+     */
+    public @NonNull Instant getTime() {
+      return time;
+    }
+
+    /**
+     * Returns the lines of the notification, each a {@code KEY=VALUE} assignment.
+     *
+     * @return the lines of the notification
+     */
+    public @NonNull List<String> getLines() {
+      return Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * Allows determining if the notification has a line starting with the provided prefix.
+     *
+     * @param prefix the prefix of the line, such as {@code READY=1} or {@code STATUS=}
+     * @return {@code true} if and only if a line starts with the prefix
+     */
+    public boolean has(@NonNull String prefix) {
+      for (String line : lines) {
+        if (line.startsWith(prefix)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Returns the value assigned to the provided key, such as the text of {@code STATUS}.
+     *
+     * @param key the key, without the equals sign
+     * @return the value assigned to the key, or <code>null</code> if the notification has no such assignment
+     */
+    public @Nullable String get(@NonNull String key) {
+      String prefix = key + "=";
+      for (String line : lines) {
+        if (line.startsWith(prefix)) {
+          return line.substring(prefix.length());
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public String toString() {
+      return time + " " + String.join("\\n", lines);
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdNotifyReceiver} objects.
+   */
+  public static class Builder {
+
+    @Nullable
+    private Path socket;
+    @Nullable
+    private Duration watchdog;
+    private double lateRatio = 0.75;
+    private int capacity = 10_000;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the path of the socket to bind. Defaults to a socket in a new temporary directory.
+     *
+     * @param socket the path of the socket
+     * @return the same builder instance
+     */
+    public Builder socket(@NonNull Path socket) {
+      this.socket = requireNonNull(socket, "Socket must not be null");
+      return this;
+    }
+
+    /**
+     * Sets the watchdog timeout the service is expected to honour.
+     *
+     * @param watchdog the watchdog timeout
+     * @return the same builder instance
+     */
+    public Builder watchdog(@NonNull Duration watchdog) {
+      requireNonNull(watchdog, "Watchdog must not be null");
+      if (watchdog.isNegative() || watchdog.isZero()) {
+        throw new IllegalArgumentException("Illegal value for watchdog");
+      }
+      this.watchdog = watchdog;
+      return this;
+    }
+
+    /**
+     * Sets the socket and the watchdog timeout from the {@code NOTIFY_SOCKET} and {@code WATCHDOG_USEC} environment variables of the current JVM.
+     *
+     * @return the same builder instance
+     * @throws IllegalStateException if {@code NOTIFY_SOCKET} is not set to a file system path
+     */
+    public Builder fromEnvironment() {
+      String notifySocket = System.getenv("NOTIFY_SOCKET");
+      if (notifySocket == null || notifySocket.isEmpty() || notifySocket.startsWith("@")) {
+        throw new IllegalStateException("Environment variable NOTIFY_SOCKET must be set to a file system path");
+      }
+      socket(Path.of(notifySocket));
+      String watchdogUsec = System.getenv("WATCHDOG_USEC");
+      if (watchdogUsec != null && !watchdogUsec.isEmpty()) {
+        watchdog(Duration.ofNanos(Long.parseLong(watchdogUsec) * 1000));
+      }
+      return this;
+    }
+
+    /**
+     * Sets the fraction of the watchdog timeout after which a heartbeat is considered late. Defaults to 0.75.
+     *
+     * @param lateRatio the fraction of the watchdog timeout, between 0 (exclusive) and 1 (inclusive)
+     * @return the same builder instance
+     */
+    public Builder lateRatio(double lateRatio) {
+      if (lateRatio <= 0 || lateRatio > 1) {
+        throw new IllegalArgumentException("Illegal value for late ratio");
+      }
+      this.lateRatio = lateRatio;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of notifications retained, the oldest being dropped first. Zero only counts notifications, which suits benchmarks. Defaults to
+     * 10000.
+     *
+     * @param capacity the maximum number of notifications retained
+     * @return the same builder instance
+     */
+    public Builder capacity(int capacity) {
+      if (capacity < 0) {
+        throw new IllegalArgumentException("Illegal value for capacity");
+      }
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdNotifyReceiver} instance, and starts receiving.
+     *
+     * @return the instance built
+     * @throws IOException if the socket cannot be created or bound
+     */
+    public SystemdNotifyReceiver build() throws IOException {
+      return new SystemdNotifyReceiver(this);
+    }
+  }
+
+  private static class LibC {
+
+    static {
+      Native.register(Platform.C_LIBRARY_NAME);
+    }
+
+    static native int socket(int domain, int type, int protocol) throws LastErrorException;
+
+    static native int bind(int fd, byte[] address, int length) throws LastErrorException;
+
+    static native long recv(int fd, byte[] buffer, long length, int flags) throws LastErrorException;
+
+    static native int shutdown(int fd, int how) throws LastErrorException;
+
+    static native int close(int fd) throws LastErrorException;
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Synthetic CPU and garbage collection load, to soak test the watchdog margins of a service along with a {@link SystemdNotifyReceiver}.
+ *
+ * <p>CPU load is generated by threads spinning on arithmetic. Garbage collection load is generated by a thread allocating at a steady rate, and retaining part
+ * of what it allocates long enough for it to be promoted, so that old generation collections happen as well.
+ *
+ * @author Joao Silva
+ */
+public class SystemdSyntheticLoad implements AutoCloseable {
+
+  private static final int CHUNK = 64 * 1024;
+  private static final long TICK_NANOS = 10_000_000;
+
+  private final int cpuThreads;
+  private final long allocationRate;
+  private final int retainedChunks;
+  @NonNull
+  private final List<Thread> threads = new ArrayList<>();
+  private volatile boolean running = true;
+  @SuppressWarnings("unused")
+  private volatile long sink;
+
+  private SystemdSyntheticLoad(@NonNull Builder builder) {
+    this.cpuThreads = builder.cpuThreads;
+    this.allocationRate = builder.allocationRate;
+    this.retainedChunks = (int) Math.max(1, builder.retainedBytes / CHUNK);
+  }
+
+  /**
+   * Provides a dedicated builder instance that knows how to create SystemdSyntheticLoad instances.
+   *
+   * @return a builder instance
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  private void start() {
+    for (int i = 0; i < cpuThreads; i++) {
+      threads.add(start("jsystemd-load-cpu-" + i, this::spin));
+    }
+    if (allocationRate > 0) {
+      threads.add(start("jsystemd-load-gc", this::allocate));
+    }
+  }
+
+  private static @NonNull Thread start(@NonNull String name, @NonNull Runnable task) {
+    Thread thread = new Thread(task, name);
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  private void spin() {
+    long value = 0;
+    while (running) {
+      for (int i = 0; i < 100_000; i++) {
+        value = value * 6364136223846793005L + 1442695040888963407L;
+      }
+      sink = value;
+    }
+  }
+
+  private void allocate() {
+    byte[][] retained = new byte[retainedChunks][];
+    long chunksPerTick = Math.max(1, allocationRate * TICK_NANOS / 1_000_000_000L / CHUNK);
+    int next = 0;
+    while (running) {
+      long tick = System.nanoTime();
+      for (long i = 0; i < chunksPerTick; i++) {
+        byte[] chunk = new byte[CHUNK];
+        // only one chunk in eight survives, the remaining die young
+        if ((i & 7) == 0) {
+          retained[next] = chunk;
+          next = (next + 1) % retained.length;
+        }
+      }
+      LockSupport.parkNanos(TICK_NANOS - (System.nanoTime() - tick));
+    }
+  }
+
+  /**
+   * Stops generating load, and waits for the load threads to finish.
+   *
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  @Override
+  public void close() throws InterruptedException {
+    running = false;
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  /**
+   * Specialized build class of {@link SystemdSyntheticLoad} objects.
+   */
+  public static class Builder {
+
+    private int cpuThreads;
+    private long allocationRate;
+    private long retainedBytes = 64L * 1024 * 1024;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the number of threads that keep a CPU busy. Defaults to none.
+     *
+     * @param cpuThreads the number of busy threads
+     * @return the same builder instance
+     */
+    public Builder cpuThreads(int cpuThreads) {
+      if (cpuThreads < 0) {
+        throw new IllegalArgumentException("Illegal value for CPU threads");
+      }
+      this.cpuThreads = cpuThreads;
+      return this;
+    }
+
+    /**
+     * Sets the rate at which memory is allocated, in bytes per second. Defaults to none.
+     *
+     * @param allocationRate the allocation rate, in bytes per second
+     * @return the same builder instance
+     */
+    public Builder allocationRate(long allocationRate) {
+      if (allocationRate < 0) {
+        throw new IllegalArgumentException("Illegal value for allocation rate");
+      }
+      this.allocationRate = allocationRate;
+      return this;
+    }
+
+    /**
+     * Sets the amount of allocated memory kept reachable at any time, so that it gets promoted to the old generation. Defaults to 64 MiB.
+     *
+     * @param retainedBytes the amount of memory retained, in bytes
+     * @return the same builder instance
+     */
+    public Builder retainedBytes(long retainedBytes) {
+      if (retainedBytes < 0) {
+        throw new IllegalArgumentException("Illegal value for retained bytes");
+      }
+      this.retainedBytes = retainedBytes;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SystemdSyntheticLoad} instance, and starts generating load.
+     *
+     * @return the instance built
+     */
+    public SystemdSyntheticLoad start() {
+      SystemdSyntheticLoad load = new SystemdSyntheticLoad(this);
+      load.start();
+      return load;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import com.github.jpmsilva.jsystemd.SystemdNotifyReceiver.Message;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Report of the watchdog heartbeats received by a {@link SystemdNotifyReceiver}, replayed against a model of the systemd watchdog.
+ *
+ * @author Joao Silva
+ * @see SystemdNotifyReceiver#watchdogReport()
+ */
+public final class SystemdWatchdogReport {
+
+  private int heartbeats;
+  @NonNull
+  private final List<String> late = new ArrayList<>();
+  @NonNull
+  private final List<String> missed = new ArrayList<>();
+  @NonNull
+  private Duration maxInterval = Duration.ZERO;
+  @NonNull
+  private Duration minMargin;
+  private final boolean expired;
+
+  SystemdWatchdogReport(@NonNull Duration watchdog, double lateRatio, long started, @NonNull Collection<Message> messages, long now) {
+    long timeout = watchdog.toNanos();
+    minMargin = watchdog;
+    long last = started;
+    long armed = started;
+    for (Message message : messages) {
+      String watchdogUsec = message.get("WATCHDOG_USEC");
+      if (watchdogUsec != null) {
+        // systemd restarts the watchdog timer with the new timeout, as for a heartbeat
+        timeout = Long.parseLong(watchdogUsec) * 1000;
+        armed = message.getNanos();
+      }
+      if (message.has("WATCHDOG=1")) {
+        heartbeats++;
+        Duration interval = Duration.ofNanos(message.getNanos() - last);
+        Duration elapsed = Duration.ofNanos(message.getNanos() - armed);
+        Duration margin = Duration.ofNanos(timeout - elapsed.toNanos());
+        if (interval.compareTo(maxInterval) > 0) {
+          maxInterval = interval;
+        }
+        if (margin.compareTo(minMargin) < 0) {
+          minMargin = margin;
+        }
+        if (margin.isNegative()) {
+          missed.add(String.format("%s after %s (timeout %s)", message.getTime(), elapsed, Duration.ofNanos(timeout)));
+        } else if (elapsed.toNanos() > timeout * lateRatio) {
+          late.add(String.format("%s after %s (timeout %s)", message.getTime(), elapsed, Duration.ofNanos(timeout)));
+        }
+        last = message.getNanos();
+        armed = last;
+      }
+    }
+    expired = now - armed > timeout;
+  }
+
+  /**
+   * Returns the number of heartbeats received.
+   *
+   * @return the number of heartbeats
+   */
+  public int getHeartbeats() {
+    return heartbeats;
+  }
+
+  /**
+   * Returns a description of each heartbeat received after the late fraction of the timeout, but before the timeout.
+   *
+   * @return the late heartbeats
+   */
+  public @NonNull List<String> getLate() {
+    return Collections.unmodifiableList(late);
+  }
+
+  /**
+   * Returns a description of each heartbeat received after the timeout, when systemd would already have killed the service.
+   *
+   * @return the missed heartbeats
+   */
+  public @NonNull List<String> getMissed() {
+    return Collections.unmodifiableList(missed);
+  }
+
+  /**
+   * Returns the longest interval between heartbeats, counting from the start of the receiver for the first one.
+   *
+   * @return the longest interval between heartbeats
+   */
+  public @NonNull Duration getMaxInterval() {
+    return maxInterval;
+  }
+
+  /**
+   * Returns the smallest time left before the timeout when a heartbeat was received, negative if one was missed.
+   *
+   * @return the smallest margin to the timeout
+   */
+  public @NonNull Duration getMinMargin() {
+    return minMargin;
+  }
+
+  /**
+   * Allows determining if the watchdog has expired since the last heartbeat, meaning that systemd would be killing the service now.
+   *
+   * @return {@code true} if and only if the timeout elapsed since the last heartbeat
+   */
+  public boolean isExpired() {
+    return expired;
+  }
+
+  /**
+   * Asserts that no heartbeat was missed, and that the watchdog has not expired since the last one.
+   *
+   * @throws AssertionError if a heartbeat was missed, or the watchdog has expired
+   */
+  public void assertNoMissed() {
+    if (!missed.isEmpty() || expired) {
+      throw new AssertionError("Watchdog heartbeats missed: " + missed + (expired ? ", and expired since the last one" : "") + ", " + this);
+    }
+  }
+
+  /**
+   * Asserts that no heartbeat was missed or late, and that the watchdog has not expired since the last one.
+   *
+   * @throws AssertionError if a heartbeat was missed or late, or the watchdog has expired
+   */
+  public void assertNoLate() {
+    assertNoMissed();
+    if (!late.isEmpty()) {
+      throw new AssertionError("Watchdog heartbeats late: " + late + ", " + this);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "SystemdWatchdogReport{heartbeats=" + heartbeats + ", late=" + late.size() + ", missed=" + missed.size() + ", maxInterval=" + maxInterval
+        + ", minMargin=" + minMargin + ", expired=" + expired + '}';
+  }
+}
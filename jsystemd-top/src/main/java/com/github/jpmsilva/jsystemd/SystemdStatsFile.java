@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Read only mapping of the statistics file of a jsystemd service, as written by {@code SystemdStats}.
+ *
+ * <p>Samples are read straight from the mapping under the sequence lock of the file, so reading never makes a system call, never blocks, and never
+ * involves the monitored process.
+ *
+ * @author Joao Silva
+ */
+final class SystemdStatsFile {
+
+  private static final long MAGIC = 0x544154535359534AL;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 64;
+  private static final int ENTRY_SIZE = 64;
+  private static final int NAME_SIZE = 48;
+  private static final int UNIT_SIZE = 8;
+  private static final int MAX_RETRIES = 100;
+  // the JVM records its start time after the process starts, and process start times are only known to about a second
+  private static final long START_TOLERANCE_MS = 2000;
+  private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  @NonNull
+  private final Path path;
+  @Nullable
+  private final Object fileKey;
+  @NonNull
+  private final MappedByteBuffer buffer;
+  private final int capacity;
+  @NonNull
+  private final String[] names;
+  private final long pid;
+  private final long start;
+  private final long period;
+
+  private SystemdStatsFile(@NonNull Path path, @Nullable Object fileKey, @NonNull MappedByteBuffer buffer) {
+    this.path = path;
+    this.fileKey = fileKey;
+    this.buffer = buffer;
+    this.capacity = (buffer.capacity() - HEADER_SIZE) / ENTRY_SIZE;
+    this.names = new String[capacity];
+    this.pid = buffer.getLong(16);
+    this.start = buffer.getLong(24);
+    this.period = buffer.getLong(48);
+  }
+
+  /**
+   * Maps the statistics file at the provided path.
+   *
+   * @param path the path of the statistics file
+   * @return the mapping, or <code>null</code> if the file is not a valid statistics file
+   * @throws IOException if the file cannot be read
+   */
+  static @Nullable SystemdStatsFile open(@NonNull Path path) throws IOException {
+    final Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path)) {
+      if (channel.size() < HEADER_SIZE) {
+        return null;
+      }
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    }
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    if ((long) LONGS.getAcquire(buffer, 0) != MAGIC || buffer.getInt(8) != VERSION) {
+      return null;
+    }
+    return new SystemdStatsFile(path, fileKey, buffer);
+  }
+
+  /**
+   * Checks if the file at the path is still the one mapped, rather than a new one created by a restarted service.
+   *
+   * @return <code>true</code> if the mapping is still current
+   */
+  boolean isCurrent() {
+    try {
+      Object current = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+      return fileKey != null && fileKey.equals(current);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads a consistent sample of all values.
+   *
+   * @return the sample, or <code>null</code> if the values kept changing while being read
+   */
+  @Nullable Sample sample() {
+    for (int retry = 0; retry < MAX_RETRIES; retry++) {
+      long before = (long) LONGS.getAcquire(buffer, 32);
+      if ((before & 1) != 0) {
+        Thread.onSpinWait();
+        continue;
+      }
+      int count = Math.min((int) INTS.getAcquire(buffer, 12), capacity);
+      long[] values = new long[count];
+      for (int i = 0; i < count; i++) {
+        values[i] = (long) LONGS.getOpaque(buffer, HEADER_SIZE + i * ENTRY_SIZE + NAME_SIZE + UNIT_SIZE);
+      }
+      final long updated = (long) LONGS.getOpaque(buffer, 40);
+      VarHandle.loadLoadFence();
+      if ((long) LONGS.getOpaque(buffer, 32) == before) {
+        Map<String, Long> sample = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+          sample.put(name(i), values[i]);
+        }
+        return new Sample(updated, sample);
+      }
+    }
+    return null;
+  }
+
+  private @NonNull String name(int index) {
+    // entries never change once visible
+    if (names[index] == null) {
+      byte[] bytes = new byte[NAME_SIZE];
+      buffer.get(HEADER_SIZE + index * ENTRY_SIZE, bytes);
+      int length = 0;
+      while (length < bytes.length && bytes[length] != 0) {
+        length++;
+      }
+      names[index] = new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+    return names[index];
+  }
+
+  /**
+   * Checks if the process that wrote the file is still running. Checked again on every call, as the process may exit while the file is mapped. A process
+   * with the same PID that started after the one that wrote the file reused its PID, and is not considered.
+   *
+   * @return <code>true</code> if the process is still running
+   */
+  boolean isAlive() {
+    Optional<ProcessHandle> process = ProcessHandle.of(pid);
+    if (process.isEmpty() || !process.get().isAlive()) {
+      return false;
+    }
+    Optional<Instant> started = process.get().info().startInstant();
+    return started.isEmpty() || started.get().toEpochMilli() <= start + START_TOLERANCE_MS;
+  }
+
+  @NonNull Path getPath() {
+    return path;
+  }
+
+  long getPid() {
+    return pid;
+  }
+
+  long getStart() {
+    return start;
+  }
+
+  long getPeriod() {
+    return period;
+  }
+
+  /**
+   * Consistent sample of the values of a statistics file.
+   */
+  static final class Sample {
+
+    final long updated;
+    @NonNull
+    final Map<String, Long> values;
+
+    Sample(long updated, @NonNull Map<String, Long> values) {
+      this.updated = updated;
+      this.values = values;
+    }
+
+    long get(@NonNull String name, long defaultValue) {
+      return values.getOrDefault(name, defaultValue);
+    }
+  }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.jpmsilva.jsystemd;
+
+import com.github.jpmsilva.jsystemd.SystemdStatsFile.Sample;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Terminal monitor of the statistics files published by the jsystemd services of a host.
+ *
+ * <p>Discovers every {@code jsystemd.stats} file in the runtime directories under {@code /run}, and shows a refreshing table with one line per service, so
+ * that the instance in trouble stands out. The files are read through read only mappings, so monitoring costs nothing to the services: no system call, no
+ * signal, no attach.
+ *
+ * <pre>
+ * java -jar jsystemd-top.jar [--interval SECONDS] [--sort COLUMN] [--once] [--root DIRECTORY]... [FILE]...
+ * </pre>
+ *
+ * <p>While running interactively, the table is sorted by pressing the first letter of a column ({@code u}nit, {@code h}eap, {@code g}c, {@code b}usy,
+ * {@code m}argin, {@code s}tate, {@code a}ge), {@code r} reverses the order, and {@code q} quits.
+ *
+ * @author Joao Silva
+ */
+public final class SystemdTop {
+
+  private static final String FILE_NAME = "jsystemd.stats";
+  private static final String[] STATES = {"-", "starting", "environment", "context", "loaded", "started", "ready"};
+  private static final String CLEAR = "\033[H\033[2J";
+
+  @NonNull
+  private final List<Path> roots;
+  @NonNull
+  private final List<Path> files;
+  @NonNull
+  private final Map<Path, Instance> instances = new LinkedHashMap<>();
+  @NonNull
+  private final Set<String> errors = new LinkedHashSet<>();
+  @NonNull
+  private Column sort = Column.UNIT;
+  private boolean reversed;
+
+  private SystemdTop(@NonNull List<Path> roots, @NonNull List<Path> files) {
+    this.roots = roots;
+    this.files = files;
+  }
+
+  /**
+   * Runs the monitor.
+   *
+   * @param args the command line arguments
+   * @throws Exception if the monitor fails
+   */
+  public static void main(String[] args) throws Exception {
+    List<Path> roots = new ArrayList<>();
+    List<Path> files = new ArrayList<>();
+    long interval = 2;
+    boolean once = false;
+    Column sort = Column.UNIT;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--interval" -> interval = Long.parseLong(args[++i]);
+        case "--sort" -> sort = Column.valueOf(args[++i].toUpperCase(Locale.ROOT));
+        case "--once" -> once = true;
+        case "--root" -> roots.add(Path.of(args[++i]));
+        case "--help" -> {
+          System.out.println("Usage: jsystemd-top [--interval SECONDS] [--sort unit|heap|gc|busy|margin|state|age] [--once] [--root DIRECTORY]... [FILE]...");
+          return;
+        }
+        default -> files.add(Path.of(args[i]));
+      }
+    }
+    if (roots.isEmpty() && files.isEmpty()) {
+      roots.add(Path.of("/run"));
+    }
+
+    SystemdTop top = new SystemdTop(roots, files);
+    top.sort = sort;
+    if (once || System.console() == null) {
+      // rates such as the GC overhead need two samples
+      top.refresh();
+      Thread.sleep(TimeUnit.SECONDS.toMillis(1));
+      top.refresh();
+      System.out.print(top.render());
+    } else {
+      top.run(TimeUnit.SECONDS.toMillis(interval));
+    }
+  }
+
+  private void run(long intervalMillis) throws IOException, InterruptedException {
+    PrintStream out = System.out;
+    stty("-icanon -echo min 0");
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> stty("sane")));
+    try {
+      while (true) {
+        refresh();
+        out.print(CLEAR + render() + "Sort: " + sort.name().toLowerCase(Locale.ROOT) + (reversed ? " (reversed)" : "")
+            + " - [u]nit [h]eap [g]c [b]usy [m]argin [s]tate [a]ge [r]everse [q]uit");
+        out.flush();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        while (System.nanoTime() < deadline) {
+          if (System.in.available() > 0) {
+            int key = System.in.read();
+            if (key == 'q') {
+              out.println();
+              return;
+            }
+            if (key(key)) {
+              break;
+            }
+          }
+          Thread.sleep(50);
+        }
+      }
+    } finally {
+      stty("sane");
+    }
+  }
+
+  private boolean key(int key) {
+    if (key == 'r') {
+      reversed = !reversed;
+      return true;
+    }
+    for (Column column : Column.values()) {
+      if (column.key == key) {
+        reversed = column == sort && !reversed;
+        sort = column;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean stty(@NonNull String settings) {
+    try {
+      return new ProcessBuilder("sh", "-c", "stty " + settings + " < /dev/tty").inheritIO().start().waitFor() == 0;
+    } catch (IOException e) {
+      // not a terminal, keys are not available
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void refresh() {
+    errors.clear();
+    Set<Path> paths = new LinkedHashSet<>(files);
+    for (Path root : roots) {
+      try (DirectoryStream<Path> directories = Files.newDirectoryStream(root, Files::isDirectory)) {
+        for (Path directory : directories) {
+          Path file = directory.resolve(FILE_NAME);
+          if (Files.isReadable(file)) {
+            paths.add(file);
+          }
+        }
+      } catch (IOException e) {
+        errors.add("Cannot read " + root + ": " + e);
+      }
+    }
+    instances.keySet().retainAll(paths);
+    for (Path path : paths) {
+      Instance instance = instances.get(path);
+      if (instance == null || !instance.file.isCurrent()) {
+        instance = Instance.open(path);
+        if (instance == null) {
+          instances.remove(path);
+          continue;
+        }
+        instances.put(path, instance);
+      }
+      instance.sample();
+    }
+  }
+
+  private @NonNull String render() {
+    List<Instance> rows = new ArrayList<>(instances.values());
+    Comparator<Instance> comparator = sort.comparator.thenComparing(t -> t.name);
+    rows.sort(reversed ? comparator.reversed() : comparator);
+    StringBuilder table = new StringBuilder();
+    String format = "%-24s %8s %17s %6s %9s %-8s %8s %-11s %6s%n";
+    table.append(String.format(format, "UNIT", "PID", "HEAP", "GC%", "BUSY", "HEALTH", "MARGIN", "STATE", "AGE"));
+    long now = System.currentTimeMillis();
+    for (Instance row : rows) {
+      table.append(String.format(format, truncate(row.name, 24), row.file.getPid(), row.heap(), row.gc(), row.busy(), row.health(now), row.margin(),
+          row.state(), row.age(now)));
+    }
+    if (rows.isEmpty()) {
+      table.append("No jsystemd statistics files found").append(System.lineSeparator());
+    }
+    for (String error : errors) {
+      table.append(error).append(System.lineSeparator());
+    }
+    return table.toString();
+  }
+
+  private static @NonNull String truncate(@NonNull String value, int length) {
+    return value.length() <= length ? value : value.substring(0, length - 1) + "~";
+  }
+
+  private static @NonNull String bytes(long bytes) {
+    if (bytes < 0) {
+      return "-";
+    }
+    String[] units = {"B", "K", "M", "G", "T"};
+    double value = bytes;
+    int unit = 0;
+    while (value >= 1024 && unit < units.length - 1) {
+      value /= 1024;
+      unit++;
+    }
+    return value >= 10 || unit == 0 ? String.format("%.0f%s", value, units[unit]) : String.format("%.1f%s", value, units[unit]);
+  }
+
+  private enum Column {
+    UNIT('u', Comparator.comparing(t -> t.name)),
+    HEAP('h', Comparator.comparingDouble(Instance::heapRatio).reversed()),
+    GC('g', Comparator.comparingDouble(Instance::gcRatio).reversed()),
+    BUSY('b', Comparator.comparingDouble(Instance::busyRatio).reversed()),
+    MARGIN('m', Comparator.comparingLong(t -> t.value("systemd.watchdog.margin", Long.MAX_VALUE))),
+    STATE('s', Comparator.comparingLong(t -> t.value("application.state", 0))),
+    AGE('a', Comparator.comparingLong((Instance t) -> t.current == null ? Long.MIN_VALUE : t.current.updated));
+
+    private final char key;
+    @NonNull
+    private final Comparator<Instance> comparator;
+
+    Column(char key, @NonNull Comparator<Instance> comparator) {
+      this.key = key;
+      this.comparator = comparator;
+    }
+  }
+
+  private static final class Instance {
+
+    @NonNull
+    private final SystemdStatsFile file;
+    @NonNull
+    private final String name;
+    private boolean alive;
+    @Nullable
+    private Sample previous;
+    @Nullable
+    private Sample current;
+
+    private Instance(@NonNull SystemdStatsFile file) {
+      this.file = file;
+      Path directory = file.getPath().getParent();
+      this.name = directory == null ? file.getPath().toString() : String.valueOf(directory.getFileName());
+    }
+
+    private static @Nullable Instance open(@NonNull Path path) {
+      try {
+        SystemdStatsFile file = SystemdStatsFile.open(path);
+        return file == null ? null : new Instance(file);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    private void sample() {
+      alive = file.isAlive();
+      Sample sample = file.sample();
+      if (sample != null && (current == null || sample.updated != current.updated)) {
+        previous = current;
+        current = sample;
+      }
+    }
+
+    private long value(@NonNull String name, long defaultValue) {
+      return current == null ? defaultValue : current.get(name, defaultValue);
+    }
+
+    private double heapRatio() {
+      long max = value("jvm.heap.max", -1);
+      return max > 0 ? (double) value("jvm.heap.used", 0) / max : 0;
+    }
+
+    private double gcRatio() {
+      if (previous == null || current == null || current.updated <= previous.updated) {
+        return 0;
+      }
+      return (double) (current.get("jvm.gc.time", 0) - previous.get("jvm.gc.time", 0)) / (current.updated - previous.updated);
+    }
+
+    private double busyRatio() {
+      long threads = value("tomcat.threads.current", 0);
+      return threads > 0 ? (double) value("tomcat.threads.busy", 0) / threads : 0;
+    }
+
+    private @NonNull String heap() {
+      long max = value("jvm.heap.max", -1);
+      if (max <= 0) {
+        return bytes(value("jvm.heap.used", -1));
+      }
+      return String.format("%s/%s %3.0f%%", bytes(value("jvm.heap.used", -1)), bytes(max), heapRatio() * 100);
+    }
+
+    private @NonNull String gc() {
+      return previous == null ? "-" : String.format("%.1f", gcRatio() * 100);
+    }
+
+    private @NonNull String busy() {
+      long threads = value("tomcat.threads.current", -1);
+      return threads < 0 ? "-" : value("tomcat.threads.busy", 0) + "/" + threads;
+    }
+
+    private @NonNull String health(long now) {
+      if (!alive) {
+        return "dead";
+      }
+      if (current == null) {
+        return "?";
+      }
+      if (now - current.updated > Math.max(file.getPeriod() * 5, 5000)) {
+        return "stalled";
+      }
+      return current.get("systemd.healthy", 1) == 1 ? "ok" : "UNHEALTHY";
+    }
+
+    private @NonNull String margin() {
+      long margin = value("systemd.watchdog.margin", 0);
+      return margin == 0 ? "-" : String.format("%.1fs", margin / 1e9);
+    }
+
+    private @NonNull String state() {
+      if (value("systemd.ready", 0) == 1) {
+        return "ready";
+      }
+      long state = value("application.state", 0);
+      return state >= 0 && state < STATES.length ? STATES[(int) state] : Long.toString(state);
+    }
+
+    private @NonNull String age(long now) {
+      return current == null ? "-" : String.format("%.1fs", (now - current.updated) / 1e3);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Joao Silva
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jpmsilva.jsystemd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.jpmsilva.jsystemd.SystemdStatsFile.Sample;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SystemdStatsFileTests {
+
+  @TempDir
+  Path directory;
+
+  private final SystemdMetrics metrics = new SystemdMetrics();
+  private SystemdStats stats;
+  private volatile long generation;
+
+  @AfterEach
+  void close() throws Exception {
+    if (stats != null) {
+      stats.close();
+    }
+  }
+
+  private SystemdStatsFile start() throws IOException {
+    // a long period, so that only the explicit updates of the tests run after the first one
+    stats = SystemdStats.builder().path(directory.resolve(SystemdStats.FILE_NAME)).metrics(metrics).period(Duration.ofHours(1)).build();
+    stats.update();
+    SystemdStatsFile file = SystemdStatsFile.open(stats.getPath());
+    assertNotNull(file);
+    return file;
+  }
+
+  // the statistics file mapped for writing, to play the part of the writer
+  private MappedByteBuffer writable() throws IOException {
+    try (FileChannel channel = FileChannel.open(stats.getPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, channel.size());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      return buffer;
+    }
+  }
+
+  @Test
+  void readsTheFileWrittenBySystemdStats() throws IOException {
+    metrics.gauge("test.answer", "count", () -> 42);
+    SystemdStatsFile file = start();
+
+    assertEquals(ProcessHandle.current().pid(), file.getPid());
+    assertEquals(Duration.ofHours(1).toMillis(), file.getPeriod());
+    assertTrue(file.isCurrent());
+    assertTrue(file.isAlive());
+    Sample sample = file.sample();
+    assertNotNull(sample);
+    assertEquals(42, sample.get("test.answer", -1));
+    assertEquals(metrics.getGauges().size(), sample.values.size());
+    assertTrue(sample.updated > 0);
+  }
+
+  @Test
+  void sampleIsNotReadWhileAnUpdateIsInProgress() throws IOException {
+    SystemdStatsFile file = start();
+    MappedByteBuffer buffer = writable();
+    long sequence = buffer.getLong(SystemdStats.SEQUENCE);
+
+    buffer.putLong(SystemdStats.SEQUENCE, sequence + 1);
+    assertNull(file.sample());
+    buffer.putLong(SystemdStats.SEQUENCE, sequence + 2);
+    assertNotNull(file.sample());
+  }
+
+  @Test
+  void samplesAreNeverTornByConcurrentUpdates() throws Exception {
+    // every gauge returns the generation of the update, so a consistent sample has the same value in all of them
+    for (int i = 0; i < 16; i++) {
+      metrics.gauge("test.generation" + i, "count", () -> generation);
+    }
+    SystemdStatsFile file = start();
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread writer = new Thread(() -> {
+      while (running.get()) {
+        generation++;
+        stats.update();
+      }
+    });
+    writer.start();
+    try {
+      int consistent = 0;
+      long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+      while (System.nanoTime() < deadline) {
+        Sample sample = file.sample();
+        if (sample == null) {
+          continue;
+        }
+        consistent++;
+        long first = sample.get("test.generation0", -1);
+        for (int i = 1; i < 16; i++) {
+          assertEquals(first, sample.get("test.generation" + i, -1), "torn sample at update " + sample.updated);
+        }
+      }
+      assertTrue(consistent > 0);
+    } finally {
+      running.set(false);
+      writer.join();
+    }
+  }
+
+  @Test
+  void fileOfAnExitedProcessIsNoLongerAlive() throws Exception {
+    Process process = new ProcessBuilder("sleep", "60").start();
+    try {
+      SystemdStatsFile file = start();
+      MappedByteBuffer buffer = writable();
+      buffer.putLong(SystemdStats.PID, process.pid());
+      buffer.putLong(SystemdStats.START, process.info().startInstant().orElseThrow().toEpochMilli());
+      file = SystemdStatsFile.open(stats.getPath());
+      assertNotNull(file);
+      assertTrue(file.isAlive());
+
+      process.destroy();
+      process.waitFor();
+      assertFalse(file.isAlive());
+    } finally {
+      process.destroyForcibly();
+    }
+  }
+
+  @Test
+  void processStartedAfterTheFileReusedItsPid() throws IOException {
+    SystemdStatsFile file = start();
+    MappedByteBuffer buffer = writable();
+    buffer.putLong(SystemdStats.START, System.currentTimeMillis() - Duration.ofDays(1).toMillis());
+
+    file = SystemdStatsFile.open(stats.getPath());
+    assertNotNull(file);
+    assertFalse(file.isAlive());
+  }
+
+  @Test
+  void recreatedFileIsNoLongerCurrent() throws Exception {
+    SystemdStatsFile file = start();
+    stats.close();
+    stats = SystemdStats.builder().path(directory.resolve(SystemdStats.FILE_NAME)).metrics(metrics).period(Duration.ofHours(1)).build();
+
+    assertFalse(file.isCurrent());
+  }
+}